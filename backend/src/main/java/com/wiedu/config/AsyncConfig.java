@@ -0,0 +1,84 @@
+package com.wiedu.config;
+
+import com.wiedu.service.email.EmailProperties;
+import com.wiedu.service.gallery.GalleryUploadProperties;
+import com.wiedu.service.image.ImageProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 설정
+ * 작업 종류별로 별도 스레드 풀을 두어 서로의 지연이 전파되지 않도록 함
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 평판 스냅샷 재계산용 (ReputationRebuilder)
+     * 큐가 차면 거절 (ReputationRebuilder가 접수 실패를 무시하고 다음 조회 때 다시 접수)
+     */
+    @Bean(name = "reputationExecutor")
+    public ThreadPoolTaskExecutor reputationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("reputation-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이메일 대기열 발송용 (EmailDispatcher.wakeUp, EmailDeliveryWorker)
+     * 워커 수 + 선점 스레드 1개, 큐가 차면 거절하고 선점 만료 후 다시 발송
+     */
+    @Bean(name = "emailExecutor")
+    public Executor emailExecutor(EmailProperties emailProperties) {
+        int threads = emailProperties.getOutbox().getWorkers() + 1;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("email-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 이미지 썸네일 생성용 (ImageProcessingService)
+     * 디코딩 메모리를 제한하기 위해 고정 크기, 큐가 차면 거절 (요청 스레드에서 대신 실행하지 않음)
+     */
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor(ImageProperties imageProperties) {
+        ImageProperties.Processing processing = imageProperties.getProcessing();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processing.getWorkers());
+        executor.setMaxPoolSize(processing.getWorkers());
+        executor.setQueueCapacity(processing.getQueueCapacity());
+        executor.setThreadNamePrefix("image-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 갤러리 일괄 업로드 파일 저장용 (GalleryUploadStorage)
+     * 큐가 차면 요청 스레드에서 직접 저장 (요청 처리의 일부라 거절하지 않음)
+     */
+    @Bean(name = "galleryUploadExecutor")
+    public ThreadPoolTaskExecutor galleryUploadExecutor(GalleryUploadProperties galleryUploadProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(galleryUploadProperties.getParallelism());
+        executor.setMaxPoolSize(galleryUploadProperties.getParallelism());
+        executor.setQueueCapacity(galleryUploadProperties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("gallery-upload-");
+        executor.initialize();
+        return executor;
+    }
+}
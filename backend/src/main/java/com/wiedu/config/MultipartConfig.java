@@ -0,0 +1,28 @@
+package com.wiedu.config;
+
+import com.wiedu.service.gallery.GalleryUploadProperties;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서블릿 multipart 설정
+ * Tomcat의 요청 크기 제한은 서블릿 단위라 경로별로 나눌 수 없으므로,
+ * 서블릿에는 갤러리 일괄 업로드 한도(gallery.upload.max-request-size)를 두고
+ * 나머지 경로는 MultipartLimitFilter가 파싱 전에 spring.servlet.multipart.max-request-size로 제한
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties,
+                                                         GalleryUploadProperties galleryUploadProperties) {
+        MultipartConfigElement defaults = multipartProperties.createMultipartConfig();
+        long maxRequestSize = defaults.getMaxRequestSize() < 0
+                ? defaults.getMaxRequestSize()
+                : Math.max(defaults.getMaxRequestSize(), galleryUploadProperties.getMaxRequestSize().toBytes());
+        return new MultipartConfigElement(defaults.getLocation(), defaults.getMaxFileSize(),
+                maxRequestSize, defaults.getFileSizeThreshold());
+    }
+}
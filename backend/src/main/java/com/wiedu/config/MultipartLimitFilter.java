@@ -0,0 +1,86 @@
+package com.wiedu.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.exception.ErrorResponse;
+import com.wiedu.service.gallery.GalleryUploadProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * multipart 요청 크기 제한 필터 (본문을 읽기 전, 모든 필터 중 가장 먼저 동작)
+ * - POST /api/studies/{studyId}/gallery/photos/batch: gallery.upload.max-request-size
+ * - 그 외 multipart 요청: spring.servlet.multipart.max-request-size
+ * Content-Length가 한도를 넘으면 413, 길이를 알 수 없으면(chunked) 갤러리 일괄 업로드 외에는 411
+ * (서블릿 한도는 일괄 업로드 기준이라 chunked 요청을 그대로 받으면 다른 경로도 그만큼 받게 됨, MultipartConfig)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class MultipartLimitFilter extends OncePerRequestFilter {
+
+    private static final PathPattern GALLERY_BATCH_UPLOAD =
+            PathPatternParser.defaultInstance.parse("/api/studies/{studyId}/gallery/photos/batch");
+
+    private final MultipartProperties multipartProperties;
+    private final GalleryUploadProperties galleryUploadProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null
+                || !contentType.toLowerCase(Locale.ROOT).startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean galleryBatch = HttpMethod.POST.matches(request.getMethod())
+                && GALLERY_BATCH_UPLOAD.matches(PathContainer.parsePath(request.getRequestURI()));
+        long maxRequestSize = galleryBatch
+                ? galleryUploadProperties.getMaxRequestSize().toBytes()
+                : multipartProperties.getMaxRequestSize().toBytes();
+        long contentLength = request.getContentLengthLong();
+
+        if (contentLength < 0 && !galleryBatch && maxRequestSize >= 0) {
+            reject(request, response, ErrorCode.UPLOAD_LENGTH_REQUIRED, contentLength);
+            return;
+        }
+        if (maxRequestSize >= 0 && contentLength > maxRequestSize) {
+            reject(request, response, ErrorCode.UPLOAD_REQUEST_TOO_LARGE, contentLength);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        ErrorCode errorCode, long contentLength) throws IOException {
+        log.warn("Multipart request rejected: uri={}, contentLength={}, code={}",
+                request.getRequestURI(), contentLength, errorCode.getCode());
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ErrorResponse.of(errorCode.getCode(), errorCode.getMessage())));
+    }
+}
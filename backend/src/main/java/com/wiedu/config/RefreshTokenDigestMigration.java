@@ -0,0 +1,47 @@
+package com.wiedu.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * REFRESH_TOKENS 원문 컬럼 → SHA-256 다이제스트 컬럼 이관
+ * ddl-auto=update는 컬럼을 추가만 하므로, 기존 token 컬럼이 남아 있으면
+ * 다이제스트를 채운 뒤 원문 컬럼을 삭제하고 고유 인덱스를 생성
+ *
+ * 모든 빈(스키마 갱신 포함) 생성 직후, 웹 서버가 요청을 받기 전에 실행
+ * (이관 중인 행으로 토큰 재발급 요청이 처리되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenDigestMigration implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer legacyColumn = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens' AND column_name = 'token'",
+                Integer.class);
+        if (legacyColumn == null || legacyColumn == 0) {
+            return;
+        }
+
+        log.info("리프레시 토큰 다이제스트 이관을 시작합니다...");
+        int updated = jdbcTemplate.update("UPDATE refresh_tokens SET token_hash = SHA2(token, 256)");
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens DROP COLUMN token");
+
+        Integer hashIndex = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'refresh_tokens' AND index_name = 'uk_refresh_token_hash'",
+                Integer.class);
+        if (hashIndex == null || hashIndex == 0) {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX uk_refresh_token_hash ON refresh_tokens (token_hash)");
+        }
+        log.info("리프레시 토큰 다이제스트 이관 완료: {}건", updated);
+    }
+}
@@ -0,0 +1,27 @@
+package com.wiedu.config;
+
+import com.wiedu.service.user.ReputationRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평판 스냅샷 전체 재계산 트리거
+ * reputation.rebuild-on-startup=true 로 기동하면 백그라운드에서 전체 사용자 스냅샷을 원천 테이블 기준으로 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reputation.rebuild-on-startup", havingValue = "true")
+public class ReputationRebuildInitializer implements CommandLineRunner {
+
+    private final ReputationRebuilder reputationRebuilder;
+
+    @Override
+    public void run(String... args) {
+        log.info("평판 스냅샷 전체 재계산을 시작합니다 (백그라운드)");
+        reputationRebuilder.rebuildAll();
+    }
+}
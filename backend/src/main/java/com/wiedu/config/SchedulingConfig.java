@@ -0,0 +1,39 @@
+package com.wiedu.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업 설정 (@Scheduled)
+ * - taskScheduler: 기본 스케줄러 (spring.task.scheduling.*), 짧고 자주 도는 작업
+ *   (OAuth 대기 응답 500ms, 이메일 대기열 폴링 등)
+ * - maintenanceScheduler: 청크 사이 대기하거나 오래 걸리는 정리 작업
+ *   (@Scheduled(scheduler = MAINTENANCE_SCHEDULER)), 기본 스케줄러 스레드를 점유하지 않도록 분리
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String MAINTENANCE_SCHEDULER = "maintenanceScheduler";
+
+    /**
+     * 기본 스케줄러 (스케줄러 빈을 직접 정의하면 자동 설정이 빠지므로 같은 설정으로 생성)
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = MAINTENANCE_SCHEDULER)
+    public ThreadPoolTaskScheduler maintenanceScheduler(
+            @Value("${scheduling.maintenance.pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("maintenance-");
+        return scheduler;
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.net.URLEncoder;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -27,6 +29,9 @@ public class OAuthController {
     private final OAuthCallbackRenderer callbackRenderer;
     private final OAuthStateParser stateParser;
 
+    // 서블릿 비동기 요청 기본 타임아웃(30초)보다 짧게
+    private static final int MAX_POLL_WAIT_SECONDS = 25;
+
     /**
      * 카카오 인가 URL 생성
      * 클라이언트에서 API Key를 노출하지 않고 인가 URL을 받아감
@@ -50,17 +55,18 @@ public class OAuthController {
     }
 
     /**
-     * OAuth 세션 토큰 폴링
-     * 프론트엔드에서 세션 ID로 토큰을 조회
+     * OAuth 세션 토큰 폴링 (롱 폴링)
+     * 토큰이 준비될 때까지 최대 waitSeconds초 응답을 보류, 그때까지 없으면 202(pending)
      */
     @GetMapping("/kakao/poll/{sessionId}")
-    public ResponseEntity<?> pollKakaoSession(@PathVariable String sessionId) {
+    public CompletableFuture<ResponseEntity<?>> pollKakaoSession(
+            @PathVariable String sessionId,
+            @RequestParam(defaultValue = "25") int waitSeconds) {
         log.debug("Polling for session: {}", sessionId);
-        TokenResponse tokens = oAuthSessionService.retrieveTokens(sessionId);
-        if (tokens == null) {
-            return ResponseEntity.status(202).body(java.util.Map.of("status", "pending"));
-        }
-        return ResponseEntity.ok(tokens);
+        Duration wait = Duration.ofSeconds(Math.min(Math.max(waitSeconds, 0), MAX_POLL_WAIT_SECONDS));
+        return oAuthSessionService.awaitTokens(sessionId, wait)
+                .thenApply(tokens -> tokens.<ResponseEntity<?>>map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.status(202).body(java.util.Map.of("status", "pending"))));
     }
 
     /**
@@ -1,6 +1,12 @@
 package com.wiedu.controller.file;
 
+import com.wiedu.dto.file.DirectUploadRequest;
+import com.wiedu.service.file.DirectUpload;
 import com.wiedu.service.file.FileStorageService;
+import com.wiedu.service.image.ImageContext;
+import com.wiedu.service.image.ImageProcessingListener;
+import com.wiedu.service.image.ImageProcessingService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,6 +29,7 @@ import java.util.Map;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final ImageProcessingService imageProcessingService;
 
     /**
      * 파일 업로드
@@ -46,6 +53,13 @@ public class FileController {
             // 파일 저장 (FileStorageService에서 검증 및 저장 처리)
             String fileUrl = fileStorageService.store(file, subdirectory);
 
+            // 썸네일은 응답 후 비동기로 생성
+            // 커버/프로필은 스터디/사용자에 연결될 때 변형과 함께 생성 (AttachedImageProcessing)
+            ImageContext context = ImageContext.fromType(type);
+            if (!context.isProcessedOnAttach()) {
+                imageProcessingService.submit(fileUrl, context, ImageProcessingListener.NONE);
+            }
+
             log.info("File uploaded successfully - url: {}", fileUrl);
 
             return ResponseEntity.status(HttpStatus.CREATED)
@@ -63,15 +77,26 @@ public class FileController {
         }
     }
 
+    /**
+     * 직접 업로드 URL 발급 (파일 내용이 서버를 거치지 않고 저장소로 바로 전송)
+     * 클라이언트는 uploadUrl에 headers를 포함해 PUT한 뒤 fileUrl을 업로드 결과처럼 사용
+     * (커버/프로필 변형은 스터디/사용자에 연결될 때 생성)
+     * 직접 업로드를 지원하지 않는 저장소(local)는 501 - /upload 사용
+     */
+    @PostMapping("/direct-uploads")
+    public ResponseEntity<DirectUpload> createDirectUpload(@Valid @RequestBody DirectUploadRequest request) {
+        String type = request.type() == null ? "general" : request.type();
+        DirectUpload upload = fileStorageService.createDirectUpload(
+                getSubdirectory(type), request.fileName(), request.contentType(), request.fileSize());
+
+        log.info("Direct upload issued - type: {}, size: {}, url: {}", type, request.fileSize(), upload.fileUrl());
+        return ResponseEntity.status(HttpStatus.CREATED).body(upload);
+    }
+
     /**
      * 타입에 따른 저장 디렉토리 반환
      */
     private String getSubdirectory(String type) {
-        return switch (type.toLowerCase()) {
-            case "cover" -> "covers";
-            case "profile" -> "profile";
-            case "gallery" -> "gallery";
-            default -> "general";
-        };
+        return ImageContext.fromType(type).getSubdirectory();
     }
 }
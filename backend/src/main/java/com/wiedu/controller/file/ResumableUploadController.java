@@ -0,0 +1,94 @@
+package com.wiedu.controller.file;
+
+import com.wiedu.dto.file.ResumableUploadCreateRequest;
+import com.wiedu.dto.file.ResumableUploadResponse;
+import com.wiedu.security.SecurityUtils;
+import com.wiedu.service.file.ResumableUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * 이어 올리기 업로드 (tus 방식, 모바일 네트워크 끊김 대비)
+ * 1. POST /api/files/uploads - 파일 정보 등록, Location으로 업로드 주소 반환
+ * 2. PATCH /api/files/uploads/{id} - Upload-Offset 헤더 + application/offset+octet-stream 본문으로 청크 전송
+ * 3. 끊기면 GET/HEAD로 Upload-Offset 확인 후 그 위치부터 다시 PATCH
+ * 4. 마지막 청크 응답의 fileUrl을 /api/files/upload 결과처럼 사용
+ */
+@RestController
+@RequestMapping("/api/files/uploads")
+@RequiredArgsConstructor
+public class ResumableUploadController {
+
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String CHUNK_CONTENT_TYPE = "application/offset+octet-stream";
+
+    private final ResumableUploadService resumableUploadService;
+
+    /**
+     * 업로드 생성
+     */
+    @PostMapping
+    public ResponseEntity<ResumableUploadResponse> createUpload(
+            @Valid @RequestBody ResumableUploadCreateRequest request) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        ResumableUploadResponse upload = resumableUploadService.create(userId, request);
+        return ResponseEntity.created(URI.create("/api/files/uploads/" + upload.uploadId()))
+                .headers(progressHeaders(upload))
+                .body(upload);
+    }
+
+    /**
+     * 진행 상태 조회 (HEAD 요청은 본문 없이 헤더만)
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ResumableUploadResponse> getProgress(@PathVariable Long uploadId) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        ResumableUploadResponse upload = resumableUploadService.getProgress(uploadId, userId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .headers(progressHeaders(upload))
+                .body(upload);
+    }
+
+    /**
+     * 청크 전송 (본문을 임시 파일에 바로 이어 씀)
+     */
+    @PatchMapping(value = "/{uploadId}", consumes = CHUNK_CONTENT_TYPE)
+    public ResponseEntity<ResumableUploadResponse> appendChunk(
+            @PathVariable Long uploadId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        ResumableUploadResponse upload = resumableUploadService.appendChunk(
+                uploadId, userId, offset, request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok()
+                .headers(progressHeaders(upload))
+                .body(upload);
+    }
+
+    /**
+     * 업로드 취소
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> cancelUpload(@PathVariable Long uploadId) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        resumableUploadService.cancel(uploadId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private HttpHeaders progressHeaders(ResumableUploadResponse upload) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(UPLOAD_OFFSET, String.valueOf(upload.offset()));
+        headers.set(UPLOAD_LENGTH, String.valueOf(upload.length()));
+        return headers;
+    }
+}
@@ -1,5 +1,6 @@
 package com.wiedu.controller.gallery;
 
+import com.wiedu.dto.gallery.GalleryBatchUploadResponse;
 import com.wiedu.dto.gallery.GalleryPhotoResponse;
 import com.wiedu.dto.gallery.GalleryPhotoUpdateRequest;
 import com.wiedu.security.SecurityUtils;
@@ -12,9 +13,11 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -61,6 +64,23 @@ public class GalleryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(photo);
     }
 
+    /**
+     * 갤러리 사진 일괄 업로드 (multipart/form-data, files 파트 여러 개)
+     * 파일별 결과를 요청 순서대로 반환 (하나라도 저장되면 201)
+     */
+    @PostMapping(value = "/photos/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<GalleryBatchUploadResponse> uploadPhotos(
+            @PathVariable Long studyId,
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestParam MultiValueMap<String, String> form) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        // captions는 파일 순서대로 반복 (List<String>으로 받으면 값이 하나일 때 쉼표로 나뉨)
+        List<String> captions = form.get("captions");
+        GalleryBatchUploadResponse response = galleryService.uploadPhotos(studyId, userId, files, captions);
+        HttpStatus status = response.uploaded() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+
     /**
      * 갤러리 사진 캡션 수정
      */
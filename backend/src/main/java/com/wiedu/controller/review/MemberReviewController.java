@@ -1,7 +1,9 @@
 package com.wiedu.controller.review;
 
+import com.wiedu.dto.common.CursorPage;
 import com.wiedu.dto.review.CreateMemberReviewRequest;
 import com.wiedu.dto.review.StudyMemberReviewResponse;
+import com.wiedu.dto.review.StudyMemberReviewsResponse;
 import com.wiedu.dto.review.StudyMemberToReviewResponse;
 import com.wiedu.security.SecurityUtils;
 import com.wiedu.service.review.MemberReviewService;
@@ -49,9 +51,11 @@ public class MemberReviewController {
      * GET /api/users/{userId}/member-reviews
      */
     @GetMapping("/api/users/{userId}/member-reviews")
-    public ResponseEntity<List<StudyMemberReviewResponse>> getMemberReviews(
-            @PathVariable Long userId) {
-        List<StudyMemberReviewResponse> reviews = memberReviewService.getMemberReviews(userId);
+    public ResponseEntity<StudyMemberReviewsResponse> getMemberReviews(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        StudyMemberReviewsResponse reviews = memberReviewService.getMemberReviews(userId, cursor, size);
         return ResponseEntity.ok(reviews);
     }
 
@@ -60,8 +64,10 @@ public class MemberReviewController {
      * GET /api/users/me/member-reviews/written
      */
     @GetMapping("/api/users/me/member-reviews/written")
-    public ResponseEntity<List<StudyMemberReviewResponse>> getMemberReviewsWrittenByMe() {
+    public ResponseEntity<CursorPage<StudyMemberReviewResponse>> getMemberReviewsWrittenByMe(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = SecurityUtils.getCurrentUserId();
-        return ResponseEntity.ok(memberReviewService.getReviewsWrittenByMe(userId));
+        return ResponseEntity.ok(memberReviewService.getReviewsWrittenByMe(userId, cursor, size));
     }
 }
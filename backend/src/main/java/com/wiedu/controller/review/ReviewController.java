@@ -1,5 +1,6 @@
 package com.wiedu.controller.review;
 
+import com.wiedu.dto.common.CursorPage;
 import com.wiedu.dto.review.CreateReviewRequest;
 import com.wiedu.dto.review.StudyLeaderReviewResponse;
 import com.wiedu.dto.review.StudyLeaderReviewsResponse;
@@ -18,15 +19,17 @@ public class ReviewController {
     private final ReviewService reviewService;
 
     /**
-     * 스터디장이 받은 리뷰 목록 조회
-     * GET /api/users/{userId}/reviews
+     * 스터디장이 받은 리뷰 목록 조회 (집계 + 커서 기반 페이지)
+     * GET /api/users/{userId}/reviews?cursor={nextCursor}&size=20
      *
      * 공개 API - 비로그인 사용자도 조회 가능 (스터디 가입 전 리더 평판 확인용)
      */
     @GetMapping("/api/users/{userId}/reviews")
     public ResponseEntity<StudyLeaderReviewsResponse> getLeaderReviews(
-            @PathVariable Long userId) {
-        StudyLeaderReviewsResponse response = reviewService.getLeaderReviews(userId);
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        StudyLeaderReviewsResponse response = reviewService.getLeaderReviews(userId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -48,9 +51,11 @@ public class ReviewController {
      * GET /api/users/me/reviews/written
      */
     @GetMapping("/api/users/me/reviews/written")
-    public ResponseEntity<java.util.List<StudyLeaderReviewResponse>> getLeaderReviewsWrittenByMe() {
+    public ResponseEntity<CursorPage<StudyLeaderReviewResponse>> getLeaderReviewsWrittenByMe(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = SecurityUtils.getCurrentUserId();
-        return ResponseEntity.ok(reviewService.getReviewsWrittenByMe(userId));
+        return ResponseEntity.ok(reviewService.getReviewsWrittenByMe(userId, cursor, size));
     }
 
     /**
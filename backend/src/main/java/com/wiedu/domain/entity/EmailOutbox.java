@@ -0,0 +1,91 @@
+package com.wiedu.domain.entity;
+
+import com.wiedu.domain.enums.EmailOutboxStatus;
+import com.wiedu.domain.enums.EmailTemplate;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열 (outbox)
+ * - 요청 트랜잭션과 함께 저장되고, EmailDispatcher가 별도 워커에서 발송
+ * - SENDING 상태의 nextAttemptAt은 선점 만료 시간 (워커가 중간에 죽으면 만료 후 다시 가져감)
+ */
+@Entity
+@Table(name = "EMAIL_OUTBOX", indexes = {
+    @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at")
+})
+@Comment("이메일 발송 대기열")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    @Comment("수신자 이메일")
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    @Comment("템플릿 종류")
+    private EmailTemplate template;
+
+    @Column(nullable = false)
+    @Comment("템플릿 인자 (인증 코드 등)")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Comment("발송 상태")
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    @Comment("발송 시도 횟수")
+    private int attempts;
+
+    @Column(nullable = false)
+    @Comment("다음 발송 시도 시간 (SENDING: 선점 만료 시간)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    @Comment("마지막 실패 사유")
+    private String lastError;
+
+    @Comment("발송 완료 시간")
+    private LocalDateTime sentAt;
+
+    public EmailOutbox(String recipient, EmailTemplate template, String payload) {
+        this.recipient = recipient;
+        this.template = template;
+        this.payload = payload;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 기록: maxAttempts에 도달하면 FAILED, 아니면 nextAttemptAt에 재시도
+     */
+    public void markFailed(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            return;
+        }
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
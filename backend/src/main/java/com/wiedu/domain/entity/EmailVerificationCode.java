@@ -10,7 +10,9 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "EMAIL_VERIFICATION_CODES")
+@Table(name = "EMAIL_VERIFICATION_CODES", indexes = {
+    @Index(name = "idx_email_code_expires", columnList = "expires_at")
+})
 @Comment("이메일 인증 코드")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -45,6 +47,13 @@ public class EmailVerificationCode {
     @Comment("인증 완료 여부")
     private boolean verified = false;
 
+    @Column(nullable = false)
+    @Comment("코드 입력 실패 횟수")
+    private int failedAttempts = 0;
+
+    @Comment("입력 실패 초과로 인한 잠금 해제 시간")
+    private LocalDateTime lockedUntil;
+
     @Builder
     public EmailVerificationCode(String email, String code, int expirationMinutes) {
         this.email = email;
@@ -64,4 +73,30 @@ public class EmailVerificationCode {
     public void markAsVerified() {
         this.verified = true;
     }
+
+    /**
+     * 인증 완료 처리 (verifiedUntil까지 인증 상태 유지)
+     */
+    public void markAsVerified(LocalDateTime verifiedUntil) {
+        this.verified = true;
+        this.expiresAt = verifiedUntil;
+    }
+
+    /**
+     * 입력 실패 기록, maxAttempts에 도달하면 lockedUntil까지 잠금
+     *
+     * @return 잠금 여부
+     */
+    public boolean recordFailedAttempt(int maxAttempts, LocalDateTime lockedUntil) {
+        this.failedAttempts++;
+        if (failedAttempts >= maxAttempts) {
+            this.lockedUntil = lockedUntil;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isLocked() {
+        return lockedUntil != null && LocalDateTime.now().isBefore(lockedUntil);
+    }
 }
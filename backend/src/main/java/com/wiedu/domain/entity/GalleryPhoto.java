@@ -1,5 +1,6 @@
 package com.wiedu.domain.entity;
 
+import com.wiedu.domain.enums.ImageProcessingStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -52,6 +53,19 @@ public class GalleryPhoto {
     @Comment("썸네일 URL")
     private String thumbnailUrl;
 
+    @Column(length = 100)
+    @Comment("너비별 변형 이미지 (형식:너비 목록, 예: webp:160,320,640)")
+    private String imageVariants;
+
+    @Column(length = 100)
+    @Comment("로딩 전 미리보기 (크기:대표 색:BlurHash, 예: 1920x1080:#a1b2c3:LKO2?U%2Tw=w]~RBVZRi};RPxuwH)")
+    private String imagePlaceholder;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20) DEFAULT 'READY'")
+    @Comment("썸네일 생성 상태")
+    private ImageProcessingStatus processingStatus;
+
     @Column(length = 50)
     @Comment("MIME 타입")
     private String mimeType;
@@ -73,6 +87,7 @@ public class GalleryPhoto {
         this.originalFileName = originalFileName;
         this.storedFileUrl = storedFileUrl;
         this.thumbnailUrl = thumbnailUrl;
+        this.processingStatus = thumbnailUrl != null ? ImageProcessingStatus.READY : ImageProcessingStatus.PENDING;
         this.mimeType = mimeType;
         this.fileSize = fileSize;
         this.caption = caption;
@@ -85,4 +100,19 @@ public class GalleryPhoto {
     public void updateCaption(String caption) {
         this.caption = caption;
     }
+
+    public boolean isProcessingPending() {
+        return this.processingStatus == ImageProcessingStatus.PENDING;
+    }
+
+    public void completeProcessing(String thumbnailUrl, String imageVariants, String imagePlaceholder) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.imageVariants = imageVariants;
+        this.imagePlaceholder = imagePlaceholder;
+        this.processingStatus = ImageProcessingStatus.READY;
+    }
+
+    public void failProcessing() {
+        this.processingStatus = ImageProcessingStatus.FAILED;
+    }
 }
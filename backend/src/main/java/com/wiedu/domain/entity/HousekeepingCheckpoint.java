@@ -0,0 +1,66 @@
+package com.wiedu.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정리 작업 진행 체크포인트
+ * - 작업별로 마지막으로 처리한 ID를 저장하여 재시작 후에도 이어서 진행
+ * - 테이블 끝까지 훑으면 커서를 0으로 되돌려 다음 회차에 처음부터 다시 확인
+ */
+@Entity
+@Table(name = "HOUSEKEEPING_CHECKPOINTS")
+@Comment("정리 작업 진행 체크포인트")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HousekeepingCheckpoint extends BaseEntity {
+
+    @Id
+    @Column(length = 50)
+    @Comment("작업 이름")
+    private String jobName;
+
+    @Column(nullable = false)
+    @Comment("마지막으로 처리한 ID (다음 청크는 이 ID 이후부터)")
+    private Long lastId;
+
+    @Column(nullable = false)
+    @Comment("누적 삭제 행 수")
+    private long totalPurged;
+
+    @Comment("마지막 실행 시간")
+    private LocalDateTime lastRunAt;
+
+    @Comment("마지막으로 전체 순회를 마친 시간")
+    private LocalDateTime lastSweepCompletedAt;
+
+    public HousekeepingCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lastId = 0L;
+        this.totalPurged = 0L;
+    }
+
+    /**
+     * 청크 처리 결과 반영
+     */
+    public void advance(Long lastId, int purged, LocalDateTime now) {
+        this.lastId = lastId;
+        this.totalPurged += purged;
+        this.lastRunAt = now;
+    }
+
+    /**
+     * 테이블 끝까지 순회 완료 - 다음 회차는 처음부터
+     */
+    public void completeSweep(int purged, LocalDateTime now) {
+        this.lastId = 0L;
+        this.totalPurged += purged;
+        this.lastRunAt = now;
+        this.lastSweepCompletedAt = now;
+    }
+}
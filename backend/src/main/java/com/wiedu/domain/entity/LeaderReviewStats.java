@@ -0,0 +1,77 @@
+package com.wiedu.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 스터디장 리뷰 집계
+ * 리뷰 작성 시 증분 업데이트 (LeaderReviewStatsRepository), 프로필 조회 시 한 행으로 평점/분포 제공
+ */
+@Entity
+@Table(name = "LEADER_REVIEW_STATS")
+@Comment("스터디장 리뷰 집계 (리뷰 수, 평점 합계, 평점 분포)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeaderReviewStats extends BaseEntity {
+
+    @Id
+    @Comment("스터디장 ID")
+    private Long leaderId;
+
+    @Column(nullable = false)
+    @Comment("받은 리뷰 수")
+    private long reviewCount;
+
+    @Column(nullable = false)
+    @Comment("평점 합계")
+    private long ratingSum;
+
+    @Column(nullable = false)
+    @Comment("1점 리뷰 수")
+    private long oneStarCount;
+
+    @Column(nullable = false)
+    @Comment("2점 리뷰 수")
+    private long twoStarCount;
+
+    @Column(nullable = false)
+    @Comment("3점 리뷰 수")
+    private long threeStarCount;
+
+    @Column(nullable = false)
+    @Comment("4점 리뷰 수")
+    private long fourStarCount;
+
+    @Column(nullable = false)
+    @Comment("5점 리뷰 수")
+    private long fiveStarCount;
+
+    /**
+     * 평균 평점 (리뷰 없으면 null)
+     */
+    public Double getAverageRating() {
+        if (reviewCount == 0) {
+            return null;
+        }
+        return (double) ratingSum / reviewCount;
+    }
+
+    /**
+     * 평점 분포 (5점 → 1점 순)
+     */
+    public Map<Integer, Long> getRatingDistribution() {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(5, fiveStarCount);
+        distribution.put(4, fourStarCount);
+        distribution.put(3, threeStarCount);
+        distribution.put(2, twoStarCount);
+        distribution.put(1, oneStarCount);
+        return distribution;
+    }
+}
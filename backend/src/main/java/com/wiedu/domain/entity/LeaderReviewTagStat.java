@@ -0,0 +1,36 @@
+package com.wiedu.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 스터디장 리뷰 태그별 빈도
+ */
+@Entity
+@Table(name = "LEADER_REVIEW_TAG_STATS", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"leader_id", "tag"})
+})
+@Comment("스터디장 리뷰 태그 빈도")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeaderReviewTagStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "leader_id", nullable = false)
+    @Comment("스터디장 ID")
+    private Long leaderId;
+
+    @Column(nullable = false, length = 100)
+    @Comment("리뷰 태그")
+    private String tag;
+
+    @Column(nullable = false)
+    @Comment("태그 선택 횟수")
+    private long tagCount;
+}
@@ -0,0 +1,42 @@
+package com.wiedu.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "OAUTH_SESSIONS", indexes = {
+    @Index(name = "idx_oauth_session_expires", columnList = "expires_at")
+})
+@Comment("OAuth 폴링 세션 (콜백에서 발급한 토큰 임시 보관)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OAuthSession {
+
+    @Id
+    @Column(length = 100)
+    @Comment("클라이언트가 생성한 세션 ID")
+    private String sessionId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    @Comment("토큰 응답 (JSON, AES-GCM 암호화 후 Base64)")
+    private String payload;
+
+    @Column(nullable = false)
+    @Comment("만료 시간")
+    private LocalDateTime expiresAt;
+
+    public OAuthSession(String sessionId, String payload, LocalDateTime expiresAt) {
+        this.sessionId = sessionId;
+        this.payload = payload;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !LocalDateTime.now().isBefore(expiresAt);
+    }
+}
@@ -11,8 +11,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "REFRESH_TOKENS", indexes = {
-    @Index(name = "idx_refresh_token", columnList = "token"),
-    @Index(name = "idx_refresh_token_user", columnList = "user_id")
+    @Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true),
+    @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+    @Index(name = "idx_refresh_token_expires", columnList = "expires_at")
 })
 @Comment("리프레시 토큰 저장소")
 @Getter
@@ -28,9 +29,9 @@ public class RefreshToken {
     @Comment("토큰 소유 사용자")
     private User user;
 
-    @Column(nullable = false, unique = true, length = 500)
-    @Comment("리프레시 토큰 값")
-    private String token;
+    @Column(nullable = false, columnDefinition = "CHAR(64)")
+    @Comment("리프레시 토큰 SHA-256 다이제스트 (hex)")
+    private String tokenHash;
 
     @Column(nullable = false)
     @Comment("토큰 만료 시간")
@@ -51,9 +52,9 @@ public class RefreshToken {
     private String deviceInfo;
 
     @Builder
-    public RefreshToken(User user, String token, LocalDateTime expiresAt, String deviceInfo) {
+    public RefreshToken(User user, String tokenHash, LocalDateTime expiresAt, String deviceInfo) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.issuedAt = LocalDateTime.now();
         this.deviceInfo = deviceInfo;
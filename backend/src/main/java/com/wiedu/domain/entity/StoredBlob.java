@@ -0,0 +1,59 @@
+package com.wiedu.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Table(name = "STORED_BLOBS", indexes = {
+    @Index(name = "uk_stored_blob_digest", columnList = "namespace, digest", unique = true)
+})
+@Comment("내용 주소 기반 업로드 파일 (같은 내용은 한 번만 저장)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    @Comment("저장 구분 (업로드 하위 디렉토리 최상위: gallery, profile, covers 등)")
+    private String namespace;
+
+    @Column(nullable = false, columnDefinition = "CHAR(64)")
+    @Comment("파일 내용 SHA-256 다이제스트 (hex)")
+    private String digest;
+
+    @Column(nullable = false, length = 300)
+    @Comment("업로드 디렉토리 기준 저장 경로")
+    private String storedPath;
+
+    @Column(nullable = false)
+    @Comment("파일 크기 (bytes)")
+    private Long fileSize;
+
+    @Column(nullable = false)
+    @Comment("이 파일을 가리키는 저장 요청 수 (0이 되면 파일 삭제)")
+    private int refCount;
+
+    @Column(length = 100)
+    @Comment("생성된 썸네일/변형 (형식:너비 목록, 처리 전이면 NULL)")
+    private String variants;
+
+    @Column(length = 100)
+    @Comment("미리보기 (크기:대표 색:BlurHash, 처리 전이면 NULL)")
+    private String placeholder;
+
+    @Builder
+    public StoredBlob(String namespace, String digest, String storedPath, Long fileSize) {
+        this.namespace = namespace;
+        this.digest = digest;
+        this.storedPath = storedPath;
+        this.fileSize = fileSize;
+        this.refCount = 1;
+    }
+}
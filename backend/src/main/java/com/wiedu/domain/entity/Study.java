@@ -49,6 +49,14 @@ public class Study extends BaseEntity {
     @Comment("커버 이미지 URL")
     private String coverImageUrl;
 
+    @Column(length = 100)
+    @Comment("커버 이미지 너비별 변형 (형식:너비 목록, 예: webp:320,640,1280)")
+    private String coverImageVariants;
+
+    @Column(length = 100)
+    @Comment("커버 이미지 로딩 전 미리보기 (크기:대표 색:BlurHash)")
+    private String coverImagePlaceholder;
+
     @OneToMany(mappedBy = "study", cascade = CascadeType.ALL, orphanRemoval = true)
     @BatchSize(size = 20)
     private List<StudyTag> tags = new ArrayList<>();
@@ -205,7 +213,11 @@ public class Study extends BaseEntity {
         if (category != null) this.category = category;
         // subcategory도 다른 필드처럼 null 체크 - 명시적으로 null을 전달하고 싶을 때는 서비스 레이어에서 처리
         if (subcategory != null) this.subcategory = subcategory;
-        if (coverImageUrl != null) this.coverImageUrl = coverImageUrl;
+        if (coverImageUrl != null && !coverImageUrl.equals(this.coverImageUrl)) {
+            this.coverImageUrl = coverImageUrl;
+            this.coverImageVariants = null;  // 새 이미지 처리 후 다시 기록됨
+            this.coverImagePlaceholder = null;
+        }
         if (targetAudience != null) this.targetAudience = targetAudience;
         if (goals != null) this.goals = goals;
         if (studyMethod != null) this.studyMethod = studyMethod;
@@ -0,0 +1,85 @@
+package com.wiedu.domain.entity;
+
+import com.wiedu.domain.enums.UploadSessionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "UPLOAD_SESSIONS", indexes = {
+    @Index(name = "idx_upload_session_user", columnList = "user_id"),
+    @Index(name = "idx_upload_session_expires", columnList = "expires_at")
+})
+@Comment("이어 올리기 업로드 (청크 단위 수신 상태)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadSession extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @Comment("업로드 사용자")
+    private User user;
+
+    @Column(nullable = false, length = 20)
+    @Comment("파일 용도 (cover, profile, gallery, general)")
+    private String type;
+
+    @Column(nullable = false, length = 255)
+    @Comment("원본 파일명")
+    private String originalFileName;
+
+    @Column(nullable = false, length = 50)
+    @Comment("MIME 타입")
+    private String contentType;
+
+    @Column(nullable = false)
+    @Comment("전체 파일 크기 (bytes)")
+    private Long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Comment("업로드 상태")
+    private UploadSessionStatus status;
+
+    @Column(length = 500)
+    @Comment("저장 완료된 파일 URL")
+    private String fileUrl;
+
+    @Column(nullable = false)
+    @Comment("만료 시간 (이후 임시 파일과 함께 삭제)")
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public UploadSession(User user, String type, String originalFileName, String contentType,
+                         Long fileSize, LocalDateTime expiresAt) {
+        this.user = user;
+        this.type = type;
+        this.originalFileName = originalFileName;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.expiresAt = expiresAt;
+        this.status = UploadSessionStatus.IN_PROGRESS;
+    }
+
+    public boolean isCompleted() {
+        return status == UploadSessionStatus.COMPLETED;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void complete(String fileUrl) {
+        this.status = UploadSessionStatus.COMPLETED;
+        this.fileUrl = fileUrl;
+    }
+}
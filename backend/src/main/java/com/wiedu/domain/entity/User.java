@@ -20,6 +20,10 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
+    // 매너 온도 범위: 0 ~ 100
+    public static final BigDecimal MIN_TEMPERATURE = BigDecimal.ZERO;
+    public static final BigDecimal MAX_TEMPERATURE = BigDecimal.valueOf(100);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Comment("사용자 고유 ID")
@@ -37,6 +41,14 @@ public class User extends BaseEntity {
     @Comment("프로필 이미지 URL")
     private String profileImage;
 
+    @Column(length = 100)
+    @Comment("프로필 이미지 너비별 변형 (형식:너비 목록, 예: webp:64,160,320)")
+    private String profileImageVariants;
+
+    @Column(length = 100)
+    @Comment("프로필 이미지 로딩 전 미리보기 (크기:대표 색:BlurHash)")
+    private String profileImagePlaceholder;
+
     @Column(length = 200)
     @Comment("한줄 소개")
     private String bio;
@@ -53,7 +65,8 @@ public class User extends BaseEntity {
     @Comment("OAuth 제공자의 사용자 ID")
     private String oauthProviderId;
 
-    @Column(precision = 3, scale = 1)
+    // 변경은 UserRepository.addTemperature(원자적 UPDATE)로만 수행 - 엔티티 flush 시 덮어쓰기 방지
+    @Column(precision = 3, scale = 1, updatable = false)
     @Comment("매너 온도 (기본 36.5)")
     private BigDecimal temperature = BigDecimal.valueOf(36.5);
 
@@ -136,7 +149,7 @@ public class User extends BaseEntity {
     // 비즈니스 메서드
     public void updateProfile(String nickname, String profileImage) {
         this.nickname = nickname;
-        this.profileImage = profileImage;
+        updateProfileImage(profileImage);
     }
 
     public void verifyEmail() {
@@ -175,6 +188,11 @@ public class User extends BaseEntity {
     }
 
     public void updateProfileImage(String profileImage) {
+        // 이미지가 바뀌면 변형은 새 이미지 처리 후 다시 기록됨
+        if (profileImage == null || !profileImage.equals(this.profileImage)) {
+            this.profileImageVariants = null;
+            this.profileImagePlaceholder = null;
+        }
         this.profileImage = profileImage;
     }
 
@@ -204,6 +222,8 @@ public class User extends BaseEntity {
         this.email = "withdrawn_" + UUID.randomUUID() + "@deleted.local";
         this.nickname = "탈퇴한 사용자";
         this.profileImage = null;
+        this.profileImageVariants = null;
+        this.profileImagePlaceholder = null;
         this.bio = null;
         this.password = null;
         this.oauthProvider = null;
@@ -223,20 +243,4 @@ public class User extends BaseEntity {
     public boolean isWithdrawn() {
         return this.status == UserStatus.WITHDRAWN;
     }
-
-    /**
-     * 온도 업데이트 (리뷰 평점에 따라)
-     * 온도 범위: 0 ~ 100
-     */
-    public void updateTemperature(BigDecimal delta) {
-        BigDecimal newTemp = this.temperature.add(delta);
-        // 최소 0, 최대 100으로 제한
-        if (newTemp.compareTo(BigDecimal.ZERO) < 0) {
-            this.temperature = BigDecimal.ZERO;
-        } else if (newTemp.compareTo(BigDecimal.valueOf(100)) > 0) {
-            this.temperature = BigDecimal.valueOf(100);
-        } else {
-            this.temperature = newTemp;
-        }
-    }
 }
@@ -0,0 +1,81 @@
+package com.wiedu.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 평판 스냅샷
+ * 뱃지 계산에 필요한 집계값(완료 스터디 수, 받은 리뷰 수/평점 합, 매너온도)을 사용자당 한 행으로 유지
+ * - 스터디 완료/리뷰 작성/온도 변경 시 증분 업데이트
+ * - ReputationRebuilder가 원천 테이블 기준으로 재계산
+ */
+@Entity
+@Table(name = "USER_REPUTATION")
+@Comment("사용자 평판 스냅샷 (뱃지 계산용)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserReputation extends BaseEntity {
+
+    @Id
+    @Comment("사용자 ID")
+    private Long userId;
+
+    @Column(nullable = false)
+    @Comment("완료한 스터디 수")
+    private int completedStudyCount;
+
+    @Column(nullable = false)
+    @Comment("받은 멤버 리뷰 수")
+    private long memberReviewCount;
+
+    @Column(nullable = false)
+    @Comment("받은 멤버 리뷰 평점 합계")
+    private long memberRatingSum;
+
+    @Column(precision = 3, scale = 1)
+    @Comment("매너 온도 스냅샷")
+    private BigDecimal temperature;
+
+    @Comment("원천 테이블 기준 마지막 재계산 일시")
+    private LocalDateTime rebuiltAt;
+
+    @Builder
+    public UserReputation(Long userId, int completedStudyCount, long memberReviewCount,
+                          long memberRatingSum, BigDecimal temperature) {
+        this.userId = userId;
+        this.completedStudyCount = completedStudyCount;
+        this.memberReviewCount = memberReviewCount;
+        this.memberRatingSum = memberRatingSum;
+        this.temperature = temperature;
+        this.rebuiltAt = LocalDateTime.now();
+    }
+
+    /**
+     * 원천 테이블 기준 재계산 결과 반영
+     */
+    public void rebuild(int completedStudyCount, long memberReviewCount,
+                        long memberRatingSum, BigDecimal temperature) {
+        this.completedStudyCount = completedStudyCount;
+        this.memberReviewCount = memberReviewCount;
+        this.memberRatingSum = memberRatingSum;
+        this.temperature = temperature;
+        this.rebuiltAt = LocalDateTime.now();
+    }
+
+    /**
+     * 받은 멤버 리뷰 평균 평점 (리뷰 없으면 null)
+     */
+    public Double getAverageRating() {
+        if (memberReviewCount == 0) {
+            return null;
+        }
+        return (double) memberRatingSum / memberReviewCount;
+    }
+}
@@ -0,0 +1,8 @@
+package com.wiedu.domain.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 워커가 가져가 발송 중
+    SENT,       // 발송 완료
+    FAILED      // 최대 재시도 초과
+}
@@ -0,0 +1,18 @@
+package com.wiedu.domain.enums;
+
+/**
+ * 발송 이메일 종류 (제목 포함, 본문은 EmailTemplateRenderer에서 렌더링)
+ */
+public enum EmailTemplate {
+    VERIFICATION_CODE("[위듀] 이메일 인증 코드");
+
+    private final String subject;
+
+    EmailTemplate(String subject) {
+        this.subject = subject;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+}
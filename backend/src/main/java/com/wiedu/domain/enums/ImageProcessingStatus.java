@@ -0,0 +1,7 @@
+package com.wiedu.domain.enums;
+
+public enum ImageProcessingStatus {
+    PENDING,    // 원본 저장 완료, 썸네일 생성 대기
+    READY,      // 썸네일 생성 완료
+    FAILED      // 디코딩 실패 등으로 썸네일 없음 (원본으로 표시)
+}
@@ -0,0 +1,6 @@
+package com.wiedu.domain.enums;
+
+public enum UploadSessionStatus {
+    IN_PROGRESS,    // 청크 수신 중 (임시 파일에 이어 쓰는 중)
+    COMPLETED       // 전체 수신 후 저장소에 저장 완료 (fileUrl 확정)
+}
@@ -0,0 +1,25 @@
+package com.wiedu.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * - nextCursor: 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 항목 ID)
+ */
+public record CursorPage<T>(
+        List<T> content,
+        Long nextCursor,
+        boolean hasNext
+) {
+    /**
+     * size + 1 개 조회 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size,
+                                          Function<E, Long> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? idExtractor.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,25 @@
+package com.wiedu.dto.file;
+
+import com.wiedu.domain.entity.UploadSession;
+
+import java.time.LocalDateTime;
+
+public record ResumableUploadResponse(
+    Long uploadId,
+    long offset,          // 지금까지 받은 바이트 수 (다음 청크의 시작 위치)
+    long length,          // 전체 파일 크기
+    boolean completed,
+    String fileUrl,       // 완료 후 저장된 파일 URL (진행 중이면 null)
+    LocalDateTime expiresAt
+) {
+    public static ResumableUploadResponse of(UploadSession session, long offset) {
+        return new ResumableUploadResponse(
+            session.getId(),
+            offset,
+            session.getFileSize(),
+            session.isCompleted(),
+            session.getFileUrl(),
+            session.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.wiedu.dto.gallery;
+
+import java.util.List;
+
+public record GalleryBatchUploadResponse(
+    int requested,
+    int uploaded,
+    int failed,
+    List<GalleryUploadResult> results   // 요청의 파일 순서대로
+) {
+    public static GalleryBatchUploadResponse of(List<GalleryUploadResult> results) {
+        int uploaded = (int) results.stream().filter(GalleryUploadResult::success).count();
+        return new GalleryBatchUploadResponse(results.size(), uploaded, results.size() - uploaded, results);
+    }
+}
@@ -1,7 +1,12 @@
 package com.wiedu.dto.gallery;
 
 import com.wiedu.domain.entity.GalleryPhoto;
+import com.wiedu.domain.enums.ImageProcessingStatus;
+import com.wiedu.service.image.ImagePlaceholder;
+import com.wiedu.service.image.ImageVariants;
+
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public record GalleryPhotoResponse(
     Long id,
@@ -12,6 +17,9 @@ public record GalleryPhotoResponse(
     String originalFileName,
     String storedFileUrl,
     String thumbnailUrl,
+    Map<Integer, String> srcSet,   // 너비 → URL (썸네일 생성 전이거나 실패 시 null)
+    ImagePlaceholder placeholder,  // 크기, 대표 색, BlurHash (썸네일 생성 전이거나 실패 시 null)
+    ImageProcessingStatus processingStatus,
     String mimeType,
     Long fileSize,
     String caption,
@@ -27,6 +35,9 @@ public record GalleryPhotoResponse(
             photo.getOriginalFileName(),
             photo.getStoredFileUrl(),
             photo.getThumbnailUrl(),
+            ImageVariants.srcSet(photo.getStoredFileUrl(), photo.getImageVariants()),
+            ImagePlaceholder.decode(photo.getImagePlaceholder()),
+            photo.getProcessingStatus(),
             photo.getMimeType(),
             photo.getFileSize(),
             photo.getCaption(),
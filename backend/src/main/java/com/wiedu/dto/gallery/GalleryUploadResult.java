@@ -0,0 +1,26 @@
+package com.wiedu.dto.gallery;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.wiedu.exception.ErrorCode;
+
+/**
+ * 일괄 업로드의 파일별 결과 (성공이면 photo, 실패면 code/message)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GalleryUploadResult(
+    int index,                 // 요청의 파일 순서 (0부터)
+    String originalFileName,
+    boolean success,
+    GalleryPhotoResponse photo,
+    String code,
+    String message
+) {
+    public static GalleryUploadResult success(int index, GalleryPhotoResponse photo) {
+        return new GalleryUploadResult(index, photo.originalFileName(), true, photo, null, null);
+    }
+
+    public static GalleryUploadResult failure(int index, String originalFileName, ErrorCode errorCode) {
+        return new GalleryUploadResult(index, originalFileName, false, null,
+            errorCode.getCode(), errorCode.getMessage());
+    }
+}
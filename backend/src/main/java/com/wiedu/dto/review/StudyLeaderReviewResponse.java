@@ -19,11 +19,17 @@ public record StudyLeaderReviewResponse(
         String studyTitle,
         LocalDateTime createdAt
 ) {
-    public static StudyLeaderReviewResponse from(StudyLeaderReview review) {
-        List<String> tagList = review.getTags() != null && !review.getTags().isEmpty()
-                ? Arrays.asList(review.getTags().split(","))
-                : Collections.emptyList();
+    /**
+     * JPQL 프로젝션용 생성자 (표시 컬럼만 조회, 태그는 콤마 구분 문자열)
+     */
+    public StudyLeaderReviewResponse(Long id, String reviewerNickname, String reviewerProfileImage,
+                                     String leaderNickname, String leaderProfileImage, Integer rating,
+                                     String content, String tags, String studyTitle, LocalDateTime createdAt) {
+        this(id, reviewerNickname, reviewerProfileImage, leaderNickname, leaderProfileImage, rating,
+                content, splitTags(tags), studyTitle, createdAt);
+    }
 
+    public static StudyLeaderReviewResponse from(StudyLeaderReview review) {
         return new StudyLeaderReviewResponse(
                 review.getId(),
                 review.getReviewer().getNickname(),
@@ -32,9 +38,15 @@ public record StudyLeaderReviewResponse(
                 review.getLeader().getProfileImage(),
                 review.getRating(),
                 review.getContent(),
-                tagList,
+                splitTags(review.getTags()),
                 review.getStudy().getTitle(),
                 review.getCreatedAt()
         );
     }
+
+    private static List<String> splitTags(String tags) {
+        return tags != null && !tags.isEmpty()
+                ? Arrays.asList(tags.split(","))
+                : Collections.emptyList();
+    }
 }
@@ -1,10 +1,20 @@
 package com.wiedu.dto.review;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 스터디장 리뷰 응답
+ * - 집계(평균, 총 개수, 평점 분포, 태그 빈도)는 전체 기준
+ * - reviews는 커서 기반 페이지 (nextCursor를 cursor 파라미터로 전달하여 다음 페이지 조회)
+ */
 public record StudyLeaderReviewsResponse(
         List<StudyLeaderReviewResponse> reviews,
         Double averageRating,
-        Long totalCount
+        Long totalCount,
+        Map<Integer, Long> ratingDistribution,
+        Map<String, Long> tagCounts,
+        Long nextCursor,
+        boolean hasNext
 ) {
 }
@@ -21,11 +21,18 @@ public record StudyMemberReviewResponse(
     List<String> tags,
     LocalDateTime createdAt
 ) {
-    public static StudyMemberReviewResponse from(StudyMemberReview review) {
-        List<String> tagList = review.getTags() != null && !review.getTags().isEmpty()
-            ? Arrays.asList(review.getTags().split(","))
-            : Collections.emptyList();
+    /**
+     * JPQL 프로젝션용 생성자 (표시 컬럼만 조회, 태그는 콤마 구분 문자열)
+     */
+    public StudyMemberReviewResponse(Long id, Long reviewerId, String reviewerNickname, String reviewerProfileImage,
+                                     Long revieweeId, String revieweeNickname, String revieweeProfileImage,
+                                     String studyTitle, Integer rating, String content, String tags,
+                                     LocalDateTime createdAt) {
+        this(id, reviewerId, reviewerNickname, reviewerProfileImage, revieweeId, revieweeNickname,
+            revieweeProfileImage, studyTitle, rating, content, splitTags(tags), createdAt);
+    }
 
+    public static StudyMemberReviewResponse from(StudyMemberReview review) {
         return new StudyMemberReviewResponse(
             review.getId(),
             review.getReviewer().getId(),
@@ -37,8 +44,14 @@ public record StudyMemberReviewResponse(
             review.getStudy().getTitle(),
             review.getRating(),
             review.getContent(),
-            tagList,
+            splitTags(review.getTags()),
             review.getCreatedAt()
         );
     }
+
+    private static List<String> splitTags(String tags) {
+        return tags != null && !tags.isEmpty()
+            ? Arrays.asList(tags.split(","))
+            : Collections.emptyList();
+    }
 }
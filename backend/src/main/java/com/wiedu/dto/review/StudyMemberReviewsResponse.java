@@ -0,0 +1,17 @@
+package com.wiedu.dto.review;
+
+import java.util.List;
+
+/**
+ * 받은 멤버 리뷰 응답
+ * - 집계(평균, 총 개수)는 전체 기준
+ * - reviews는 커서 기반 페이지 (nextCursor를 cursor 파라미터로 전달하여 다음 페이지 조회)
+ */
+public record StudyMemberReviewsResponse(
+        List<StudyMemberReviewResponse> reviews,
+        Double averageRating,
+        Long totalCount,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,40 @@
+package com.wiedu.dto.study;
+
+import com.wiedu.domain.entity.Study;
+import com.wiedu.domain.entity.StudyMember;
+import com.wiedu.domain.entity.User;
+import com.wiedu.domain.enums.MemberRole;
+import com.wiedu.domain.enums.MemberStatus;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+
+/**
+ * 스터디 접근 권한 판단에 필요한 (스터디, 사용자, 멤버십)
+ * StudyMemberRepository.findAccess 한 번의 조인 쿼리로 함께 조회
+ *
+ * @param membership 스터디에 가입한 적이 없으면 null (탈퇴한 멤버는 status=WITHDRAWN)
+ */
+public record StudyAccess(Study study, User user, StudyMember membership) {
+
+    public boolean isActiveMember() {
+        return membership != null && membership.getStatus() == MemberStatus.ACTIVE;
+    }
+
+    public boolean isLeader() {
+        return isActiveMember() && membership.getRole() == MemberRole.LEADER;
+    }
+
+    /**
+     * 활동 중인 멤버가 아니면 NOT_STUDY_MEMBER
+     */
+    public StudyAccess requireActiveMember() {
+        return requireActiveMember(ErrorCode.NOT_STUDY_MEMBER);
+    }
+
+    public StudyAccess requireActiveMember(ErrorCode errorCode) {
+        if (!isActiveMember()) {
+            throw new BusinessException(errorCode);
+        }
+        return this;
+    }
+}
@@ -4,9 +4,12 @@ import com.wiedu.domain.entity.Study;
 import com.wiedu.domain.entity.StudyMember;
 import com.wiedu.domain.enums.StudyMethod;
 import com.wiedu.domain.enums.StudyStatus;
+import com.wiedu.service.image.ImagePlaceholder;
+import com.wiedu.service.image.ImageVariants;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -17,6 +20,9 @@ public record StudyListResponse(
         Long id,
         String title,
         String categoryName,
+        String coverImageUrl,
+        Map<Integer, String> coverImageSrcSet,  // 너비 → URL (변형이 없으면 null)
+        ImagePlaceholder coverImagePlaceholder, // 크기, 대표 색, BlurHash (처리 전이면 null)
         String leaderNickname,
         Integer maxMembers,
         Integer currentMembers,
@@ -39,6 +45,9 @@ public record StudyListResponse(
                 study.getId(),
                 study.getTitle(),
                 study.getCategory().getName(),
+                study.getCoverImageUrl(),
+                ImageVariants.srcSet(study.getCoverImageUrl(), study.getCoverImageVariants()),
+                ImagePlaceholder.decode(study.getCoverImagePlaceholder()),
                 study.getLeader().getNickname(),
                 study.getMaxMembers(),
                 study.getCurrentMembers(),
@@ -1,8 +1,11 @@
 package com.wiedu.dto.user;
 
 import com.wiedu.domain.entity.User;
+import com.wiedu.service.image.ImagePlaceholder;
+import com.wiedu.service.image.ImageVariants;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 /**
  * 공개용 사용자 응답 DTO
@@ -13,6 +16,8 @@ public record PublicUserResponse(
         Long id,
         String nickname,
         String profileImage,
+        Map<Integer, String> profileImageSrcSet,  // 너비 → URL (변형이 없으면 null)
+        ImagePlaceholder profileImagePlaceholder, // 크기, 대표 색, BlurHash (처리 전이면 null)
         String bio,
         BigDecimal temperature
 ) {
@@ -21,6 +26,8 @@ public record PublicUserResponse(
                 user.getId(),
                 user.getNickname(),
                 user.getProfileImage(),
+                ImageVariants.srcSet(user.getProfileImage(), user.getProfileImageVariants()),
+                ImagePlaceholder.decode(user.getProfileImagePlaceholder()),
                 user.getBio(),
                 user.getTemperature()
         );
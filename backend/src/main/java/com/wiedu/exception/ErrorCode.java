@@ -17,6 +17,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "리소스를 찾을 수 없습니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C004", "허용되지 않은 메서드입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C005", "서버 오류가 발생했습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C007", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
@@ -65,6 +66,7 @@ public enum ErrorCode {
     OAUTH_TOKEN_FAILED(HttpStatus.UNAUTHORIZED, "O001", "OAuth 토큰 발급에 실패했습니다."),
     OAUTH_USER_INFO_FAILED(HttpStatus.UNAUTHORIZED, "O002", "OAuth 사용자 정보 조회에 실패했습니다."),
     OAUTH_INVALID_PROVIDER(HttpStatus.BAD_REQUEST, "O003", "지원하지 않는 OAuth 제공자입니다."),
+    OAUTH_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "O004", "카카오 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // Board
     BOARD_POST_NOT_FOUND(HttpStatus.NOT_FOUND, "B001", "게시글을 찾을 수 없습니다."),
@@ -81,6 +83,18 @@ public enum ErrorCode {
     GALLERY_FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "G004", "파일 크기가 제한을 초과했습니다."),
     GALLERY_INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "G005", "지원하지 않는 파일 형식입니다."),
     GALLERY_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "G006", "파일 업로드에 실패했습니다."),
+    GALLERY_TOO_MANY_FILES(HttpStatus.BAD_REQUEST, "G007", "한 번에 업로드할 수 있는 사진 수를 초과했습니다."),
+
+    // File
+    DIRECT_UPLOAD_NOT_SUPPORTED(HttpStatus.NOT_IMPLEMENTED, "F001", "현재 저장소는 직접 업로드를 지원하지 않습니다."),
+    UPLOAD_NOT_FOUND(HttpStatus.NOT_FOUND, "F002", "업로드를 찾을 수 없습니다."),
+    UPLOAD_EXPIRED(HttpStatus.GONE, "F003", "만료된 업로드입니다. 다시 시작해주세요."),
+    UPLOAD_OFFSET_MISMATCH(HttpStatus.CONFLICT, "F004", "업로드 위치가 서버와 일치하지 않습니다. 진행 상태를 다시 조회해주세요."),
+    UPLOAD_IN_PROGRESS(HttpStatus.CONFLICT, "F005", "같은 업로드에 대한 다른 요청이 처리 중입니다."),
+    UPLOAD_ALREADY_COMPLETED(HttpStatus.CONFLICT, "F006", "이미 완료된 업로드입니다."),
+    UPLOAD_LENGTH_EXCEEDED(HttpStatus.BAD_REQUEST, "F007", "선언한 파일 크기를 초과했습니다."),
+    UPLOAD_REQUEST_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "F008", "업로드 요청 크기가 제한을 초과했습니다."),
+    UPLOAD_LENGTH_REQUIRED(HttpStatus.LENGTH_REQUIRED, "F009", "업로드 요청에는 Content-Length가 필요합니다."),
 
     // Review
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "RV001", "리뷰를 찾을 수 없습니다."),
@@ -96,6 +110,7 @@ public enum ErrorCode {
     VERIFICATION_CODE_EXPIRED(HttpStatus.BAD_REQUEST, "E002", "인증 코드가 만료되었습니다."),
     VERIFICATION_CODE_INVALID(HttpStatus.BAD_REQUEST, "E003", "인증 코드가 올바르지 않습니다."),
     EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "E004", "이메일 발송에 실패했습니다."),
+    VERIFICATION_LOCKED(HttpStatus.TOO_MANY_REQUESTS, "E005", "인증 코드 입력 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     // Notification
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "N001", "알림을 찾을 수 없습니다."),
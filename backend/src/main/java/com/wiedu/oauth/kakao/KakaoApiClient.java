@@ -0,0 +1,189 @@
+package com.wiedu.oauth.kakao;
+
+import com.wiedu.dto.oauth.KakaoTokenResponse;
+import com.wiedu.dto.oauth.KakaoUserResponse;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 OAuth 전용 HTTP 클라이언트
+ * - 전용 커넥션 풀 (keep-alive 재사용, 풀 대기 시간 제한)
+ * - 연결/응답 타임아웃
+ * - 벌크헤드 (동시 호출 수 제한, 초과 시 짧게 대기 후 실패)
+ * - 서킷 브레이커 (연속 실패 시 일정 시간 즉시 실패)
+ * 카카오 지연/장애가 서블릿 요청 스레드를 모두 묶어 다른 API까지 멈추지 않도록 격리
+ */
+@Slf4j
+@Component
+public class KakaoApiClient {
+
+    private static final String TOKEN_PATH = "/oauth/token";
+    private static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final KakaoProperties kakaoProperties;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Semaphore bulkhead;
+    private final KakaoCircuitBreaker circuitBreaker;
+    private final Duration maxWait;
+    private final Duration callTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public KakaoApiClient(KakaoProperties kakaoProperties, MeterRegistry meterRegistry) {
+        KakaoProperties.Client client = kakaoProperties.getClient();
+        this.kakaoProperties = kakaoProperties;
+        this.meterRegistry = meterRegistry;
+
+        this.connectionProvider = ConnectionProvider.builder("kakao")
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .evictInBackground(client.getMaxIdleTime())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getResponseTimeout());
+
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        this.bulkhead = new Semaphore(client.getMaxConcurrentCalls());
+        this.circuitBreaker = new KakaoCircuitBreaker(client.getFailureThreshold(), client.getOpenDuration());
+        this.maxWait = client.getMaxWait();
+        // 풀 대기 + 연결 + 응답을 모두 합친 호출 전체 상한
+        this.callTimeout = client.getPendingAcquireTimeout()
+                .plus(client.getConnectTimeout())
+                .plus(client.getResponseTimeout());
+    }
+
+    /**
+     * 인가 코드로 카카오 액세스 토큰 발급
+     */
+    public KakaoTokenResponse requestToken(String code, String redirectUri) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("client_id", kakaoProperties.getClientId());
+        formData.add("redirect_uri", redirectUri);
+        formData.add("code", code);
+
+        KakaoTokenResponse response = execute("token", ErrorCode.OAUTH_TOKEN_FAILED, webClient.post()
+                .uri(kakaoProperties.getAuthBaseUrl() + TOKEN_PATH)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .bodyValue(formData)
+                .retrieve()
+                .bodyToMono(KakaoTokenResponse.class));
+
+        if (response == null || response.accessToken() == null) {
+            throw new BusinessException(ErrorCode.OAUTH_TOKEN_FAILED);
+        }
+        return response;
+    }
+
+    /**
+     * 카카오 액세스 토큰으로 사용자 정보 조회
+     */
+    public KakaoUserResponse getUserInfo(String accessToken) {
+        KakaoUserResponse response = execute("user-info", ErrorCode.OAUTH_USER_INFO_FAILED, webClient.get()
+                .uri(kakaoProperties.getApiBaseUrl() + USER_INFO_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(KakaoUserResponse.class));
+
+        if (response == null || response.id() == null) {
+            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED);
+        }
+        return response;
+    }
+
+    /**
+     * 서킷 브레이커와 벌크헤드를 거쳐 호출
+     * - 4xx: 잘못된 인가 코드/토큰 등 요청 문제이므로 서킷 실패로 세지 않고 failureCode로 응답
+     * - 타임아웃, 연결 실패, 5xx: 서킷 실패로 기록
+     * - 서킷 OPEN 또는 벌크헤드 포화: 카카오를 호출하지 않고 OAUTH_PROVIDER_UNAVAILABLE
+     */
+    private <T> T execute(String operation, ErrorCode failureCode, Mono<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            record(operation, "circuit-open", 0);
+            throw new BusinessException(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+        }
+        if (!acquirePermit()) {
+            // 호출하지 않았으므로 서킷 상태는 그대로 (HALF_OPEN 시험 호출이었다면 다시 OPEN으로 돌려 다음 시험을 기다림)
+            if (circuitBreaker.getState() == KakaoCircuitBreaker.State.HALF_OPEN) {
+                circuitBreaker.onFailure();
+            }
+            record(operation, "bulkhead-full", 0);
+            throw new BusinessException(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.block(callTimeout);
+            circuitBreaker.onSuccess();
+            record(operation, "success", System.nanoTime() - start);
+            return result;
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                circuitBreaker.onIgnoredFailure();
+                record(operation, "client-error", System.nanoTime() - start);
+                log.warn("Kakao {} rejected: status={}, body={}", operation, e.getStatusCode(), e.getResponseBodyAsString());
+                throw new BusinessException(failureCode);
+            }
+            circuitBreaker.onFailure();
+            record(operation, "server-error", System.nanoTime() - start);
+            log.error("Kakao {} failed: status={}", operation, e.getStatusCode());
+            throw new BusinessException(failureCode);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            record(operation, "error", System.nanoTime() - start);
+            log.error("Kakao {} failed: {}", operation, e.getMessage());
+            throw new BusinessException(failureCode);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String operation, String outcome, long elapsedNanos) {
+        Timer.builder("kakao.api.requests")
+                .description("카카오 API 호출 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,69 @@
+package com.wiedu.oauth.kakao;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카카오 API 호출용 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 즉시 실패 (카카오 장애 시 요청 스레드가 타임아웃까지 묶이지 않도록)
+ * - HALF_OPEN: openDuration 경과 후 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+class KakaoCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    KakaoCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN 전환은 한 스레드만 성공하므로 시험 호출은 1건)
+     */
+    boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAt.get() >= openNanos) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.nanoTime());
+            state.set(State.OPEN);
+        }
+    }
+
+    /**
+     * 카카오가 응답은 했지만 요청 자체가 잘못된 경우 (4xx)
+     * 장애가 아니므로 실패 횟수에 넣지 않고, 시험 호출이었다면 연결은 정상으로 보고 닫음
+     */
+    void onIgnoredFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            onSuccess();
+        }
+    }
+
+    State getState() {
+        return state.get();
+    }
+}
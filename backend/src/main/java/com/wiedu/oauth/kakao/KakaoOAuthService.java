@@ -1,26 +1,18 @@
 package com.wiedu.oauth.kakao;
 
-import com.wiedu.domain.entity.RefreshToken;
 import com.wiedu.domain.entity.User;
 import com.wiedu.dto.oauth.KakaoTokenResponse;
 import com.wiedu.dto.oauth.KakaoUserResponse;
 import com.wiedu.dto.auth.TokenResponse;
-import com.wiedu.exception.BusinessException;
-import com.wiedu.exception.ErrorCode;
-import com.wiedu.repository.auth.RefreshTokenRepository;
 import com.wiedu.repository.user.UserRepository;
 import com.wiedu.security.jwt.JwtProvider;
+import com.wiedu.service.auth.RefreshTokenService;
+import com.wiedu.service.user.EmailAvailabilityOracle;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -28,25 +20,23 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class KakaoOAuthService {
 
-    private static final String KAKAO_AUTH_URL = "https://kauth.kakao.com/oauth/authorize";
-    private static final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
-    private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+    private static final String KAKAO_AUTHORIZE_PATH = "/oauth/authorize";
     private static final String OAUTH_PROVIDER = "KAKAO";
 
     private final KakaoProperties kakaoProperties;
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final WebClient webClient = WebClient.builder().build();
-
-    private static final int MAX_REFRESH_TOKENS_PER_USER = 5;
+    private final RefreshTokenService refreshTokenService;
+    private final KakaoApiClient kakaoApiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailAvailabilityOracle emailAvailabilityOracle;
 
     /**
      * 카카오 인가 URL 생성
      * 클라이언트에서 API Key를 노출하지 않도록 서버에서 URL 생성
      */
     public String generateAuthorizationUrl(String state, String scope) {
-        return KAKAO_AUTH_URL +
+        return kakaoProperties.getAuthBaseUrl() + KAKAO_AUTHORIZE_PATH +
                 "?client_id=" + kakaoProperties.getClientId() +
                 "&redirect_uri=" + java.net.URLEncoder.encode(kakaoProperties.getRedirectUri(), java.nio.charset.StandardCharsets.UTF_8) +
                 "&response_type=code" +
@@ -60,93 +50,43 @@ public class KakaoOAuthService {
      * 2. 액세스 토큰으로 사용자 정보 조회
      * 3. 사용자 생성 또는 조회
      * 4. JWT 토큰 발급
+     * 카카오 호출(1, 2)은 트랜잭션 밖에서 수행하여 카카오 응답을 기다리는 동안 DB 커넥션을 점유하지 않음
      */
-    @Transactional
     public TokenResponse login(String code, String redirectUri) {
         // 1. 카카오 액세스 토큰 발급
-        KakaoTokenResponse kakaoToken = getKakaoToken(code, redirectUri);
+        KakaoTokenResponse kakaoToken = kakaoApiClient.requestToken(
+                code, redirectUri != null ? redirectUri : kakaoProperties.getRedirectUri());
         log.debug("Kakao token received: {}", kakaoToken.tokenType());
 
         // 2. 카카오 사용자 정보 조회
-        KakaoUserResponse kakaoUser = getKakaoUserInfo(kakaoToken.accessToken());
+        KakaoUserResponse kakaoUser = kakaoApiClient.getUserInfo(kakaoToken.accessToken());
         log.debug("Kakao user info: id={}, email={}", kakaoUser.id(), kakaoUser.getEmail());
 
-        // 3. 사용자 조회 또는 생성
-        User user = findOrCreateUser(kakaoUser);
-        user.updateLastLogin();
-
-        // 4. JWT 토큰 발급
-        String accessToken = jwtProvider.createAccessToken(user.getId(), user.getEmail(), user.getNickname());
-        String refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getEmail());
-
-        // 5. Refresh Token을 DB에 저장
-        saveRefreshToken(user, refreshToken);
-
-        log.info("Kakao login successful: userId={}, email={}", user.getId(), user.getEmail());
-
-        return TokenResponse.of(accessToken, refreshToken, jwtProvider.getAccessTokenValidity(), user.isOnboardingCompleted());
+        return transactionTemplate.execute(status -> issueTokens(kakaoUser));
     }
 
     /**
      * 서버 리다이렉트 URI를 사용한 카카오 로그인
      * 카카오 콜백 엔드포인트에서 사용
      */
-    @Transactional
     public TokenResponse loginWithServerRedirect(String code) {
         return login(code, kakaoProperties.getRedirectUri());
     }
 
-    /**
-     * 인가 코드로 카카오 액세스 토큰 발급
-     */
-    private KakaoTokenResponse getKakaoToken(String code, String redirectUri) {
-        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-        formData.add("grant_type", "authorization_code");
-        formData.add("client_id", kakaoProperties.getClientId());
-        formData.add("redirect_uri", redirectUri != null ? redirectUri : kakaoProperties.getRedirectUri());
-        formData.add("code", code);
-
-        try {
-            KakaoTokenResponse response = webClient.post()
-                    .uri(KAKAO_TOKEN_URL)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .bodyValue(formData)
-                    .retrieve()
-                    .bodyToMono(KakaoTokenResponse.class)
-                    .block();
-
-            if (response == null || response.accessToken() == null) {
-                throw new BusinessException(ErrorCode.OAUTH_TOKEN_FAILED);
-            }
-
-            return response;
-        } catch (Exception e) {
-            log.error("Failed to get Kakao token: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.OAUTH_TOKEN_FAILED);
-        }
-    }
+    private TokenResponse issueTokens(KakaoUserResponse kakaoUser) {
+        // 3. 사용자 조회 또는 생성
+        User user = findOrCreateUser(kakaoUser);
+        user.updateLastLogin();
 
-    /**
-     * 카카오 액세스 토큰으로 사용자 정보 조회
-     */
-    private KakaoUserResponse getKakaoUserInfo(String accessToken) {
-        try {
-            KakaoUserResponse response = webClient.get()
-                    .uri(KAKAO_USER_INFO_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(KakaoUserResponse.class)
-                    .block();
-
-            if (response == null || response.id() == null) {
-                throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED);
-            }
-
-            return response;
-        } catch (Exception e) {
-            log.error("Failed to get Kakao user info: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.OAUTH_USER_INFO_FAILED);
-        }
+        // 4. JWT 토큰 발급
+        String accessToken = jwtProvider.createAccessToken(user.getId(), user.getEmail(), user.getNickname());
+
+        // 5. Refresh Token 발급 (DB에는 다이제스트만 저장)
+        String refreshToken = refreshTokenService.issue(user);
+
+        log.info("Kakao login successful: userId={}, email={}", user.getId(), user.getEmail());
+
+        return TokenResponse.of(accessToken, refreshToken, jwtProvider.getAccessTokenValidity(), user.isOnboardingCompleted());
     }
 
     /**
@@ -188,23 +128,8 @@ public class KakaoOAuthService {
         User newUser = User.createOAuthUser(email, nickname, profileImage, OAUTH_PROVIDER, kakaoId);
         newUser.verifyEmail(); // OAuth 사용자는 이메일 인증 완료 처리
 
-        return userRepository.save(newUser);
-    }
-
-    /**
-     * Refresh Token을 DB에 저장
-     */
-    private void saveRefreshToken(User user, String token) {
-        // 사용자당 최대 토큰 수 제한 (오래된 토큰 자동 폐기)
-        if (refreshTokenRepository.countByUserAndRevokedFalse(user) >= MAX_REFRESH_TOKENS_PER_USER) {
-            refreshTokenRepository.revokeAllByUser(user, LocalDateTime.now());
-        }
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(token)
-                .expiresAt(LocalDateTime.now().plusDays(14)) // 14일 유효
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        User savedUser = userRepository.save(newUser);
+        emailAvailabilityOracle.register(savedUser.getEmail());
+        return savedUser;
     }
 }
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "kakao")
 @Getter
@@ -12,4 +14,29 @@ import org.springframework.stereotype.Component;
 public class KakaoProperties {
     private String clientId;
     private String redirectUri;
+    // 로컬 스텁 서버로 교체할 수 있도록 호스트를 설정으로 분리
+    private String authBaseUrl = "https://kauth.kakao.com";
+    private String apiBaseUrl = "https://kapi.kakao.com";
+    private Client client = new Client();
+
+    /**
+     * 카카오 API 호출용 HTTP 클라이언트 설정 (KakaoApiClient)
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        // 커넥션 풀
+        private int maxConnections = 50;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(1);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        // 타임아웃
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration responseTimeout = Duration.ofSeconds(3);
+        // 벌크헤드: 동시 호출 수 상한과 자리가 날 때까지 기다리는 최대 시간
+        private int maxConcurrentCalls = 20;
+        private Duration maxWait = Duration.ofMillis(500);
+        // 서킷 브레이커: 연속 실패 횟수 기준으로 열리고 openDuration 뒤 시험 호출 1건 허용
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
 }
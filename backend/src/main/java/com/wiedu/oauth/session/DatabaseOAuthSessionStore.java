@@ -0,0 +1,86 @@
+package com.wiedu.oauth.session;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiedu.domain.entity.OAuthSession;
+import com.wiedu.dto.auth.TokenResponse;
+import com.wiedu.repository.auth.OAuthSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * DB 기반 OAuth 세션 저장소 (여러 인스턴스 공유)
+ * 콜백을 받은 인스턴스와 폴링을 받은 인스턴스가 달라도 같은 세션을 조회할 수 있음
+ * 토큰 응답은 OAuthSessionCipher로 암호화하여 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "oauth.session.store", havingValue = "database")
+public class DatabaseOAuthSessionStore implements OAuthSessionStore {
+
+    private final OAuthSessionRepository sessionRepository;
+    private final ObjectMapper objectMapper;
+    private final OAuthSessionCipher cipher;
+
+    @Override
+    @Transactional
+    public void put(String sessionId, TokenResponse tokens, Instant expiresAt) {
+        try {
+            sessionRepository.save(new OAuthSession(
+                    sessionId, cipher.encrypt(objectMapper.writeValueAsString(tokens)), toLocalDateTime(expiresAt)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize OAuth session tokens", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Optional<TokenResponse> take(String sessionId) {
+        Optional<OAuthSession> session = sessionRepository.findById(sessionId);
+        // 삭제에 성공한 요청만 토큰을 가져감 (동시 폴링 시 한 번만 반환)
+        if (session.isEmpty() || sessionRepository.deleteBySessionId(sessionId) == 0) {
+            return Optional.empty();
+        }
+        if (session.get().isExpired()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(cipher.decrypt(session.get().getPayload()), TokenResponse.class));
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            log.error("Failed to read OAuth session tokens: {}", sessionId);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findReady(Collection<String> sessionIds) {
+        return sessionRepository.findReadyIds(sessionIds, LocalDateTime.now());
+    }
+
+    /**
+     * 조회되지 않고 만료된 세션 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    @Transactional
+    public void deleteExpired() {
+        sessionRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
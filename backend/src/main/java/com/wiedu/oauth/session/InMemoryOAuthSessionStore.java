@@ -0,0 +1,70 @@
+package com.wiedu.oauth.session;
+
+import com.wiedu.dto.auth.TokenResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 기반 OAuth 세션 저장소
+ * 세션 TTL이 고정이므로 저장 순서가 곧 만료 순서 → 큐 앞에서 만료된 항목만 꺼내면 되어
+ * 전체 맵을 훑지 않고 정리 비용이 항목당 O(1)
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOAuthSessionStore implements OAuthSessionStore {
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final Queue<Entry> expiryQueue = new ConcurrentLinkedQueue<>();
+
+    private record Entry(String sessionId, TokenResponse tokens, Instant expiresAt) {}
+
+    @Override
+    public void put(String sessionId, TokenResponse tokens, Instant expiresAt) {
+        Instant now = Instant.now();
+        evictExpired(now);
+
+        Entry entry = new Entry(sessionId, tokens, expiresAt);
+        sessions.put(sessionId, entry);
+        expiryQueue.add(entry);
+    }
+
+    @Override
+    public Optional<TokenResponse> take(String sessionId) {
+        Entry entry = sessions.remove(sessionId);
+        if (entry == null || !entry.expiresAt().isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.tokens());
+    }
+
+    @Override
+    public Set<String> findReady(Collection<String> sessionIds) {
+        Instant now = Instant.now();
+        return sessionIds.stream()
+                .filter(sessionId -> {
+                    Entry entry = sessions.get(sessionId);
+                    return entry != null && entry.expiresAt().isAfter(now);
+                })
+                .collect(Collectors.toSet());
+    }
+
+    private void evictExpired(Instant now) {
+        Entry head;
+        while ((head = expiryQueue.peek()) != null && !head.expiresAt().isAfter(now)) {
+            if (expiryQueue.remove(head)) {
+                // 같은 세션 ID로 다시 저장된 경우 최신 항목은 유지
+                sessions.remove(head.sessionId(), head);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wiedu.oauth.session;
+
+import com.wiedu.security.jwt.JwtProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * DB 저장 OAuth 세션 페이로드 암호화 (AES-256-GCM)
+ * 세션에는 발급된 액세스/리프레시 토큰 원문이 들어가므로 DB에는 암호문만 저장
+ * (리프레시 토큰을 다이제스트로만 보관하는 REFRESH_TOKENS와 같은 수준 유지)
+ *
+ * 키는 JWT 서명 키에서 용도 구분 문자열을 붙여 SHA-256으로 유도 (별도 비밀 설정 없이 인스턴스 간 공유)
+ * 저장 형식: Base64(IV 12바이트 + 암호문 + 인증 태그)
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.session.store", havingValue = "database")
+class OAuthSessionCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String KEY_CONTEXT = "wiedu:oauth-session:";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+
+    OAuthSessionCipher(JwtProperties jwtProperties) {
+        try {
+            byte[] material = MessageDigest.getInstance("SHA-256")
+                    .digest((KEY_CONTEXT + jwtProperties.getSecret()).getBytes(StandardCharsets.UTF_8));
+            this.key = new SecretKeySpec(material, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive OAuth session key", e);
+        }
+    }
+
+    String encrypt(String plaintext) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt OAuth session payload", e);
+        }
+    }
+
+    /**
+     * @throws GeneralSecurityException 변조되었거나 다른 키로 암호화된 경우
+     */
+    String decrypt(String payload) throws GeneralSecurityException {
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralSecurityException("Invalid OAuth session payload encoding", e);
+        }
+        if (data.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("OAuth session payload too short");
+        }
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+        byte[] decrypted = cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+}
@@ -1,63 +1,99 @@
 package com.wiedu.oauth.session;
 
 import com.wiedu.dto.auth.TokenResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OAuth 세션 관리 서비스
- * 폴링 기반 OAuth 플로우를 위한 임시 토큰 저장소
+ * 폴링 기반 OAuth 플로우를 위한 임시 토큰 저장 + 롱 폴링 대기
+ *
+ * 폴링 요청은 토큰이 준비될 때까지(최대 대기 시간) 응답을 보류
+ * - 같은 인스턴스에서 콜백이 처리되면 즉시 응답
+ * - 다른 인스턴스에서 처리된 경우(database 저장소) 주기적으로 저장소를 다시 확인
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class OAuthSessionService {
 
-    // sessionId -> TokenResponse (5분 후 자동 만료)
-    private final Map<String, SessionData> sessions = new ConcurrentHashMap<>();
+    private static final Duration SESSION_TTL = Duration.ofMinutes(5);
 
-    private static final long SESSION_EXPIRY_MS = 5 * 60 * 1000; // 5분
+    private final OAuthSessionStore sessionStore;
 
-    public record SessionData(TokenResponse tokens, long createdAt) {}
+    // sessionId -> 대기 중인 폴링 요청 (세션당 하나, 새 요청이 오면 이전 요청은 pending으로 종료)
+    private final Map<String, Waiter> waiters = new ConcurrentHashMap<>();
+
+    private record Waiter(CompletableFuture<Optional<TokenResponse>> future, Instant deadline) {}
 
     /**
-     * OAuth 세션에 토큰 저장
+     * OAuth 세션에 토큰 저장 (대기 중인 폴링 요청이 있으면 바로 전달)
      */
     public void storeTokens(String sessionId, TokenResponse tokens) {
         log.info("Storing tokens for session: {}", sessionId);
-        sessions.put(sessionId, new SessionData(tokens, System.currentTimeMillis()));
-        cleanupExpiredSessions();
+        Waiter waiter = waiters.remove(sessionId);
+        if (waiter != null && waiter.future().complete(Optional.of(tokens))) {
+            return;
+        }
+        sessionStore.put(sessionId, tokens, Instant.now().plus(SESSION_TTL));
     }
 
     /**
-     * OAuth 세션에서 토큰 조회 및 삭제
+     * 토큰이 준비될 때까지 대기 (롱 폴링)
+     *
+     * @param timeout 최대 대기 시간 (0이면 즉시 조회 결과 반환)
+     * @return 토큰 또는 대기 시간 초과 시 empty
      */
-    public TokenResponse retrieveTokens(String sessionId) {
-        SessionData data = sessions.remove(sessionId);
-        if (data == null) {
-            log.debug("No tokens found for session: {}", sessionId);
-            return null;
+    public CompletableFuture<Optional<TokenResponse>> awaitTokens(String sessionId, Duration timeout) {
+        Optional<TokenResponse> tokens = sessionStore.take(sessionId);
+        if (tokens.isPresent() || timeout.isZero()) {
+            return CompletableFuture.completedFuture(tokens);
         }
 
-        // 만료된 세션 체크
-        if (System.currentTimeMillis() - data.createdAt() > SESSION_EXPIRY_MS) {
-            log.warn("Session expired: {}", sessionId);
-            return null;
+        Waiter waiter = new Waiter(new CompletableFuture<>(), Instant.now().plus(timeout));
+        Waiter previous = waiters.put(sessionId, waiter);
+        if (previous != null) {
+            previous.future().complete(Optional.empty());
         }
-
-        log.info("Retrieved tokens for session: {}", sessionId);
-        return data.tokens();
+        return waiter.future();
     }
 
     /**
-     * 만료된 세션 정리
+     * 대기 중인 요청 처리
+     * - 다른 인스턴스에서 저장된 토큰 확인 (대기 중인 세션 전체를 한 번에 조회한 뒤 준비된 세션만 꺼냄)
+     * - 대기 시간이 지난 요청은 pending으로 종료
      */
-    private void cleanupExpiredSessions() {
-        long now = System.currentTimeMillis();
-        sessions.entrySet().removeIf(entry ->
-            now - entry.getValue().createdAt() > SESSION_EXPIRY_MS
-        );
+    @Scheduled(fixedDelay = 500)
+    public void resolveWaiters() {
+        Set<String> waiting = Set.copyOf(waiters.keySet());
+        if (waiting.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        Set<String> ready = sessionStore.findReady(waiting);
+        waiters.forEach((sessionId, waiter) -> {
+            if (waiter.future().isDone()) {
+                waiters.remove(sessionId, waiter);
+                return;
+            }
+            Optional<TokenResponse> tokens = ready.contains(sessionId) ? sessionStore.take(sessionId) : Optional.empty();
+            if (tokens.isPresent() || now.isAfter(waiter.deadline())) {
+                waiters.remove(sessionId, waiter);
+                if (!waiter.future().complete(tokens) && tokens.isPresent()) {
+                    // 이미 종료된 요청이면 다음 폴링에서 가져가도록 되돌림
+                    sessionStore.put(sessionId, tokens.get(), now.plus(SESSION_TTL));
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,28 @@
+package com.wiedu.oauth.session;
+
+import com.wiedu.dto.auth.TokenResponse;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * OAuth 폴링 세션 토큰 저장소
+ * - memory: 단일 인스턴스용 (기본값)
+ * - database: 여러 인스턴스가 같은 세션을 조회해야 할 때 (oauth.session.store=database)
+ */
+public interface OAuthSessionStore {
+
+    void put(String sessionId, TokenResponse tokens, Instant expiresAt);
+
+    /**
+     * 토큰을 꺼내고 세션 삭제 (한 번만 조회 가능, 만료된 세션은 empty)
+     */
+    Optional<TokenResponse> take(String sessionId);
+
+    /**
+     * 주어진 세션 중 토큰이 저장된 세션 ID (꺼내지 않고 확인만, 대기 요청 일괄 확인용)
+     */
+    Set<String> findReady(Collection<String> sessionIds);
+}
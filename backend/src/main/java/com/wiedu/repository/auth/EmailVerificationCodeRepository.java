@@ -1,28 +1,39 @@
 package com.wiedu.repository.auth;
 
 import com.wiedu.domain.entity.EmailVerificationCode;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmailVerificationCodeRepository extends JpaRepository<EmailVerificationCode, Long> {
 
     /**
-     * 이메일로 가장 최근 인증 코드 조회 (만료되지 않고 미인증인 것)
+     * 이메일로 가장 최근 미인증 코드 조회 (잠금 행 제외, 실패 횟수 갱신을 위해 행 잠금)
      */
-    @Query("SELECT e FROM EmailVerificationCode e WHERE e.email = :email AND e.verified = false AND e.expiresAt > :now ORDER BY e.createdAt DESC LIMIT 1")
-    Optional<EmailVerificationCode> findLatestValidCode(@Param("email") String email, @Param("now") LocalDateTime now);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EmailVerificationCode e WHERE e.email = :email AND e.verified = false AND e.lockedUntil IS NULL ORDER BY e.id DESC LIMIT 1")
+    Optional<EmailVerificationCode> findLatestUnverifiedForUpdate(@Param("email") String email);
 
     /**
-     * 이메일로 인증 완료된 코드 조회
+     * 입력 실패 초과로 잠겨 있는지 확인
      */
-    Optional<EmailVerificationCode> findByEmailAndVerifiedTrue(String email);
+    @Query("SELECT COUNT(e) > 0 FROM EmailVerificationCode e WHERE e.email = :email AND e.lockedUntil > :now")
+    boolean existsLockedByEmail(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    /**
+     * 인증 완료 상태가 유지 중인지 확인
+     */
+    boolean existsByEmailAndVerifiedTrueAndExpiresAtAfter(String email, LocalDateTime now);
 
     /**
      * 만료된 코드 삭제
@@ -32,9 +43,25 @@ public interface EmailVerificationCodeRepository extends JpaRepository<EmailVeri
     void deleteExpiredCodes(@Param("now") LocalDateTime now);
 
     /**
-     * 이메일의 모든 미인증 코드 삭제 (새 코드 발급 전)
+     * 정리 대상(만료 후 보관 기간 경과) 코드 ID를 커서 이후부터 ID 순으로 조회 (PK 범위 스캔)
+     */
+    @Query("SELECT e.id FROM EmailVerificationCode e WHERE e.id > :cursor AND e.expiresAt < :cutoff ORDER BY e.id")
+    List<Long> findPurgeableIds(@Param("cursor") Long cursor, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailVerificationCode e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 아직 삭제되지 않은 가장 오래된 정리 대상 코드의 만료 시간 (정리 지연 측정용)
+     */
+    @Query("SELECT MIN(e.expiresAt) FROM EmailVerificationCode e WHERE e.expiresAt < :cutoff")
+    Optional<LocalDateTime> findOldestExpiredAt(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 이메일의 모든 미인증 코드 삭제 (새 코드 발급 전, 잠금이 유지 중인 행은 남김)
      */
     @Modifying
-    @Query("DELETE FROM EmailVerificationCode e WHERE e.email = :email AND e.verified = false")
-    void deleteUnverifiedByEmail(@Param("email") String email);
+    @Query("DELETE FROM EmailVerificationCode e WHERE e.email = :email AND e.verified = false AND (e.lockedUntil IS NULL OR e.lockedUntil <= :now)")
+    void deleteUnverifiedByEmail(@Param("email") String email, @Param("now") LocalDateTime now);
 }
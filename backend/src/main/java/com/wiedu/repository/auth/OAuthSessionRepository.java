@@ -0,0 +1,28 @@
+package com.wiedu.repository.auth;
+
+import com.wiedu.domain.entity.OAuthSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+public interface OAuthSessionRepository extends JpaRepository<OAuthSession, String> {
+
+    /**
+     * 대기 중인 세션 중 토큰이 저장된(만료 전) 세션 ID를 한 번에 조회
+     */
+    @Query("SELECT s.sessionId FROM OAuthSession s WHERE s.sessionId IN :sessionIds AND s.expiresAt > :now")
+    Set<String> findReadyIds(@Param("sessionIds") Collection<String> sessionIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OAuthSession s WHERE s.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("DELETE FROM OAuthSession s WHERE s.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,19 +2,22 @@ package com.wiedu.repository.auth;
 
 import com.wiedu.domain.entity.RefreshToken;
 import com.wiedu.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    Optional<RefreshToken> findByTokenAndRevokedFalse(String token);
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user WHERE rt.tokenHash = :tokenHash AND rt.revoked = false")
+    Optional<RefreshToken> findActiveByTokenHashWithUser(@Param("tokenHash") String tokenHash);
 
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now WHERE rt.user = :user AND rt.revoked = false")
@@ -24,7 +27,34 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now OR rt.revoked = true")
     void deleteExpiredAndRevoked(@Param("now") LocalDateTime now);
 
-    long countByUserAndRevokedFalse(User user);
+    /**
+     * 정리 대상(만료 또는 폐기) 토큰 ID를 커서 이후부터 ID 순으로 조회 (PK 범위 스캔)
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.id > :cursor AND (rt.expiresAt < :now OR rt.revoked = true) ORDER BY rt.id")
+    List<Long> findPurgeableIds(@Param("cursor") Long cursor, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 아직 삭제되지 않은 가장 오래된 만료 토큰의 만료 시간 (정리 지연 측정용)
+     */
+    @Query("SELECT MIN(rt.expiresAt) FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    Optional<LocalDateTime> findOldestExpiredAt(@Param("now") LocalDateTime now);
+
+    /**
+     * 최신 keep개를 제외한 활성 토큰 폐기 (사용자당 활성 토큰 수 제한, 단일 UPDATE)
+     * 활성 토큰이 keep개 이하면 기준 ID가 NULL이 되어 아무것도 폐기하지 않음
+     */
+    @Modifying
+    @Query(value = "UPDATE refresh_tokens SET revoked = true, revoked_at = :now " +
+                   "WHERE user_id = :userId AND revoked = false AND id < (" +
+                   "  SELECT boundary.id FROM (" +
+                   "    SELECT id FROM refresh_tokens WHERE user_id = :userId AND revoked = false " +
+                   "    ORDER BY id DESC LIMIT 1 OFFSET :offset" +
+                   "  ) boundary)", nativeQuery = true)
+    int revokeAllButLatest(@Param("userId") Long userId, @Param("offset") int offset, @Param("now") LocalDateTime now);
 
     /**
      * 사용자 삭제 시 해당 사용자의 모든 리프레시 토큰 삭제
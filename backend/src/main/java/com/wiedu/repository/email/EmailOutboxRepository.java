@@ -0,0 +1,66 @@
+package com.wiedu.repository.email;
+
+import com.wiedu.domain.entity.EmailOutbox;
+import com.wiedu.domain.enums.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 시점이 된 항목 ID (재시도 대기 PENDING + 선점 만료된 SENDING)
+     */
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status IN :statuses AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<Long> findDueIds(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /**
+     * 조건부 UPDATE로 선점 (다른 워커/인스턴스가 먼저 가져간 항목은 조건에서 빠짐)
+     * 선점한 항목은 leaseUntil을 nextAttemptAt으로 가지므로 findClaimed로 다시 조회
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutbox e SET e.status = :sending, e.attempts = e.attempts + 1, " +
+           "e.nextAttemptAt = :leaseUntil, e.updatedAt = :now " +
+           "WHERE e.id IN :ids AND e.status IN :statuses AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") List<Long> ids,
+              @Param("statuses") Collection<EmailOutboxStatus> statuses,
+              @Param("sending") EmailOutboxStatus sending,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT e FROM EmailOutbox e WHERE e.id IN :ids AND e.status = :sending AND e.nextAttemptAt = :leaseUntil")
+    List<EmailOutbox> findClaimed(@Param("ids") List<Long> ids,
+                                  @Param("sending") EmailOutboxStatus sending,
+                                  @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 정리 대상(발송 완료/최종 실패 후 보관 기간 경과) ID를 커서 이후부터 ID 순으로 조회
+     */
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.id > :cursor AND e.status IN :statuses AND e.updatedAt < :cutoff ORDER BY e.id")
+    List<Long> findPurgeableIds(@Param("cursor") Long cursor,
+                                @Param("statuses") Collection<EmailOutboxStatus> statuses,
+                                @Param("cutoff") LocalDateTime cutoff,
+                                Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 아직 삭제되지 않은 가장 오래된 정리 대상의 완료 시간 (정리 지연 측정용)
+     */
+    @Query("SELECT MIN(e.updatedAt) FROM EmailOutbox e WHERE e.status IN :statuses AND e.updatedAt < :cutoff")
+    Optional<LocalDateTime> findOldestFinishedAt(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                                                 @Param("cutoff") LocalDateTime cutoff);
+}
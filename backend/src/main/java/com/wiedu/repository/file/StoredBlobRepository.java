@@ -0,0 +1,43 @@
+package com.wiedu.repository.file;
+
+import com.wiedu.domain.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 내용 주소 기반 업로드 파일 Repository
+ * 참조 수 변경은 원자적 UPDATE로만 수행 (동시 업로드/삭제 시 갱신 손실 방지)
+ */
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+
+    Optional<StoredBlob> findByNamespaceAndDigest(String namespace, String digest);
+
+    Optional<StoredBlob> findByStoredPath(String storedPath);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount + 1, b.updatedAt = CURRENT_TIMESTAMP WHERE b.id = :id")
+    int incrementRefCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.id = :id AND b.refCount > 0")
+    int decrementRefCount(@Param("id") Long id);
+
+    /**
+     * 참조가 없는 경우에만 삭제
+     * @return 삭제된 행 수 (0이면 그 사이 다시 참조됨)
+     */
+    @Modifying
+    @Query("DELETE FROM StoredBlob b WHERE b.id = :id AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE StoredBlob b SET b.variants = :variants, b.placeholder = :placeholder WHERE b.storedPath = :storedPath")
+    int updateVariants(@Param("storedPath") String storedPath,
+                       @Param("variants") String variants,
+                       @Param("placeholder") String placeholder);
+}
@@ -0,0 +1,32 @@
+package com.wiedu.repository.file;
+
+import com.wiedu.domain.entity.StoredBlob;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 업로드 파일을 참조하는 URL 조회 (업로드 GC용)
+ * GALLERY_PHOTOS.stored_file_url, USERS.profile_image, STUDIES.cover_image_url
+ */
+public interface UploadReferenceRepository extends Repository<StoredBlob, Long> {
+
+    /**
+     * 참조 중인 업로드 상대 경로('/uploads/' 이후)를 바이트 순으로 after 다음부터 조회
+     * - base-url이 바뀌기 전에 저장된 URL도 같은 파일로 인식하도록 상대 경로로 비교
+     * - 파일 트리 순회(Java 문자열 순)와 같은 순서로 병합하기 위해 collation 대신 바이트 순 정렬
+     */
+    @Query(value = "SELECT r.path FROM (" +
+            "SELECT SUBSTRING_INDEX(stored_file_url, '/uploads/', -1) AS path FROM gallery_photos " +
+            "WHERE stored_file_url LIKE '%/uploads/%' " +
+            "UNION ALL SELECT SUBSTRING_INDEX(profile_image, '/uploads/', -1) FROM users " +
+            "WHERE profile_image LIKE '%/uploads/%' " +
+            "UNION ALL SELECT SUBSTRING_INDEX(cover_image_url, '/uploads/', -1) FROM studies " +
+            "WHERE cover_image_url LIKE '%/uploads/%'" +
+            ") r WHERE CAST(r.path AS BINARY) > CAST(:after AS BINARY) " +
+            "ORDER BY CAST(r.path AS BINARY) " +
+            "LIMIT :limitCount", nativeQuery = true)
+    List<String> findReferencedPathsAfter(@Param("after") String after, @Param("limitCount") int limitCount);
+}
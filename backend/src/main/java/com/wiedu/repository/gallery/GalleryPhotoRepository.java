@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,6 +37,15 @@ public interface GalleryPhotoRepository extends JpaRepository<GalleryPhoto, Long
      */
     Page<GalleryPhoto> findByUploaderIdOrderByCreatedAtDesc(Long uploaderId, Pageable pageable);
 
+    /**
+     * 썸네일 생성이 유실된 사진 조회 (cutoff 이전에 올라와 아직 PENDING)
+     * [id, storedFileUrl]
+     */
+    @Query("SELECT g.id, g.storedFileUrl FROM GalleryPhoto g " +
+           "WHERE g.processingStatus = com.wiedu.domain.enums.ImageProcessingStatus.PENDING " +
+           "AND g.createdAt < :cutoff ORDER BY g.id")
+    List<Object[]> findStalePending(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
     /**
      * 사용자 삭제 시 업로더를 NULL로 설정 (알 수 없음 처리)
      */
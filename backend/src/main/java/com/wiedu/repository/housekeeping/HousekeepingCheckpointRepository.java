@@ -0,0 +1,10 @@
+package com.wiedu.repository.housekeeping;
+
+import com.wiedu.domain.entity.HousekeepingCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 정리 작업 체크포인트 Repository
+ */
+public interface HousekeepingCheckpointRepository extends JpaRepository<HousekeepingCheckpoint, String> {
+}
@@ -0,0 +1,79 @@
+package com.wiedu.repository.review;
+
+import com.wiedu.domain.entity.LeaderReviewStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 스터디장 리뷰 집계 Repository
+ */
+public interface LeaderReviewStatsRepository extends JpaRepository<LeaderReviewStats, Long> {
+
+    /**
+     * 리뷰 1건 반영 (리뷰 수, 평점 합계, 해당 평점 분포 +1)
+     * 집계 행이 없으면 0 반환 → insertIfAbsent로 행을 만든 뒤 다시 호출
+     */
+    @Modifying
+    @Query("UPDATE LeaderReviewStats s SET s.reviewCount = s.reviewCount + 1, s.ratingSum = s.ratingSum + :rating, " +
+            "s.oneStarCount = s.oneStarCount + CASE WHEN :rating = 1 THEN 1 ELSE 0 END, " +
+            "s.twoStarCount = s.twoStarCount + CASE WHEN :rating = 2 THEN 1 ELSE 0 END, " +
+            "s.threeStarCount = s.threeStarCount + CASE WHEN :rating = 3 THEN 1 ELSE 0 END, " +
+            "s.fourStarCount = s.fourStarCount + CASE WHEN :rating = 4 THEN 1 ELSE 0 END, " +
+            "s.fiveStarCount = s.fiveStarCount + CASE WHEN :rating = 5 THEN 1 ELSE 0 END, " +
+            "s.updatedAt = :now WHERE s.leaderId = :leaderId")
+    int addReview(@Param("leaderId") Long leaderId, @Param("rating") int rating, @Param("now") LocalDateTime now);
+
+    /**
+     * 집계 행이 없을 때만 생성 (이미 있으면 무시)
+     * 동시에 생성하려는 트랜잭션은 먼저 삽입한 쪽이 커밋할 때까지 대기한 뒤 무시됨
+     *
+     * @return 생성했으면 1, 이미 있었으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO leader_review_stats (leader_id, review_count, rating_sum, one_star_count, " +
+            "two_star_count, three_star_count, four_star_count, five_star_count, created_at, updated_at) " +
+            "VALUES (:leaderId, :reviewCount, :ratingSum, :one, :two, :three, :four, :five, NOW(), NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("leaderId") Long leaderId,
+                       @Param("reviewCount") long reviewCount,
+                       @Param("ratingSum") long ratingSum,
+                       @Param("one") long one,
+                       @Param("two") long two,
+                       @Param("three") long three,
+                       @Param("four") long four,
+                       @Param("five") long five);
+
+    /**
+     * 재계산 중 리뷰 반영(addReview)이 끼어들지 않도록 집계 행 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM LeaderReviewStats s WHERE s.leaderId = :leaderId")
+    Optional<LeaderReviewStats> findByIdForUpdate(@Param("leaderId") Long leaderId);
+
+    /**
+     * 재계산 결과 저장 (행이 있으면 덮어쓰기, findByIdForUpdate로 잠근 상태에서만 호출)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO leader_review_stats (leader_id, review_count, rating_sum, one_star_count, two_star_count, " +
+            "three_star_count, four_star_count, five_star_count, created_at, updated_at) " +
+            "VALUES (:leaderId, :reviewCount, :ratingSum, :one, :two, :three, :four, :five, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), rating_sum = VALUES(rating_sum), " +
+            "one_star_count = VALUES(one_star_count), two_star_count = VALUES(two_star_count), " +
+            "three_star_count = VALUES(three_star_count), four_star_count = VALUES(four_star_count), " +
+            "five_star_count = VALUES(five_star_count), updated_at = NOW()", nativeQuery = true)
+    void upsert(@Param("leaderId") Long leaderId,
+                @Param("reviewCount") long reviewCount,
+                @Param("ratingSum") long ratingSum,
+                @Param("one") long one,
+                @Param("two") long two,
+                @Param("three") long three,
+                @Param("four") long four,
+                @Param("five") long five);
+}
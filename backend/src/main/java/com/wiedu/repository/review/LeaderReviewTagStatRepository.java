@@ -0,0 +1,33 @@
+package com.wiedu.repository.review;
+
+import com.wiedu.domain.entity.LeaderReviewTagStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 스터디장 리뷰 태그 빈도 Repository
+ */
+public interface LeaderReviewTagStatRepository extends JpaRepository<LeaderReviewTagStat, Long> {
+
+    // 스터디장의 태그 빈도 (많이 받은 순)
+    List<LeaderReviewTagStat> findByLeaderIdOrderByTagCountDesc(Long leaderId);
+
+    /**
+     * 태그 빈도 증가 (없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO leader_review_tag_stats (leader_id, tag, tag_count) VALUES (:leaderId, :tag, :count) " +
+            "ON DUPLICATE KEY UPDATE tag_count = tag_count + VALUES(tag_count)", nativeQuery = true)
+    void increment(@Param("leaderId") Long leaderId, @Param("tag") String tag, @Param("count") long count);
+
+    /**
+     * 재계산 전 스터디장의 태그 빈도 전체 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM LeaderReviewTagStat t WHERE t.leaderId = :leaderId")
+    void deleteByLeaderId(@Param("leaderId") Long leaderId);
+}
@@ -3,6 +3,7 @@ package com.wiedu.repository.review;
 import com.wiedu.domain.entity.Study;
 import com.wiedu.domain.entity.StudyLeaderReview;
 import com.wiedu.domain.entity.User;
+import com.wiedu.dto.review.StudyLeaderReviewResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,9 +25,25 @@ public interface StudyLeaderReviewRepository extends JpaRepository<StudyLeaderRe
     @Query("SELECT r FROM StudyLeaderReview r JOIN FETCH r.reviewer JOIN FETCH r.study WHERE r.leader = :leader ORDER BY r.createdAt DESC")
     List<StudyLeaderReview> findByLeaderWithDetails(@Param("leader") User leader);
 
-    // 내가 작성한 스터디장 리뷰 목록 (N+1 방지)
-    @Query("SELECT r FROM StudyLeaderReview r JOIN FETCH r.leader JOIN FETCH r.study WHERE r.reviewer = :reviewer ORDER BY r.createdAt DESC")
-    List<StudyLeaderReview> findByReviewerWithDetails(@Param("reviewer") User reviewer);
+    // 스터디장이 받은 리뷰 목록 (커서 기반, ID 내림차순 = 최신순, 표시 컬럼만 조회)
+    @Query("SELECT new com.wiedu.dto.review.StudyLeaderReviewResponse(" +
+            "r.id, rv.nickname, rv.profileImage, l.nickname, l.profileImage, " +
+            "r.rating, r.content, r.tags, s.title, r.createdAt) " +
+            "FROM StudyLeaderReview r LEFT JOIN r.reviewer rv JOIN r.leader l JOIN r.study s " +
+            "WHERE l.id = :leaderId AND (:cursor IS NULL OR r.id < :cursor) ORDER BY r.id DESC")
+    List<StudyLeaderReviewResponse> findReceivedBefore(@Param("leaderId") Long leaderId,
+                                                       @Param("cursor") Long cursor,
+                                                       Pageable pageable);
+
+    // 내가 작성한 스터디장 리뷰 목록 (커서 기반, ID 내림차순, 표시 컬럼만 조회)
+    @Query("SELECT new com.wiedu.dto.review.StudyLeaderReviewResponse(" +
+            "r.id, rv.nickname, rv.profileImage, l.nickname, l.profileImage, " +
+            "r.rating, r.content, r.tags, s.title, r.createdAt) " +
+            "FROM StudyLeaderReview r JOIN r.reviewer rv JOIN r.leader l JOIN r.study s " +
+            "WHERE rv.id = :reviewerId AND (:cursor IS NULL OR r.id < :cursor) ORDER BY r.id DESC")
+    List<StudyLeaderReviewResponse> findWrittenBefore(@Param("reviewerId") Long reviewerId,
+                                                      @Param("cursor") Long cursor,
+                                                      Pageable pageable);
 
     // 스터디장이 받은 리뷰 목록 (페이징, 최신순)
     Page<StudyLeaderReview> findByLeaderOrderByCreatedAtDesc(User leader, Pageable pageable);
@@ -38,6 +55,14 @@ public interface StudyLeaderReviewRepository extends JpaRepository<StudyLeaderRe
     @Query("SELECT AVG(r.rating) FROM StudyLeaderReview r WHERE r.leader.id = :leaderId")
     Double averageRatingByLeader(@Param("leaderId") Long leaderId);
 
+    // 평점별 리뷰 수 (집계 재계산용) - [rating, count]
+    @Query("SELECT r.rating, COUNT(r) FROM StudyLeaderReview r WHERE r.leader.id = :leaderId GROUP BY r.rating")
+    List<Object[]> countByRatingForLeader(@Param("leaderId") Long leaderId);
+
+    // 스터디장이 받은 리뷰의 태그 문자열 목록 (집계 재계산용)
+    @Query("SELECT r.tags FROM StudyLeaderReview r WHERE r.leader.id = :leaderId AND r.tags IS NOT NULL")
+    List<String> findTagsByLeaderId(@Param("leaderId") Long leaderId);
+
     // 중복 리뷰 방지 (한 스터디당 한 번만)
     boolean existsByReviewerAndStudy(User reviewer, Study study);
 
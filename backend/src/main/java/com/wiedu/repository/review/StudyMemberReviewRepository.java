@@ -3,6 +3,8 @@ package com.wiedu.repository.review;
 import com.wiedu.domain.entity.Study;
 import com.wiedu.domain.entity.StudyMemberReview;
 import com.wiedu.domain.entity.User;
+import com.wiedu.dto.review.StudyMemberReviewResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,13 +17,29 @@ import java.util.List;
  */
 public interface StudyMemberReviewRepository extends JpaRepository<StudyMemberReview, Long> {
 
-    // 특정 사용자가 받은 리뷰 목록 (N+1 방지)
-    @Query("SELECT r FROM StudyMemberReview r JOIN FETCH r.reviewer JOIN FETCH r.study WHERE r.reviewee = :reviewee ORDER BY r.createdAt DESC")
-    List<StudyMemberReview> findByRevieweeWithDetails(@Param("reviewee") User reviewee);
+    // 특정 사용자가 받은 리뷰 목록 (커서 기반, ID 내림차순, 표시 컬럼만 조회)
+    @Query("SELECT new com.wiedu.dto.review.StudyMemberReviewResponse(" +
+           "r.id, rv.id, rv.nickname, rv.profileImage, re.id, re.nickname, re.profileImage, " +
+           "s.title, r.rating, r.content, r.tags, r.createdAt) " +
+           "FROM StudyMemberReview r LEFT JOIN r.reviewer rv JOIN r.reviewee re JOIN r.study s " +
+           "WHERE re.id = :revieweeId AND (:cursor IS NULL OR r.id < :cursor) ORDER BY r.id DESC")
+    List<StudyMemberReviewResponse> findReceivedBefore(@Param("revieweeId") Long revieweeId,
+                                                       @Param("cursor") Long cursor,
+                                                       Pageable pageable);
 
-    // 내가 작성한 멤버 리뷰 목록 (N+1 방지)
-    @Query("SELECT r FROM StudyMemberReview r JOIN FETCH r.reviewee JOIN FETCH r.study WHERE r.reviewer = :reviewer ORDER BY r.createdAt DESC")
-    List<StudyMemberReview> findByReviewerWithDetails(@Param("reviewer") User reviewer);
+    // 내가 작성한 멤버 리뷰 목록 (커서 기반, ID 내림차순, 표시 컬럼만 조회)
+    @Query("SELECT new com.wiedu.dto.review.StudyMemberReviewResponse(" +
+           "r.id, rv.id, rv.nickname, rv.profileImage, re.id, re.nickname, re.profileImage, " +
+           "s.title, r.rating, r.content, r.tags, r.createdAt) " +
+           "FROM StudyMemberReview r JOIN r.reviewer rv JOIN r.reviewee re JOIN r.study s " +
+           "WHERE rv.id = :reviewerId AND (:cursor IS NULL OR r.id < :cursor) ORDER BY r.id DESC")
+    List<StudyMemberReviewResponse> findWrittenBefore(@Param("reviewerId") Long reviewerId,
+                                                      @Param("cursor") Long cursor,
+                                                      Pageable pageable);
+
+    // 특정 사용자가 받은 리뷰 개수와 평균 평점 - [count, avg]
+    @Query("SELECT COUNT(r), AVG(r.rating) FROM StudyMemberReview r WHERE r.reviewee.id = :revieweeId")
+    List<Object[]> summarizeByReviewee(@Param("revieweeId") Long revieweeId);
 
     // 특정 사용자가 받은 리뷰 개수
     long countByReviewee(User reviewee);
@@ -30,6 +48,10 @@ public interface StudyMemberReviewRepository extends JpaRepository<StudyMemberRe
     @Query("SELECT AVG(r.rating) FROM StudyMemberReview r WHERE r.reviewee.id = :revieweeId")
     Double averageRatingByReviewee(@Param("revieweeId") Long revieweeId);
 
+    // 특정 사용자가 받은 평점 합계 (평판 스냅샷 재계산용)
+    @Query("SELECT COALESCE(SUM(r.rating), 0) FROM StudyMemberReview r WHERE r.reviewee.id = :revieweeId")
+    long sumRatingByReviewee(@Param("revieweeId") Long revieweeId);
+
     // 중복 리뷰 방지 (한 스터디 내에서 동일 대상에게 한 번만)
     boolean existsByReviewerAndRevieweeAndStudy(User reviewer, User reviewee, Study study);
 
@@ -6,6 +6,7 @@ import com.wiedu.domain.entity.User;
 import com.wiedu.domain.enums.MemberRole;
 import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
+import com.wiedu.dto.study.StudyAccess;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -35,6 +36,26 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
     // 특정 사용자의 활성 멤버십 목록
     List<StudyMember> findByUserAndStatus(User user, MemberStatus status);
 
+    // 사용자의 멤버십 목록 조회 (스터디, 카테고리 포함)
+    @Query("SELECT sm FROM StudyMember sm JOIN FETCH sm.study s JOIN FETCH s.category " +
+           "WHERE sm.user.id = :userId AND sm.status = :status")
+    List<StudyMember> findByUserIdAndStatusWithStudy(@Param("userId") Long userId, @Param("status") MemberStatus status);
+
+    /**
+     * 완료된 스터디별 리뷰 진행 현황 일괄 조회
+     * [studyId, 리뷰 대상 멤버 수(나/리더 제외), 작성한 멤버 리뷰 수, 작성한 리더 리뷰 수]
+     */
+    @Query("SELECT s.id, " +
+           "(SELECT COUNT(m) FROM StudyMember m WHERE m.study = s AND m.status = :memberStatus " +
+           "   AND m.user.id <> :userId AND m.user.id <> s.leader.id), " +
+           "(SELECT COUNT(mr) FROM StudyMemberReview mr WHERE mr.study = s AND mr.reviewer.id = :userId), " +
+           "(SELECT COUNT(lr) FROM StudyLeaderReview lr WHERE lr.study = s AND lr.reviewer.id = :userId) " +
+           "FROM StudyMember sm JOIN sm.study s " +
+           "WHERE sm.user.id = :userId AND sm.status = :memberStatus AND s.status = :studyStatus")
+    List<Object[]> findReviewProgressByUserId(@Param("userId") Long userId,
+            @Param("memberStatus") MemberStatus memberStatus,
+            @Param("studyStatus") StudyStatus studyStatus);
+
     // 특정 스터디 + 사용자의 멤버십 조회
     Optional<StudyMember> findByStudyAndUser(Study study, User user);
 
@@ -47,6 +68,16 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
     // 해당 스터디에 활성 멤버로 가입했는지 확인
     boolean existsByStudyAndUserAndStatus(Study study, User user, MemberStatus status);
 
+    /**
+     * 스터디, 사용자, 멤버십을 한 번에 조회 (StudyAccessContext)
+     * 멤버십이 없으면 membership은 null, 스터디나 사용자가 없으면 empty
+     */
+    @Query("SELECT new com.wiedu.dto.study.StudyAccess(s, u, m) FROM Study s " +
+           "JOIN User u ON u.id = :userId " +
+           "LEFT JOIN StudyMember m ON m.study = s AND m.user = u " +
+           "WHERE s.id = :studyId")
+    Optional<StudyAccess> findAccess(@Param("studyId") Long studyId, @Param("userId") Long userId);
+
     // 특정 스터디의 활성 멤버 수
     long countByStudyAndStatus(Study study, MemberStatus status);
 
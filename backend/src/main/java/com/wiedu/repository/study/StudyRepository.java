@@ -194,4 +194,15 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
     @Modifying
     @Query("UPDATE Study s SET s.currentMembers = CASE WHEN s.currentMembers > 1 THEN s.currentMembers - 1 ELSE 1 END WHERE s.id = :id")
     void decrementMemberCount(@Param("id") Long id);
+
+    /**
+     * 커버 이미지 변형과 미리보기 기록 (처리 중 커버가 다시 바뀌었으면 기록하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Study s SET s.coverImageVariants = :variants, s.coverImagePlaceholder = :placeholder " +
+           "WHERE s.id = :studyId AND s.coverImageUrl = :imageUrl")
+    int updateCoverImageVariants(@Param("studyId") Long studyId,
+                                 @Param("imageUrl") String imageUrl,
+                                 @Param("variants") String variants,
+                                 @Param("placeholder") String placeholder);
 }
@@ -2,10 +2,13 @@ package com.wiedu.repository.user;
 
 import com.wiedu.domain.entity.User;
 import com.wiedu.domain.enums.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +33,37 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // OAuth 제공자와 ID로 사용자 조회
     Optional<User> findByOauthProviderAndOauthProviderId(String oauthProvider, String oauthProviderId);
 
+    /**
+     * 매너 온도 원자적 증감 (범위 제한 포함)
+     * 동시 리뷰 작성 시에도 read-modify-write 없이 단일 UPDATE로 처리하여 갱신 손실 방지
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET temperature = LEAST(GREATEST(COALESCE(temperature, 36.5) + :delta, :min), :max), " +
+            "updated_at = NOW() WHERE id = :userId", nativeQuery = true)
+    int addTemperature(@Param("userId") Long userId,
+                       @Param("delta") BigDecimal delta,
+                       @Param("min") BigDecimal min,
+                       @Param("max") BigDecimal max);
+
+    /**
+     * 프로필 이미지 변형과 미리보기 기록 (처리 중 이미지가 다시 바뀌었으면 기록하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.profileImageVariants = :variants, u.profileImagePlaceholder = :placeholder " +
+           "WHERE u.id = :userId AND u.profileImage = :imageUrl")
+    int updateProfileImageVariants(@Param("userId") Long userId,
+                                   @Param("imageUrl") String imageUrl,
+                                   @Param("variants") String variants,
+                                   @Param("placeholder") String placeholder);
+
+    // ID 순 배치 조회 (전체 재계산/순회용)
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ID 순 이메일 배치 조회 (이메일 Bloom filter 생성용) - [id, email]
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 근처 활동중인 멤버 조회 (Haversine 공식)
      * - 활동중: lastLoginAt이 activeThreshold 이후
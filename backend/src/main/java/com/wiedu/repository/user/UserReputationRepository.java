@@ -0,0 +1,50 @@
+package com.wiedu.repository.user;
+
+import com.wiedu.domain.entity.UserReputation;
+import com.wiedu.domain.enums.MemberStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 평판 스냅샷 Repository
+ * 증분 업데이트는 모두 단일 UPDATE로 처리 (스냅샷 행이 없으면 0 반환 → 조회 시 재계산)
+ */
+public interface UserReputationRepository extends JpaRepository<UserReputation, Long> {
+
+    /**
+     * 스터디 완료 시 활성 멤버 전원의 완료 스터디 수 +1
+     */
+    @Modifying
+    @Query("UPDATE UserReputation r SET r.completedStudyCount = r.completedStudyCount + 1, r.updatedAt = :now " +
+            "WHERE r.userId IN (SELECT sm.user.id FROM StudyMember sm WHERE sm.study.id = :studyId AND sm.status = :status)")
+    int incrementCompletedStudies(@Param("studyId") Long studyId,
+                                  @Param("status") MemberStatus status,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 멤버 리뷰 수신 시 리뷰 수 +1, 평점 합계 +rating
+     */
+    @Modifying
+    @Query("UPDATE UserReputation r SET r.memberReviewCount = r.memberReviewCount + 1, " +
+            "r.memberRatingSum = r.memberRatingSum + :rating, r.updatedAt = :now WHERE r.userId = :userId")
+    int addMemberReview(@Param("userId") Long userId, @Param("rating") int rating, @Param("now") LocalDateTime now);
+
+    /**
+     * 매너온도 스냅샷 갱신 (USERS의 현재 값을 그대로 복사)
+     */
+    @Modifying
+    @Query("UPDATE UserReputation r SET r.temperature = (SELECT u.temperature FROM User u WHERE u.id = r.userId), " +
+            "r.updatedAt = :now WHERE r.userId = :userId")
+    int syncTemperature(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 삭제 시 스냅샷 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserReputation r WHERE r.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -2,6 +2,7 @@ package com.wiedu.security;
 
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
+import com.wiedu.security.jwt.JwtPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -25,10 +26,9 @@ public final class SecurityUtils {
             throw new BusinessException(ErrorCode.AUTH_TOKEN_MISSING);
         }
 
-        // JwtAuthenticationFilter에서 설정한 userId (principal에 저장됨)
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof Long) {
-            return (Long) principal;
+        // JwtAuthenticationFilter에서 설정한 JwtPrincipal
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.userId();
         }
 
         throw new BusinessException(ErrorCode.AUTH_TOKEN_INVALID);
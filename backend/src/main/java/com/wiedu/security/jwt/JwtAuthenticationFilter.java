@@ -25,27 +25,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<SimpleGrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-            if (jwtProvider.isAccessToken(token)) {
-                Long userId = jwtProvider.getUserId(token);
-                String email = jwtProvider.getEmail(token);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userId,
-                                null,
-                                List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                        );
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set Authentication for user: {}", email);
-            }
+        if (StringUtils.hasText(token)) {
+            // 서명 검증과 클레임 파싱은 한 번만 수행 (최근 검증된 토큰은 캐시 사용)
+            jwtProvider.authenticate(token)
+                    .filter(JwtPrincipal::isAccessToken)
+                    .ifPresent(principal -> {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(
+                                        principal,
+                                        null,
+                                        AUTHORITIES
+                                );
+
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Set Authentication for user: {}", principal.email());
+                    });
         }
 
         filterChain.doFilter(request, response);
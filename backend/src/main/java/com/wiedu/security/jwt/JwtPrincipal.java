@@ -0,0 +1,40 @@
+package com.wiedu.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 JWT에서 추출한 인증 정보 (불변)
+ * - 필터에서 한 번만 파싱하여 SecurityContext의 principal로 사용
+ */
+public record JwtPrincipal(
+        Long userId,
+        String email,
+        String type,
+        Instant expiresAt
+) {
+    public static final String TYPE_ACCESS = "ACCESS";
+    public static final String TYPE_REFRESH = "REFRESH";
+
+    static JwtPrincipal from(Claims claims) {
+        return new JwtPrincipal(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("type", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -14,4 +14,6 @@ public class JwtProperties {
     private long accessTokenValidity;
     private long refreshTokenValidity;
     private String issuer;
+    // 서명 검증을 통과한 토큰 캐시 크기 (0이면 캐시 사용 안 함)
+    private int verifiedTokenCacheSize = 10_000;
 }
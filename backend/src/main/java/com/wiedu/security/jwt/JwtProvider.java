@@ -2,13 +2,17 @@ package com.wiedu.security.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -17,8 +21,16 @@ public class JwtProvider {
 
     private final JwtProperties jwtProperties;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    // 서명 키와 파서는 기동 시 한 번만 생성하여 재사용
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(jwtProperties.getVerifiedTokenCacheSize());
     }
 
     public String createAccessToken(Long userId, String email, String nickname) {
@@ -29,50 +41,78 @@ public class JwtProvider {
                 .subject(email)
                 .claim("userId", userId)
                 .claim("nickname", nickname)
-                .claim("type", "ACCESS")
+                .claim("type", JwtPrincipal.TYPE_ACCESS)
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 리프레시 토큰 생성
+     * 같은 초에 여러 번 발급해도 다이제스트(uk_refresh_token_hash)가 겹치지 않도록 고유 ID(jti) 포함
+     */
     public String createRefreshToken(Long userId, String email) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.getRefreshTokenValidity());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .claim("userId", userId)
-                .claim("type", "REFRESH")
+                .claim("type", JwtPrincipal.TYPE_REFRESH)
                 .issuer(jwtProperties.getIssuer())
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 요청 인증용 토큰 검증
+     * 최근 검증한 토큰은 캐시에서 바로 반환하여 서명 검증/파싱을 생략
+     *
+     * @return 유효한 토큰이면 Principal, 서명 오류/만료 시 empty
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        if (!verifiedTokenCache.isEnabled()) {
+            return parse(token);
+        }
+
+        String digest = TokenDigest.sha256Hex(token);
+        JwtPrincipal cached = verifiedTokenCache.get(digest, Instant.now());
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<JwtPrincipal> parsed = parse(token);
+        parsed.ifPresent(principal -> verifiedTokenCache.put(digest, principal));
+        return parsed;
+    }
+
+    /**
+     * 서명 검증과 클레임 파싱을 한 번에 수행
+     *
+     * @return 유효한 토큰이면 Principal, 서명 오류/만료 시 empty
+     */
+    public Optional<JwtPrincipal> parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(JwtPrincipal.from(jwtParser.parseSignedClaims(token).getPayload()));
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateToken(String token) {
+        return parse(token).isPresent();
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public Long getUserId(String token) {
@@ -88,14 +128,18 @@ public class JwtProvider {
     }
 
     public boolean isAccessToken(String token) {
-        return "ACCESS".equals(getTokenType(token));
+        return JwtPrincipal.TYPE_ACCESS.equals(getTokenType(token));
     }
 
     public boolean isRefreshToken(String token) {
-        return "REFRESH".equals(getTokenType(token));
+        return JwtPrincipal.TYPE_REFRESH.equals(getTokenType(token));
     }
 
     public long getAccessTokenValidity() {
         return jwtProperties.getAccessTokenValidity();
     }
+
+    public long getRefreshTokenValidity() {
+        return jwtProperties.getRefreshTokenValidity();
+    }
 }
@@ -0,0 +1,45 @@
+package com.wiedu.security.jwt;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 서명 검증을 통과한 토큰 캐시 (LRU, 크기 제한)
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트
+ * - 만료된 항목은 조회 시점에 제거하여 만료 토큰이 캐시로 통과하지 않도록 함
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, JwtPrincipal> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized JwtPrincipal get(String tokenDigest, Instant now) {
+        JwtPrincipal principal = entries.get(tokenDigest);
+        if (principal != null && principal.isExpired(now)) {
+            entries.remove(tokenDigest);
+            return null;
+        }
+        return principal;
+    }
+
+    synchronized void put(String tokenDigest, JwtPrincipal principal) {
+        if (maxSize > 0) {
+            entries.put(tokenDigest, principal);
+        }
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+}
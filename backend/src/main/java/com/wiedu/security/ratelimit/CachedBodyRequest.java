@@ -0,0 +1,87 @@
+package com.wiedu.security.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문 앞부분을 미리 읽어 두고 컨트롤러에서 처음부터 다시 읽을 수 있게 하는 래퍼
+ * (필터에서 이메일 추출 후 @RequestBody 바인딩용)
+ * 본문 전체를 읽지 못했으면(complete=false) 읽어 둔 앞부분 뒤에 원래 스트림의 나머지를 이어 줌
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] head;
+    private final boolean complete;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] head, boolean complete) {
+        super(request);
+        this.head = head;
+        this.complete = complete;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        ByteArrayInputStream buffered = new ByteArrayInputStream(head);
+        InputStream input = complete ? buffered : new SequenceInputStream(buffered, super.getInputStream());
+        return new ServletInputStream() {
+            private boolean finished;
+
+            @Override
+            public boolean isFinished() {
+                return finished || (complete && buffered.available() == 0);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * 본문이 모두 메모리에 있으면 바로 읽기 가능/완료를 알림
+             * 나머지를 원래 스트림에서 읽어야 하는 경우는 블로킹 읽기만 지원
+             */
+            @Override
+            public void setReadListener(ReadListener listener) {
+                if (!complete) {
+                    throw new IllegalStateException(
+                            "본문이 " + head.length + "바이트를 넘는 요청은 비동기 읽기(ReadListener)를 지원하지 않음");
+                }
+                try {
+                    listener.onDataAvailable();
+                    listener.onAllDataRead();
+                } catch (IOException e) {
+                    listener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() throws IOException {
+                int value = input.read();
+                finished = value < 0;
+                return value;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int count = input.read(b, off, len);
+                finished = count < 0;
+                return count;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package com.wiedu.security.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 기반 토큰 버킷 (락 없음)
+ *
+ * 버킷마다 "이론적 도착 시간(TAT)" 하나만 AtomicLong으로 저장하고 CAS로 갱신 (GCRA).
+ * 요청 시점에 경과 시간만큼 토큰이 채워진 것으로 계산하므로 별도 충전 스레드가 필요 없음.
+ * - TAT <= now: 버킷이 가득 찬 상태 (저장할 필요 없으므로 주기적으로 제거)
+ * - TAT - now: 현재 소비된 토큰 양을 시간으로 환산한 값, period를 넘으면 거부
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryConsume(String key, RateLimitProperties.Limit limit) {
+        long period = limit.getPeriod().toNanos();
+        long interval = period / limit.getCapacity();
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = current - now < 0 ? now : current;
+            long next = base + interval;
+            long overflow = next - now - period;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public void refund(String key, RateLimitProperties.Limit limit) {
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            return;
+        }
+        long interval = limit.getPeriod().toNanos() / limit.getCapacity();
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            if (current - now <= 0) {
+                return;
+            }
+            // 가득 찬 상태(now)보다 앞으로 되돌리지 않음
+            long previous = current - interval - now < 0 ? now : current - interval;
+            if (tat.compareAndSet(current, previous)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(더 이상 제한 중이 아닌) 버킷 제거 - 키 수가 무한히 늘지 않도록
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+}
@@ -0,0 +1,121 @@
+package com.wiedu.security.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 인증 엔드포인트 요청 제한 필터 (JwtAuthenticationFilter 앞에서 동작)
+ * - POST /api/auth/login: IP별, 이메일별, 전체
+ * - /api/email/**: IP별, 이메일별(POST 본문), 전체
+ * - GET /api/users/check-email, /api/users/check-nickname: IP별, 전체
+ * 제한 초과 시 429 + Retry-After(초)
+ *
+ * 클라이언트 IP는 getRemoteAddr() 기준이므로, 프록시 뒤에서는
+ * server.forward-headers-strategy=native와 server.tomcat.remoteip.internal-proxies로
+ * 프록시가 추가한 X-Forwarded-For 주소만 반영해야 함 (application-prod.yml)
+ * (클라이언트가 임의로 넣은 X-Forwarded-For 값은 무시되므로 IP를 바꿔 가며 IP별 제한을 우회할 수 없음)
+ *
+ * 이메일별 제한용 본문은 Content-Length와 관계없이(chunked 포함) 최대 4KB까지만 읽고,
+ * 이메일을 알 수 없는 POST(본문 초과, JSON 아님, email 없음)는 한 개의 대체 키로 함께 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_CACHED_BODY_BYTES = 4 * 1024;
+    // 이메일을 알 수 없는 POST 요청이 함께 쓰는 이메일별 버킷 키
+    private static final String UNKNOWN_EMAIL = "(unknown)";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return !uri.equals("/api/auth/login")
+                && !uri.startsWith("/api/email/")
+                && !uri.equals("/api/users/check-email")
+                && !uri.equals("/api/users/check-nickname");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        String ip = request.getRemoteAddr();
+        HttpServletRequest target = request;
+        long waitNanos;
+
+        if (uri.startsWith("/api/email/") || uri.equals("/api/auth/login")) {
+            // 이메일별 제한은 POST(로그인, 코드 발송/확인)만 - JSON 본문에서 추출 후 컨트롤러가 다시 읽을 수 있게 보관
+            String email = null;
+            if (HttpMethod.POST.matches(request.getMethod())) {
+                byte[] head = request.getInputStream().readNBytes(MAX_CACHED_BODY_BYTES + 1);
+                boolean complete = head.length <= MAX_CACHED_BODY_BYTES;
+                target = new CachedBodyRequest(request, head, complete);
+                email = complete ? extractEmail(head) : null;
+                if (email == null) {
+                    email = UNKNOWN_EMAIL;
+                }
+            }
+            waitNanos = uri.equals("/api/auth/login")
+                    ? rateLimiter.checkLogin(ip, email)
+                    : rateLimiter.checkEmail(ip, email);
+        } else {
+            waitNanos = rateLimiter.checkLookup(ip);
+        }
+
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(target, response);
+    }
+
+    /**
+     * JSON 본문의 email 필드 추출 (JSON이 아니면 null)
+     */
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.warn("Rate limit exceeded: uri={}, ip={}, retryAfter={}s",
+                request.getRequestURI(), request.getRemoteAddr(), retryAfterSeconds);
+
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ErrorResponse.of(errorCode.getCode(), errorCode.getMessage())));
+    }
+}
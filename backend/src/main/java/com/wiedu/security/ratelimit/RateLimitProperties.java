@@ -0,0 +1,44 @@
+package com.wiedu.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 로그인 (BCrypt 검증 비용 보호)
+    private Limit loginPerIp = new Limit(20, Duration.ofMinutes(1));
+    private Limit loginPerEmail = new Limit(5, Duration.ofMinutes(1));
+    // 이메일 인증 (메일 발송, 인증 코드 대입 방지)
+    private Limit emailPerIp = new Limit(10, Duration.ofMinutes(1));
+    private Limit emailPerEmail = new Limit(5, Duration.ofMinutes(10));
+    // 이메일/닉네임 중복 확인
+    private Limit lookupPerIp = new Limit(60, Duration.ofMinutes(1));
+    // 위 엔드포인트 전체 합산
+    private Limit global = new Limit(200, Duration.ofSeconds(1));
+
+    /**
+     * 토큰 버킷 설정: period 동안 capacity개 (버스트 최대 capacity개)
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.wiedu.security.ratelimit;
+
+/**
+ * 토큰 버킷 저장소
+ * 기본은 인스턴스별 메모리 저장소이며, 여러 인스턴스로 운영할 때는
+ * 공유 저장소(예: Redis) 구현체를 빈으로 등록하면 대체됨
+ */
+public interface RateLimitStore {
+
+    /**
+     * 버킷에서 토큰 1개 소비 시도
+     *
+     * @param key   버킷 키 (예: "login:ip:1.2.3.4")
+     * @param limit 버킷 용량/충전 주기
+     * @return 허용되면 0, 거부되면 다음 토큰까지 남은 시간(나노초)
+     */
+    long tryConsume(String key, RateLimitProperties.Limit limit);
+
+    /**
+     * tryConsume으로 소비한 토큰 1개 반환 (뒤 단계 버킷에서 거부되어 요청이 처리되지 않은 경우)
+     * 버킷 용량을 넘겨 채우지는 않음
+     *
+     * @param key   버킷 키
+     * @param limit tryConsume에 사용한 버킷 용량/충전 주기
+     */
+    void refund(String key, RateLimitProperties.Limit limit);
+}
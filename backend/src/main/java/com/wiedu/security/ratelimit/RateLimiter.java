@@ -0,0 +1,78 @@
+package com.wiedu.security.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 엔드포인트별 요청 제한 정책
+ * - IP별 → 이메일별 → 전체 합산(global) 순서로 확인하고, 거부되면 뒤 버킷은 소비하지 않음
+ *   (IP별 제한에 걸린 클라이언트가 global 토큰을 써서 다른 사용자를 막지 못하도록)
+ * - global에서 거부되면 앞에서 소비한 IP별/이메일별 토큰은 반환
+ * - global은 버킷 하나 (CAS 한 번이라 BCrypt 검증 비용에 비하면 경합 부담이 작음)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String GLOBAL_KEY = "global";
+
+    private final RateLimitStore store;
+    private final RateLimitProperties properties;
+
+    /**
+     * 로그인 요청
+     *
+     * @return 허용되면 0, 거부되면 재시도까지 남은 시간(나노초)
+     */
+    public long checkLogin(String ip, String email) {
+        return check("login:ip:" + ip, properties.getLoginPerIp(),
+                email != null ? "login:email:" + normalize(email) : null, properties.getLoginPerEmail());
+    }
+
+    /**
+     * 이메일 인증 요청 (코드 발송/확인/상태 조회)
+     */
+    public long checkEmail(String ip, String email) {
+        return check("email:ip:" + ip, properties.getEmailPerIp(),
+                email != null ? "email:email:" + normalize(email) : null, properties.getEmailPerEmail());
+    }
+
+    /**
+     * 이메일/닉네임 중복 확인
+     */
+    public long checkLookup(String ip) {
+        return check("lookup:ip:" + ip, properties.getLookupPerIp(), null, null);
+    }
+
+    /**
+     * @param emailKey 이메일을 알 수 없으면 null (이메일별 확인 생략)
+     */
+    private long check(String ipKey, RateLimitProperties.Limit ipLimit,
+                       String emailKey, RateLimitProperties.Limit emailLimit) {
+        long wait = store.tryConsume(ipKey, ipLimit);
+        if (wait > 0) {
+            return wait;
+        }
+        if (emailKey != null) {
+            wait = store.tryConsume(emailKey, emailLimit);
+            if (wait > 0) {
+                return wait;
+            }
+        }
+
+        wait = store.tryConsume(GLOBAL_KEY, properties.getGlobal());
+        if (wait > 0) {
+            store.refund(ipKey, ipLimit);
+            if (emailKey != null) {
+                store.refund(emailKey, emailLimit);
+            }
+        }
+        return wait;
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -8,6 +8,7 @@ import com.wiedu.domain.enums.AttendanceStatus;
 import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
 import com.wiedu.dto.attendance.*;
+import com.wiedu.dto.study.StudyAccess;
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.study.CurriculumSessionRepository;
@@ -16,6 +17,7 @@ import com.wiedu.repository.study.StudyMemberRepository;
 import com.wiedu.repository.study.StudyRepository;
 import com.wiedu.repository.user.UserRepository;
 import com.wiedu.service.notification.NotificationService;
+import com.wiedu.service.study.StudyAccessContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,6 +38,7 @@ public class SessionAttendanceService {
     private final StudyRepository studyRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final StudyAccessContext studyAccessContext;
 
     /**
      * 회차 참석 현황 조회
@@ -75,7 +78,7 @@ public class SessionAttendanceService {
     public AttendanceResponse respond(Long sessionId, Long userId, AttendanceRequest request) {
         CurriculumSession session = findSessionById(sessionId);
         Study study = session.getCurriculum().getStudy();
-        validateStudyMember(study, userId);
+        User user = validateStudyMember(study, userId).user();
 
         // 종료된 스터디에서는 출석 응답 불가
         if (study.getStatus() == StudyStatus.COMPLETED) {
@@ -95,7 +98,6 @@ public class SessionAttendanceService {
             }
         }
 
-        User user = findUserById(userId);
         SessionAttendance attendance = attendanceRepository
             .findBySessionIdAndUserId(sessionId, userId)
             .orElse(SessionAttendance.builder()
@@ -177,8 +179,7 @@ public class SessionAttendanceService {
      * 특정 날짜의 회차별 참석 현황 (캘린더용)
      */
     public List<AttendanceSummaryResponse> getAttendancesByDate(Long studyId, LocalDate date, Long userId) {
-        Study study = findStudyById(studyId);
-        validateStudyMember(study, userId);
+        studyAccessContext.requireActiveMember(studyId, userId);
 
         // 해당 날짜의 회차들 조회
         List<CurriculumSession> sessions = sessionRepository.findAllByStudyId(studyId)
@@ -204,8 +205,7 @@ public class SessionAttendanceService {
      * 회차가 있는 날짜 목록 조회 (캘린더용)
      */
     public List<LocalDate> getSessionDatesInMonth(Long studyId, int year, int month, Long userId) {
-        Study study = findStudyById(studyId);
-        validateStudyMember(study, userId);
+        studyAccessContext.requireActiveMember(studyId, userId);
 
         return sessionRepository.findAllByStudyId(studyId)
             .stream()
@@ -273,12 +273,8 @@ public class SessionAttendanceService {
             .orElseThrow(() -> new BusinessException(ErrorCode.STUDY_NOT_FOUND));
     }
 
-    private void validateStudyMember(Study study, Long userId) {
-        boolean isMember = memberRepository.existsByStudyIdAndUserIdAndStatus(
-            study.getId(), userId, MemberStatus.ACTIVE);
-        if (!isMember) {
-            throw new BusinessException(ErrorCode.NOT_STUDY_MEMBER);
-        }
+    private StudyAccess validateStudyMember(Study study, Long userId) {
+        return studyAccessContext.requireActiveMember(study.getId(), userId);
     }
 
     private void validateStudyLeader(Study study, Long userId) {
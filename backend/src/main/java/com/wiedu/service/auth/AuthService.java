@@ -9,6 +9,7 @@ import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.auth.RefreshTokenRepository;
 import com.wiedu.repository.user.UserRepository;
+import com.wiedu.security.jwt.JwtPrincipal;
 import com.wiedu.security.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +29,7 @@ public class AuthService {
     private final JwtProvider jwtProvider;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenRepository refreshTokenRepository;
-
-    private static final int MAX_REFRESH_TOKENS_PER_USER = 5;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public TokenResponse login(LoginRequest request) {
@@ -47,10 +47,9 @@ public class AuthService {
         user.updateLastLogin();
 
         String accessToken = jwtProvider.createAccessToken(user.getId(), user.getEmail(), user.getNickname());
-        String refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getEmail());
 
-        // Refresh Token을 DB에 저장
-        saveRefreshToken(user, refreshToken);
+        // Refresh Token 발급 (DB에는 다이제스트만 저장)
+        String refreshToken = refreshTokenService.issue(user);
 
         log.info("User logged in: {}", user.getEmail());
 
@@ -59,37 +58,29 @@ public class AuthService {
 
     @Transactional
     public TokenResponse refresh(String refreshToken) {
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new BusinessException(ErrorCode.AUTH_TOKEN_INVALID);
-        }
-
-        if (!jwtProvider.isRefreshToken(refreshToken)) {
+        // 서명 검증과 타입 확인을 한 번의 파싱으로 처리
+        if (jwtProvider.parse(refreshToken).filter(JwtPrincipal::isRefreshToken).isEmpty()) {
             throw new BusinessException(ErrorCode.AUTH_TOKEN_INVALID);
         }
 
-        // DB에서 토큰 검증 (서버사이드 검증)
-        RefreshToken storedToken = refreshTokenRepository.findByTokenAndRevokedFalse(refreshToken)
-                .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_TOKEN_INVALID));
-
-        if (!storedToken.isValid()) {
-            throw new BusinessException(ErrorCode.AUTH_TOKEN_EXPIRED);
-        }
-
+        // DB에서 토큰 검증 (서버사이드 검증, 최근 폐기된 토큰은 DB 조회 없이 거부)
+        RefreshToken storedToken = refreshTokenService.getActiveToken(refreshToken);
         User user = storedToken.getUser();
 
         if (user.getStatus() != UserStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.AUTH_USER_DISABLED);
         }
 
+        // 토큰 회전: 사용한 리프레시 토큰은 폐기하고 새로 발급
+        String newRefreshToken = refreshTokenService.rotate(storedToken);
         String newAccessToken = jwtProvider.createAccessToken(user.getId(), user.getEmail(), user.getNickname());
 
-        return TokenResponse.ofAccessToken(newAccessToken, jwtProvider.getAccessTokenValidity());
+        return TokenResponse.of(newAccessToken, newRefreshToken, jwtProvider.getAccessTokenValidity(), user.isOnboardingCompleted());
     }
 
     @Transactional
     public void logout(String refreshToken) {
-        refreshTokenRepository.findByToken(refreshToken)
-                .ifPresent(RefreshToken::revoke);
+        refreshTokenService.revoke(refreshToken);
         log.info("User logged out, token revoked");
     }
 
@@ -100,18 +91,4 @@ public class AuthService {
         refreshTokenRepository.revokeAllByUser(user, LocalDateTime.now());
         log.info("All tokens revoked for user: {}", userId);
     }
-
-    private void saveRefreshToken(User user, String token) {
-        // 사용자당 최대 토큰 수 제한 (오래된 토큰 자동 폐기)
-        if (refreshTokenRepository.countByUserAndRevokedFalse(user) >= MAX_REFRESH_TOKENS_PER_USER) {
-            refreshTokenRepository.revokeAllByUser(user, LocalDateTime.now());
-        }
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(token)
-                .expiresAt(LocalDateTime.now().plusDays(14)) // 14일 유효
-                .build();
-        refreshTokenRepository.save(refreshToken);
-    }
 }
@@ -0,0 +1,115 @@
+package com.wiedu.service.auth;
+
+import com.wiedu.domain.entity.RefreshToken;
+import com.wiedu.domain.entity.User;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.repository.auth.RefreshTokenRepository;
+import com.wiedu.security.jwt.JwtProvider;
+import com.wiedu.security.jwt.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 리프레시 토큰 발급/회전/폐기
+ * - DB에는 토큰 원문 대신 SHA-256 다이제스트(64자 고정)만 저장
+ * - refresh 시 기존 토큰을 폐기하고 새 토큰을 발급 (회전)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final int MAX_ACTIVE_TOKENS_PER_USER = 5;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final JwtProvider jwtProvider;
+
+    /**
+     * 새 리프레시 토큰 발급
+     * 사용자당 최신 5개까지만 활성 상태로 유지 (초과분은 오래된 순으로 폐기)
+     *
+     * @return 클라이언트에 전달할 토큰 원문
+     */
+    @Transactional
+    public String issue(User user) {
+        String token = jwtProvider.createRefreshToken(user.getId(), user.getEmail());
+        LocalDateTime now = LocalDateTime.now();
+
+        RefreshToken refreshToken = RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenDigest.sha256Hex(token))
+                .expiresAt(now.plus(jwtProvider.getRefreshTokenValidity(), ChronoUnit.MILLIS))
+                .build();
+        refreshTokenRepository.save(refreshToken);
+        refreshTokenRepository.flush();
+
+        refreshTokenRepository.revokeAllButLatest(user.getId(), MAX_ACTIVE_TOKENS_PER_USER - 1, now);
+        return token;
+    }
+
+    /**
+     * 활성 리프레시 토큰 조회 (사용자 포함)
+     * 최근 폐기된 토큰은 DB 조회 없이 거부
+     */
+    public RefreshToken getActiveToken(String token) {
+        String tokenHash = TokenDigest.sha256Hex(token);
+        if (revokedTokenRegistry.contains(tokenHash)) {
+            throw new BusinessException(ErrorCode.AUTH_TOKEN_INVALID);
+        }
+
+        RefreshToken storedToken = refreshTokenRepository.findActiveByTokenHashWithUser(tokenHash)
+                .orElseThrow(() -> new BusinessException(ErrorCode.AUTH_TOKEN_INVALID));
+
+        if (storedToken.isExpired()) {
+            throw new BusinessException(ErrorCode.AUTH_TOKEN_EXPIRED);
+        }
+        return storedToken;
+    }
+
+    /**
+     * 토큰 회전: 사용한 토큰을 폐기하고 같은 사용자에게 새 토큰 발급
+     */
+    @Transactional
+    public String rotate(RefreshToken current) {
+        revoke(current);
+        return issue(current.getUser());
+    }
+
+    /**
+     * 토큰 원문으로 폐기 (로그아웃)
+     */
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findByTokenHash(TokenDigest.sha256Hex(token))
+                .filter(storedToken -> !storedToken.isRevoked())
+                .ifPresent(this::revoke);
+    }
+
+    private void revoke(RefreshToken storedToken) {
+        storedToken.revoke();
+
+        // 커밋된 폐기만 메모리 목록에 반영 (롤백 시 유효한 토큰이 거부되지 않도록)
+        String tokenHash = storedToken.getTokenHash();
+        LocalDateTime expiresAt = storedToken.getExpiresAt();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokedTokenRegistry.add(tokenHash, expiresAt);
+                }
+            });
+        } else {
+            revokedTokenRegistry.add(tokenHash, expiresAt);
+        }
+    }
+}
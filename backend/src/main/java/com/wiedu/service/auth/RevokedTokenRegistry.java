@@ -0,0 +1,46 @@
+package com.wiedu.service.auth;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 폐기된 리프레시 토큰 다이제스트 목록 (메모리, 크기 제한)
+ * - 폐기된 토큰 재사용 요청을 DB 조회 없이 거부하기 위한 용도
+ * - 목록에 없다고 유효한 것은 아니므로 최종 판단은 DB 기준
+ * - 가득 차면 가장 오래된 항목부터 제거
+ */
+@Component
+public class RevokedTokenRegistry {
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final Map<String, LocalDateTime> revoked = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LocalDateTime> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * @param tokenHash 토큰 SHA-256 다이제스트
+     * @param expiresAt 토큰 만료 시간 (이후에는 JWT 검증에서 거부되므로 보관 불필요)
+     */
+    public synchronized void add(String tokenHash, LocalDateTime expiresAt) {
+        revoked.put(tokenHash, expiresAt);
+    }
+
+    public synchronized boolean contains(String tokenHash) {
+        LocalDateTime expiresAt = revoked.get(tokenHash);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt.isBefore(LocalDateTime.now())) {
+            revoked.remove(tokenHash);
+            return false;
+        }
+        return true;
+    }
+}
@@ -2,19 +2,17 @@ package com.wiedu.service.board;
 
 import com.wiedu.domain.entity.*;
 import com.wiedu.domain.enums.MemberRole;
-import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.PostCategory;
 import com.wiedu.domain.enums.StudyStatus;
 import com.wiedu.dto.board.*;
+import com.wiedu.dto.study.StudyAccess;
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.board.BoardCommentLikeRepository;
 import com.wiedu.repository.board.BoardCommentRepository;
 import com.wiedu.repository.board.BoardPostLikeRepository;
 import com.wiedu.repository.board.BoardPostRepository;
-import com.wiedu.repository.study.StudyMemberRepository;
-import com.wiedu.service.study.StudyService;
-import com.wiedu.service.user.UserService;
+import com.wiedu.service.study.StudyAccessContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -36,15 +34,13 @@ public class BoardService {
     private final BoardCommentRepository boardCommentRepository;
     private final BoardPostLikeRepository boardPostLikeRepository;
     private final BoardCommentLikeRepository boardCommentLikeRepository;
-    private final StudyMemberRepository studyMemberRepository;
-    private final StudyService studyService;
-    private final UserService userService;
+    private final StudyAccessContext studyAccessContext;
 
     // 게시글 목록 조회 (검색 지원)
     public Page<BoardPostListResponse> getPosts(Long studyId, PostCategory category, String keyword, Long userId, Pageable pageable) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        Study study = access.study();
+        User user = access.user();
 
         Page<BoardPost> posts;
         if (keyword != null && !keyword.trim().isEmpty()) {
@@ -81,9 +77,8 @@ public class BoardService {
     // 게시글 상세 조회
     @Transactional
     public BoardPostDetailResponse getPostDetail(Long studyId, Long postId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        User user = access.user();
 
         // 게시글 존재 및 스터디 소속 검증
         BoardPost postForValidation = boardPostRepository.findById(postId)
@@ -127,9 +122,10 @@ public class BoardService {
     // 게시글 작성
     @Transactional
     public BoardPostDetailResponse createPost(Long studyId, Long userId, BoardPostCreateRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        StudyMember member = validateMembershipAndGet(study, user);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        Study study = access.study();
+        User user = access.user();
+        StudyMember member = access.membership();
 
         // 종료된 스터디에서는 게시글 작성 불가
         if (study.getStatus() == StudyStatus.COMPLETED) {
@@ -156,9 +152,8 @@ public class BoardService {
     // 게시글 수정
     @Transactional
     public BoardPostDetailResponse updatePost(Long studyId, Long postId, Long userId, BoardPostUpdateRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        User user = access.user();
 
         BoardPost post = boardPostRepository.findByIdWithDetails(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_POST_NOT_FOUND));
@@ -195,9 +190,7 @@ public class BoardService {
     // 게시글 삭제 (본인 또는 스터디 리더만 가능)
     @Transactional
     public void deletePost(Long studyId, Long postId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
 
         BoardPost post = boardPostRepository.findByIdWithDetails(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_POST_NOT_FOUND));
@@ -208,9 +201,7 @@ public class BoardService {
 
         // 본인 또는 스터디 리더만 삭제 가능
         boolean isAuthor = post.getAuthor() != null && post.getAuthor().getId().equals(userId);
-        boolean isLeader = studyMemberRepository.findByStudyAndUser(study, user)
-                .map(m -> m.getRole() == MemberRole.LEADER)
-                .orElse(false);
+        boolean isLeader = access.isLeader();
 
         if (!isAuthor && !isLeader) {
             throw new BusinessException(ErrorCode.NOT_POST_AUTHOR);
@@ -226,9 +217,8 @@ public class BoardService {
     // 게시글 좋아요 토글 (Race Condition 방지)
     @Transactional
     public boolean togglePostLike(Long studyId, Long postId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        User user = access.user();
 
         BoardPost post = boardPostRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_POST_NOT_FOUND));
@@ -264,9 +254,9 @@ public class BoardService {
     // 댓글 작성
     @Transactional
     public BoardCommentResponse createComment(Long studyId, Long postId, Long userId, BoardCommentCreateRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        Study study = access.study();
+        User user = access.user();
 
         // 종료된 스터디에서는 댓글 작성 불가
         if (study.getStatus() == StudyStatus.COMPLETED) {
@@ -295,9 +285,8 @@ public class BoardService {
     // 댓글 수정
     @Transactional
     public BoardCommentResponse updateComment(Long studyId, Long postId, Long commentId, Long userId, BoardCommentUpdateRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        User user = access.user();
 
         BoardComment comment = boardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_COMMENT_NOT_FOUND));
@@ -324,9 +313,7 @@ public class BoardService {
     // 댓글 삭제 (본인 또는 스터디 리더만 가능)
     @Transactional
     public void deleteComment(Long studyId, Long postId, Long commentId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
 
         BoardComment comment = boardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_COMMENT_NOT_FOUND));
@@ -342,9 +329,7 @@ public class BoardService {
 
         // 본인 또는 스터디 리더만 삭제 가능
         boolean isAuthor = comment.getAuthor() != null && comment.getAuthor().getId().equals(userId);
-        boolean isLeader = studyMemberRepository.findByStudyAndUser(study, user)
-                .map(m -> m.getRole() == MemberRole.LEADER)
-                .orElse(false);
+        boolean isLeader = access.isLeader();
 
         if (!isAuthor && !isLeader) {
             throw new BusinessException(ErrorCode.NOT_COMMENT_AUTHOR);
@@ -358,9 +343,8 @@ public class BoardService {
     // 댓글 좋아요 토글 (Race Condition 방지)
     @Transactional
     public boolean toggleCommentLike(Long studyId, Long postId, Long commentId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        User user = access.user();
 
         BoardComment comment = boardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOARD_COMMENT_NOT_FOUND));
@@ -397,19 +381,4 @@ public class BoardService {
                     }
                 });
     }
-
-    // Helper methods
-    private void validateMembership(Study study, Long userId) {
-        User user = userService.findUserEntityById(userId);
-        boolean isMember = studyMemberRepository.existsByStudyAndUserAndStatus(study, user, MemberStatus.ACTIVE);
-        if (!isMember) {
-            throw new BusinessException(ErrorCode.NOT_STUDY_MEMBER);
-        }
-    }
-
-    private StudyMember validateMembershipAndGet(Study study, User user) {
-        return studyMemberRepository.findByStudyAndUser(study, user)
-                .filter(m -> m.getStatus() == MemberStatus.ACTIVE)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_STUDY_MEMBER));
-    }
 }
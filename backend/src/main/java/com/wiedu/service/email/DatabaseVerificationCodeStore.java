@@ -0,0 +1,89 @@
+package com.wiedu.service.email;
+
+import com.wiedu.domain.entity.EmailVerificationCode;
+import com.wiedu.repository.auth.EmailVerificationCodeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB 기반 인증 코드 저장소 (여러 인스턴스 공유)
+ * 코드 발송과 확인 요청이 서로 다른 인스턴스로 가도 같은 코드/실패 횟수를 봄
+ * 실패 횟수 갱신은 행 잠금으로 직렬화하여 동시 입력으로 허용 횟수를 넘지 않도록 함
+ */
+@Component
+@ConditionalOnProperty(name = "email.verification.store", havingValue = "database")
+public class DatabaseVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationCodeRepository verificationCodeRepository;
+    private final EmailProperties.Verification properties;
+
+    public DatabaseVerificationCodeStore(EmailVerificationCodeRepository verificationCodeRepository,
+                                         EmailProperties emailProperties) {
+        this.verificationCodeRepository = verificationCodeRepository;
+        this.properties = emailProperties.getVerification();
+    }
+
+    @Override
+    @Transactional
+    public void save(String email, String code) {
+        verificationCodeRepository.deleteUnverifiedByEmail(email, LocalDateTime.now());
+        verificationCodeRepository.save(EmailVerificationCode.builder()
+                .email(email)
+                .code(code)
+                .expirationMinutes((int) properties.getCodeTtl().toMinutes())
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void saveVerified(String email) {
+        EmailVerificationCode verificationCode = EmailVerificationCode.builder()
+                .email(email)
+                .code("")
+                .expirationMinutes(0)
+                .build();
+        verificationCode.markAsVerified(LocalDateTime.now().plus(properties.getVerifiedTtl()));
+        verificationCodeRepository.save(verificationCode);
+    }
+
+    /**
+     * 호출한 트랜잭션과 분리해서 커밋
+     * EmailService#verifyCode는 INVALID/LOCKED를 예외로 응답하므로 같은 트랜잭션이면
+     * 실패 횟수와 잠금이 함께 롤백되어 무제한으로 코드를 시도할 수 있음
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Result verify(String email, String code) {
+        LocalDateTime now = LocalDateTime.now();
+        if (verificationCodeRepository.existsLockedByEmail(email, now)) {
+            return Result.LOCKED;
+        }
+
+        Optional<EmailVerificationCode> latest = verificationCodeRepository.findLatestUnverifiedForUpdate(email);
+        if (latest.isEmpty()) {
+            return Result.NOT_FOUND;
+        }
+        EmailVerificationCode verificationCode = latest.get();
+        if (verificationCode.isExpired()) {
+            return Result.EXPIRED;
+        }
+        if (verificationCode.isValid(code)) {
+            verificationCode.markAsVerified(now.plus(properties.getVerifiedTtl()));
+            return Result.VERIFIED;
+        }
+        boolean locked = verificationCode.recordFailedAttempt(
+                properties.getMaxAttempts(), now.plus(properties.getLockout()));
+        return locked ? Result.LOCKED : Result.INVALID;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String email) {
+        return verificationCodeRepository.existsByEmailAndVerifiedTrueAndExpiresAtAfter(email, LocalDateTime.now());
+    }
+}
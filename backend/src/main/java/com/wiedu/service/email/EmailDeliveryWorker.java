@@ -0,0 +1,136 @@
+package com.wiedu.service.email;
+
+import com.wiedu.domain.entity.EmailOutbox;
+import com.wiedu.domain.enums.EmailOutboxStatus;
+import com.wiedu.repository.email.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 선점된 이메일 배치 발송
+ * JavaMailSender.send(MimeMessage...)는 배치 전체를 SMTP 연결 하나로 보내므로
+ * 메일마다 연결/STARTTLS/AUTH를 반복하지 않음
+ *
+ * 메트릭
+ * - email.outbox.deliveries (outcome=sent|retry|failed)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDeliveryWorker {
+
+    private static final String FROM_EMAIL = "woqjadl6488@gmail.com";
+    private static final String FROM_NAME = "위듀";
+
+    private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer templateRenderer;
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailProperties emailProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Async("emailExecutor")
+    public void deliver(List<EmailOutbox> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox item : batch) {
+            try {
+                messages.put(createMessage(item), item);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                failures.put(item.getId(), e.getMessage());
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                messages.forEach((message, item) -> {
+                    Exception cause = failedMessages.isEmpty() ? e : failedMessages.get(message);
+                    if (cause != null) {
+                        failures.put(item.getId(), cause.getMessage());
+                    }
+                });
+            } catch (MailException e) {
+                // 연결/인증 실패: 배치 전체 재시도
+                messages.values().forEach(item -> failures.put(item.getId(), e.getMessage()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> recordResults(batch, failures));
+    }
+
+    private MimeMessage createMessage(EmailOutbox item) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(FROM_EMAIL, FROM_NAME);
+        helper.setTo(item.getRecipient());
+        helper.setSubject(item.getTemplate().getSubject());
+        helper.setText(templateRenderer.render(item.getTemplate(), item.getPayload()), true);
+        return message;
+    }
+
+    private void recordResults(List<EmailOutbox> batch, Map<Long, String> failures) {
+        EmailProperties.Outbox outbox = emailProperties.getOutbox();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, EmailOutbox> managed = outboxRepository.findAllById(batch.stream().map(EmailOutbox::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(EmailOutbox::getId, Function.identity()));
+
+        for (EmailOutbox item : managed.values()) {
+            String error = failures.get(item.getId());
+            if (error == null) {
+                item.markSent(now);
+                deliveries("sent").increment();
+                continue;
+            }
+            item.markFailed(error, outbox.getMaxAttempts(), now.plus(backoff(item.getAttempts(), outbox)));
+            if (item.getStatus() == EmailOutboxStatus.FAILED) {
+                log.error("이메일 발송 최종 실패: id={}, to={}, attempts={}, error={}",
+                        item.getId(), item.getRecipient(), item.getAttempts(), error);
+                deliveries("failed").increment();
+            } else {
+                log.warn("이메일 발송 실패, 재시도 예정: id={}, attempts={}, error={}", item.getId(), item.getAttempts(), error);
+                deliveries("retry").increment();
+            }
+        }
+    }
+
+    /**
+     * initialBackoff * 2^(attempts - 1), 최대 maxBackoff
+     */
+    private static Duration backoff(int attempts, EmailProperties.Outbox outbox) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = outbox.getInitialBackoff().multipliedBy(1L << exponent);
+        return delay.compareTo(outbox.getMaxBackoff()) > 0 ? outbox.getMaxBackoff() : delay;
+    }
+
+    private Counter deliveries(String outcome) {
+        return Counter.builder("email.outbox.deliveries")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.wiedu.service.email;
+
+import com.wiedu.domain.entity.EmailOutbox;
+import com.wiedu.domain.enums.EmailOutboxStatus;
+import com.wiedu.repository.email.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이메일 대기열 발송 스케줄러
+ * - 발송 시점이 된 항목을 조건부 UPDATE로 선점 (여러 인스턴스가 동시에 돌아도 한 번만 발송)
+ * - 선점한 배치를 워커 수만큼 나누어 EmailDeliveryWorker에 넘김
+ * - 주기 실행 외에 새 항목이 커밋되면 wakeUp()으로 바로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "email.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailDispatcher {
+
+    private static final List<EmailOutboxStatus> DUE_STATUSES =
+            List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailDeliveryWorker deliveryWorker;
+    private final EmailProperties emailProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+
+    @Async("emailExecutor")
+    public void wakeUp() {
+        dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT5S}", initialDelayString = "PT30S")
+    public void poll() {
+        dispatch();
+    }
+
+    /**
+     * 이미 실행 중이면 끝난 뒤 한 번 더 돌도록 표시만 하고 반환 (동시에 몰린 wakeUp을 하나로 합침)
+     */
+    private void dispatch() {
+        rerunRequested.set(true);
+        while (rerunRequested.get() && running.compareAndSet(false, true)) {
+            try {
+                rerunRequested.set(false);
+                dispatchDue();
+            } catch (RuntimeException e) {
+                log.error("이메일 대기열 발송 실패", e);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private void dispatchDue() {
+        EmailProperties.Outbox outbox = emailProperties.getOutbox();
+        List<EmailOutbox> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> claimBatch(outbox));
+            if (claimed.isEmpty()) {
+                return;
+            }
+            for (List<EmailOutbox> chunk : split(claimed, outbox.getWorkers())) {
+                try {
+                    deliveryWorker.deliver(chunk);
+                } catch (TaskRejectedException e) {
+                    // 선점 만료 후 다시 가져가므로 유실되지 않음
+                    log.warn("이메일 발송 워커 포화: {}건은 선점 만료 후 재시도", chunk.size());
+                    return;
+                }
+            }
+        } while (claimed.size() == outbox.getBatchSize());
+    }
+
+    private List<EmailOutbox> claimBatch(EmailProperties.Outbox outbox) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> dueIds = outboxRepository.findDueIds(DUE_STATUSES, now, PageRequest.ofSize(outbox.getBatchSize()));
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime leaseUntil = now.plus(outbox.getLease());
+        int updated = outboxRepository.claim(dueIds, DUE_STATUSES, EmailOutboxStatus.SENDING, now, leaseUntil);
+        if (updated == 0) {
+            return List.of();
+        }
+        return outboxRepository.findClaimed(dueIds, EmailOutboxStatus.SENDING, leaseUntil);
+    }
+
+    private static List<List<EmailOutbox>> split(List<EmailOutbox> items, int parts) {
+        int chunkSize = Math.max(1, (items.size() + parts - 1) / Math.max(1, parts));
+        List<List<EmailOutbox>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + chunkSize)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,56 @@
+package com.wiedu.service.email;
+
+import com.wiedu.domain.entity.EmailOutbox;
+import com.wiedu.domain.enums.EmailTemplate;
+import com.wiedu.repository.email.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이메일 발송 대기열 등록
+ * 호출한 트랜잭션과 함께 저장되므로 요청이 롤백되면 메일도 나가지 않고,
+ * 커밋되면 재시작과 무관하게 EmailDispatcher가 발송할 때까지 남아 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository outboxRepository;
+    private final ObjectProvider<EmailDispatcher> emailDispatcher;
+
+    @Transactional
+    public void enqueue(String recipient, EmailTemplate template, String payload) {
+        outboxRepository.save(new EmailOutbox(recipient, template, payload));
+
+        // 커밋 직후 발송 스레드를 깨움 (요청 스레드는 SMTP를 기다리지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUpDispatcher();
+                }
+            });
+        } else {
+            wakeUpDispatcher();
+        }
+    }
+
+    /**
+     * emailExecutor가 포화 상태면 깨우기만 생략 (항목은 이미 커밋되어 있어 주기 실행이 발송함)
+     * afterCommit에서 예외가 나가면 이미 커밋된 요청이 실패로 응답되므로 여기서 삼킴
+     */
+    private void wakeUpDispatcher() {
+        try {
+            emailDispatcher.ifAvailable(EmailDispatcher::wakeUp);
+        } catch (TaskRejectedException e) {
+            log.debug("이메일 발송 스레드 포화: 다음 주기 실행에서 발송");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.wiedu.service.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "email")
+public class EmailProperties {
+    // true: 메일 발송 없이 인증 코드를 즉시 인증 처리 (SMTP를 쓸 수 없는 환경용)
+    private boolean autoVerify = true;
+    private Outbox outbox = new Outbox();
+    private Verification verification = new Verification();
+
+    /**
+     * 인증 코드 저장소 설정 (VerificationCodeStore)
+     */
+    @Getter
+    @Setter
+    public static class Verification {
+        // memory: 단일 인스턴스용 (기본값), database: 여러 인스턴스 공유
+        private String store = "memory";
+        private Duration codeTtl = Duration.ofMinutes(5);
+        // 인증 완료 상태 유지 시간 (인증 후 가입 완료까지)
+        private Duration verifiedTtl = Duration.ofDays(1);
+        // 코드 입력 실패 허용 횟수, 초과 시 lockout 동안 해당 이메일 인증 차단
+        private int maxAttempts = 5;
+        private Duration lockout = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 발송 대기열 설정 (EmailDispatcher)
+     */
+    @Getter
+    @Setter
+    public static class Outbox {
+        private boolean enabled = true;
+        // 대기열 확인 주기 (새 항목은 커밋 직후 바로 깨우므로 재시도/누락 복구용)
+        private Duration pollInterval = Duration.ofSeconds(5);
+        // 1회 선점 건수
+        private int batchSize = 50;
+        // 발송 워커 수 (워커마다 SMTP 연결 1개로 배치를 연속 발송)
+        private int workers = 2;
+        private int maxAttempts = 5;
+        // 재시도 간격: initialBackoff * 2^(시도 횟수 - 1), 최대 maxBackoff
+        private Duration initialBackoff = Duration.ofSeconds(30);
+        private Duration maxBackoff = Duration.ofMinutes(30);
+        // 선점 후 이 시간 안에 결과를 기록하지 못하면 다른 워커가 다시 가져감
+        private Duration lease = Duration.ofMinutes(5);
+    }
+}
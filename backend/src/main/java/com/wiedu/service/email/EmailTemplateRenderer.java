@@ -0,0 +1,107 @@
+package com.wiedu.service.email;
+
+import com.wiedu.domain.enums.EmailTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 이메일 본문 렌더링
+ * 템플릿은 기동 시 한 번만 포맷하여 인자 앞/뒤 조각으로 캐시하고,
+ * 발송 시에는 조각 사이에 인자만 이어 붙임 (매번 큰 HTML 문자열을 다시 포맷하지 않음)
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    private static final String ARGUMENT_MARKER = "\u0000ARG\u0000";
+
+    private static final String VERIFICATION_CODE_HTML = """
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+            </head>
+            <body style="margin: 0; padding: 0; font-family: 'Apple SD Gothic Neo', 'Noto Sans KR', -apple-system, BlinkMacSystemFont, sans-serif; background-color: #F4F4F5;">
+                <table width="100%%" cellpadding="0" cellspacing="0" style="background-color: #F4F4F5; padding: 40px 20px;">
+                    <tr>
+                        <td align="center">
+                            <table width="100%%" cellpadding="0" cellspacing="0" style="max-width: 480px; background: linear-gradient(135deg, #18181B 0%%, #27272A 100%%); border-radius: 24px; overflow: hidden; box-shadow: 0 20px 40px rgba(0,0,0,0.15);">
+                                <!-- Header -->
+                                <tr>
+                                    <td style="padding: 40px 40px 30px; text-align: center; background: linear-gradient(135deg, #8B5CF6 0%%, #A78BFA 100%%);">
+                                        <div style="font-size: 32px; font-weight: 800; color: #FFFFFF; letter-spacing: -1px;">
+                                            wi<span style="color: #E9D5FF;">edu</span>
+                                        </div>
+                                        <div style="margin-top: 8px; font-size: 14px; color: rgba(255,255,255,0.8);">
+                                            함께 성장하는 스터디 플랫폼
+                                        </div>
+                                    </td>
+                                </tr>
+                                <!-- Content -->
+                                <tr>
+                                    <td style="padding: 40px;">
+                                        <div style="text-align: center; margin-bottom: 30px;">
+                                            <div style="display: inline-block; width: 64px; height: 64px; background: linear-gradient(135deg, #8B5CF6 0%%, #A78BFA 100%%); border-radius: 50%%; line-height: 64px; font-size: 28px;">
+                                                ✉️
+                                            </div>
+                                        </div>
+                                        <h2 style="margin: 0 0 16px; font-size: 22px; font-weight: 700; color: #FFFFFF; text-align: center;">
+                                            이메일 인증 코드
+                                        </h2>
+                                        <p style="margin: 0 0 30px; font-size: 15px; color: #A1A1AA; text-align: center; line-height: 1.6;">
+                                            아래 인증 코드를 입력하여<br>회원가입을 완료해 주세요.
+                                        </p>
+                                        <!-- Code Box -->
+                                        <div style="background: linear-gradient(135deg, #3F3F46 0%%, #27272A 100%%); border: 2px solid #8B5CF6; border-radius: 16px; padding: 24px; text-align: center; margin-bottom: 30px;">
+                                            <div style="font-size: 36px; font-weight: 800; letter-spacing: 12px; color: #FFFFFF; font-family: 'SF Mono', 'Consolas', monospace;">
+                                                %s
+                                            </div>
+                                        </div>
+                                        <!-- Timer Info -->
+                                        <div style="background: rgba(139, 92, 246, 0.1); border-radius: 12px; padding: 16px; text-align: center; margin-bottom: 20px;">
+                                            <span style="color: #A78BFA; font-size: 14px; font-weight: 600;">⏱️ 5분 후 만료</span>
+                                        </div>
+                                        <p style="margin: 0; font-size: 13px; color: #71717A; text-align: center; line-height: 1.6;">
+                                            본인이 요청하지 않은 경우<br>이 이메일을 무시해 주세요.
+                                        </p>
+                                    </td>
+                                </tr>
+                                <!-- Footer -->
+                                <tr>
+                                    <td style="padding: 24px 40px; background: #18181B; border-top: 1px solid #27272A; text-align: center;">
+                                        <p style="margin: 0; font-size: 12px; color: #52525B;">
+                                            © 2024 wiedu. All rights reserved.
+                                        </p>
+                                    </td>
+                                </tr>
+                            </table>
+                        </td>
+                    </tr>
+                </table>
+            </body>
+            </html>
+            """;
+
+    private final Map<EmailTemplate, String[]> compiled = new EnumMap<>(EmailTemplate.class);
+
+    public EmailTemplateRenderer() {
+        compiled.put(EmailTemplate.VERIFICATION_CODE, compile(VERIFICATION_CODE_HTML));
+    }
+
+    public String render(EmailTemplate template, String argument) {
+        String[] parts = compiled.get(template);
+        return new StringBuilder(parts[0].length() + parts[1].length() + argument.length())
+                .append(parts[0])
+                .append(argument)
+                .append(parts[1])
+                .toString();
+    }
+
+    private static String[] compile(String template) {
+        String formatted = template.formatted(ARGUMENT_MARKER);
+        int index = formatted.indexOf(ARGUMENT_MARKER);
+        return new String[]{formatted.substring(0, index), formatted.substring(index + ARGUMENT_MARKER.length())};
+    }
+}
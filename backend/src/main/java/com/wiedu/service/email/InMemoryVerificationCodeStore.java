@@ -0,0 +1,154 @@
+package com.wiedu.service.email;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 기반 인증 코드 저장소
+ * 이메일별 항목을 맵에 두고, 만료 시각 순 큐로 다 쓴 항목만 앞에서부터 정리
+ * (코드/잠금/인증 완료 유지 시간이 서로 달라 저장 순서와 만료 순서가 같지 않으므로 우선순위 큐 사용)
+ * 항목 갱신은 맵의 compute로 원자적으로 처리하여 동시 입력에도 실패 횟수가 어긋나지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "email.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailProperties.Verification properties;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Expiry> expiryQueue = new PriorityBlockingQueue<>(64, Comparator.comparing(Expiry::at));
+
+    public InMemoryVerificationCodeStore(EmailProperties emailProperties) {
+        this.properties = emailProperties.getVerification();
+    }
+
+    /**
+     * code가 null이면 대기 중인 코드 없음, lockedUntil/verifiedUntil이 null이면 해당 상태 아님
+     */
+    private record Entry(String code, Instant codeExpiresAt, int failedAttempts,
+                         Instant lockedUntil, Instant verifiedUntil) {
+
+        Instant evictAt() {
+            return Stream.of(codeExpiresAt, lockedUntil, verifiedUntil)
+                    .filter(at -> at != null)
+                    .max(Comparator.naturalOrder())
+                    .orElse(Instant.MIN);
+        }
+
+        boolean isLocked(Instant now) {
+            return lockedUntil != null && lockedUntil.isAfter(now);
+        }
+
+        boolean isVerified(Instant now) {
+            return verifiedUntil != null && verifiedUntil.isAfter(now);
+        }
+    }
+
+    private record Expiry(Instant at, String email) {}
+
+    @Override
+    public void save(String email, String code) {
+        Instant now = Instant.now();
+        evictExpired(now);
+        update(email, existing -> new Entry(code, now.plus(properties.getCodeTtl()), 0,
+                existing != null && existing.isLocked(now) ? existing.lockedUntil() : null,
+                existing != null && existing.isVerified(now) ? existing.verifiedUntil() : null));
+    }
+
+    @Override
+    public void saveVerified(String email) {
+        Instant now = Instant.now();
+        evictExpired(now);
+        update(email, existing -> new Entry(null, null, 0, null, now.plus(properties.getVerifiedTtl())));
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        Instant now = Instant.now();
+        Result[] result = {Result.NOT_FOUND};
+        update(email, existing -> {
+            if (existing == null) {
+                return null;
+            }
+            if (existing.isLocked(now)) {
+                result[0] = Result.LOCKED;
+                return existing;
+            }
+            if (existing.code() == null) {
+                return existing;
+            }
+            if (!existing.codeExpiresAt().isAfter(now)) {
+                result[0] = Result.EXPIRED;
+                return existing;
+            }
+            if (existing.code().equals(code)) {
+                result[0] = Result.VERIFIED;
+                return new Entry(null, null, 0, null, now.plus(properties.getVerifiedTtl()));
+            }
+            int failedAttempts = existing.failedAttempts() + 1;
+            if (failedAttempts >= properties.getMaxAttempts()) {
+                // 코드 폐기 + 잠금
+                result[0] = Result.LOCKED;
+                return new Entry(null, null, 0, now.plus(properties.getLockout()), existing.verifiedUntil());
+            }
+            result[0] = Result.INVALID;
+            return new Entry(existing.code(), existing.codeExpiresAt(), failedAttempts,
+                    existing.lockedUntil(), existing.verifiedUntil());
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        Entry entry = entries.get(email);
+        return entry != null && entry.isVerified(Instant.now());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void cleanup() {
+        evictExpired(Instant.now());
+    }
+
+    /**
+     * 항목을 원자적으로 교체하고, 새 만료 시각을 큐에 등록
+     */
+    private void update(String email, UnaryOperator<Entry> updater) {
+        Entry[] previous = new Entry[1];
+        Entry updated = entries.compute(email, (key, existing) -> {
+            previous[0] = existing;
+            return updater.apply(existing);
+        });
+        // 변경이 없거나 만료 시각이 그대로면 큐에 다시 넣지 않음 (잘못된 코드 반복 입력 시 큐 증가 방지)
+        if (updated != null && updated != previous[0]
+                && (previous[0] == null || !updated.evictAt().equals(previous[0].evictAt()))) {
+            expiryQueue.add(new Expiry(updated.evictAt(), email));
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Expiry head;
+        while ((head = expiryQueue.peek()) != null && !head.at().isAfter(now)) {
+            Expiry expired = expiryQueue.poll();
+            if (expired == null) {
+                return;
+            }
+            if (expired.at().isAfter(now)) {
+                // 다른 스레드가 먼저 꺼내 간 사이 다음 항목을 꺼낸 경우 되돌려 놓음
+                expiryQueue.add(expired);
+                return;
+            }
+            // 이후 갱신으로 만료 시각이 늘어난 항목은 유지
+            entries.computeIfPresent(expired.email(),
+                    (key, entry) -> entry.evictAt().isAfter(now) ? entry : null);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.wiedu.service.email;
+
+/**
+ * 이메일 인증 코드 저장소
+ * - memory: 단일 인스턴스용 (기본값), 인증 트래픽이 DB를 거치지 않음
+ * - database: 여러 인스턴스가 같은 인증 상태를 봐야 할 때 (email.verification.store=database)
+ *
+ * 코드 입력 실패가 maxAttempts에 도달하면 코드를 폐기하고 lockout 동안 해당 이메일의 인증을 막음
+ * (새 코드를 발급받아도 잠금은 유지)
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 새 코드 저장 (이전 미인증 코드와 실패 횟수는 대체)
+     */
+    void save(String email, String code);
+
+    /**
+     * 코드 없이 인증 완료 상태로 저장 (email.auto-verify)
+     */
+    void saveVerified(String email);
+
+    Result verify(String email, String code);
+
+    boolean isVerified(String email);
+
+    enum Result {
+        VERIFIED,
+        NOT_FOUND,
+        EXPIRED,
+        INVALID,
+        LOCKED
+    }
+}
@@ -0,0 +1,116 @@
+package com.wiedu.service.file;
+
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 저장소 구현체 공통 처리 (업로드 검증, 저장 경로 규칙)
+ * 저장 경로: {하위 디렉토리}/{yyyy/MM/dd}/{UUID}.{확장자}
+ */
+public abstract class AbstractFileStorageService implements FileStorageService {
+
+    private static final DateTimeFormatter DATE_PATH_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    @Value("${file.max-size}")
+    private long maxSize;
+
+    @Value("${file.allowed-types}")
+    private String allowedTypes;
+
+    /**
+     * 새 파일의 저장 경로 생성 (날짜 기반 하위 디렉토리, UUID 파일명 - 원본 파일명 사용 안함)
+     */
+    protected String newStoredPath(String subdirectory, String originalFilename) {
+        // 날짜 기반 하위 디렉토리 (예: covers/2026/03/31)
+        String datePath = LocalDate.now().format(DATE_PATH_FORMATTER);
+        String sanitizedSubdir = sanitizePath(subdirectory);
+        String directory = sanitizedSubdir.isEmpty() ? datePath : sanitizedSubdir + "/" + datePath;
+        return directory + "/" + UUID.randomUUID() + getFileExtension(originalFilename);
+    }
+
+    /**
+     * 경로 정규화 (Path Traversal 방지)
+     */
+    protected String sanitizePath(String path) {
+        if (path == null) {
+            return "";
+        }
+        // .. 및 경로 구분자 정규화
+        return path.replace("\\", "/")
+                   .replaceAll("\\.\\.", "")
+                   .replaceAll("//+", "/")
+                   .replaceAll("^/+", "")
+                   .replaceAll("/+$", "");
+    }
+
+    /**
+     * 파일 검증 (크기, MIME 타입)
+     */
+    protected void validateFile(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다");
+        }
+        validateUpload(file.getContentType(), file.getSize());
+    }
+
+    @Override
+    public void validateUpload(String contentType, long size) {
+        if (size <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다");
+        }
+
+        if (size > maxSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "파일 크기는 " + (maxSize / 1024 / 1024) + "MB를 초과할 수 없습니다");
+        }
+
+        if (contentType == null || !isAllowedType(contentType)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "허용되지 않는 파일 형식입니다. 허용: " + allowedTypes);
+        }
+    }
+
+    /**
+     * 허용된 MIME 타입 확인
+     */
+    private boolean isAllowedType(String contentType) {
+        List<String> allowed = Arrays.asList(allowedTypes.split(","));
+        return allowed.contains(contentType);
+    }
+
+    /**
+     * 파일 확장자 추출 (Path Traversal 방지)
+     */
+    protected String getFileExtension(String filename) {
+        if (filename == null || !filename.contains(".")) {
+            return "";
+        }
+        // Path Traversal 방지: 파일명에서 경로 구분자 제거
+        String sanitized = filename.replace("\\", "/");
+        if (sanitized.contains("/")) {
+            sanitized = sanitized.substring(sanitized.lastIndexOf("/") + 1);
+        }
+        // 허용된 확장자만 추출
+        String extension = sanitized.substring(sanitized.lastIndexOf(".")).toLowerCase();
+        if (!isAllowedExtension(extension)) {
+            return ".jpg"; // 기본값
+        }
+        return extension;
+    }
+
+    /**
+     * 허용된 확장자 확인
+     */
+    private boolean isAllowedExtension(String extension) {
+        return extension.equals(".jpg") || extension.equals(".jpeg")
+            || extension.equals(".png") || extension.equals(".webp");
+    }
+}
@@ -0,0 +1,227 @@
+package com.wiedu.service.file;
+
+import com.wiedu.domain.entity.StoredBlob;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.repository.file.StoredBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소 기반 로컬 파일 저장소 (file.storage=content-addressed)
+ * - 업로드를 임시 파일로 쓰면서 SHA-256을 계산하고, {구분}/blobs/{앞 2자리}/{다이제스트}.{확장자}에 저장
+ * - 같은 구분에 같은 내용이 이미 있으면 저장하지 않고 참조 수만 늘려 같은 URL 반환
+ *   (같은 모임 사진 재게시, 모바일 재시도, 같은 프로필 사진 재사용)
+ * - 생성된 썸네일/변형을 STORED_BLOBS에 기록하여 같은 내용은 다시 디코딩하지 않음
+ * - delete는 참조 수를 줄이고 0이 될 때만 파일 삭제
+ *
+ * 참조 수 변경은 호출한 트랜잭션과 분리(REQUIRES_NEW)하여 즉시 커밋
+ * (업로드 트랜잭션이 롤백되면 afterCompletion의 delete가 감소시키므로 증가분이 같이 롤백되면 안 됨)
+ * 로컬 볼륨은 한 인스턴스만 쓰므로 같은 다이제스트의 저장/삭제는 JVM 락으로 직렬화
+ * 이 모드 이전에 저장된 날짜 경로 파일은 기존 방식 그대로 삭제
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage", havingValue = "content-addressed")
+public class ContentAddressedFileStorageService extends LocalFileStorageService {
+
+    private static final String BLOB_DIRECTORY = "blobs";
+    private static final Pattern BLOB_PATH =
+            Pattern.compile("^([^/]+)/" + BLOB_DIRECTORY + "/[0-9a-f]{2}/([0-9a-f]{64})(\\.[a-z]+)?$");
+    private static final int LOCK_STRIPES = 64;
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final TransactionTemplate requiresNew;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public ContentAddressedFileStorageService(StoredBlobRepository storedBlobRepository,
+                                              PlatformTransactionManager transactionManager) {
+        this.storedBlobRepository = storedBlobRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public String store(MultipartFile file, String subdirectory) throws IOException {
+        validateFile(file);
+
+        String namespace = namespaceOf(subdirectory);
+        Path baseUploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path tempDirectory = baseUploadPath.resolve(".tmp");
+        Files.createDirectories(tempDirectory);
+
+        // 임시 파일로 쓰면서 다이제스트 계산 (업로드 전체를 메모리에 올리지 않음)
+        Path tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            MessageDigest messageDigest = sha256();
+            try (InputStream input = new DigestInputStream(file.getInputStream(), messageDigest);
+                 OutputStream output = Files.newOutputStream(tempFile)) {
+                input.transferTo(output);
+            }
+            String digest = HexFormat.of().formatHex(messageDigest.digest());
+            String storedPath = namespace + "/" + BLOB_DIRECTORY + "/" + digest.substring(0, 2) + "/"
+                    + digest + getFileExtension(file.getOriginalFilename());
+
+            ReentrantLock lock = lockFor(digest);
+            lock.lock();
+            try {
+                Optional<StoredBlob> existing = storedBlobRepository.findByNamespaceAndDigest(namespace, digest);
+                if (existing.isPresent()) {
+                    StoredBlob blob = existing.get();
+                    requiresNew.executeWithoutResult(status -> storedBlobRepository.incrementRefCount(blob.getId()));
+                    log.info("중복 업로드 재사용: {} (digest={})", blob.getStoredPath(), digest);
+                    return resolveUrl(blob.getStoredPath());
+                }
+
+                Path target = baseUploadPath.resolve(storedPath).normalize();
+                if (!target.startsWith(baseUploadPath)) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 경로입니다");
+                }
+                Files.createDirectories(target.getParent());
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                long fileSize = Files.size(target);
+                try {
+                    requiresNew.executeWithoutResult(status -> storedBlobRepository.save(StoredBlob.builder()
+                            .namespace(namespace)
+                            .digest(digest)
+                            .storedPath(storedPath)
+                            .fileSize(fileSize)
+                            .build()));
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 인스턴스가 같은 볼륨을 쓰는 잘못된 구성에서만 발생, 기존 행을 참조
+                    StoredBlob blob = storedBlobRepository.findByNamespaceAndDigest(namespace, digest).orElseThrow(() -> e);
+                    requiresNew.executeWithoutResult(status -> storedBlobRepository.incrementRefCount(blob.getId()));
+                    return resolveUrl(blob.getStoredPath());
+                }
+                log.info("파일 저장 완료: {}", storedPath);
+                return resolveUrl(storedPath);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public String findVariants(String fileUrl) {
+        if (blobPathOf(fileUrl) == null) {
+            return null;
+        }
+        return storedBlobRepository.findByStoredPath(relativePathOf(fileUrl))
+                .map(StoredBlob::getVariants)
+                .orElse(null);
+    }
+
+    @Override
+    public String findPlaceholder(String fileUrl) {
+        if (blobPathOf(fileUrl) == null) {
+            return null;
+        }
+        return storedBlobRepository.findByStoredPath(relativePathOf(fileUrl))
+                .map(StoredBlob::getPlaceholder)
+                .orElse(null);
+    }
+
+    @Override
+    public void recordVariants(String fileUrl, String variants, String placeholder) {
+        if (blobPathOf(fileUrl) == null) {
+            return;
+        }
+        requiresNew.executeWithoutResult(status ->
+                storedBlobRepository.updateVariants(relativePathOf(fileUrl), variants, placeholder));
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        Matcher blobPath = blobPathOf(fileUrl);
+        if (blobPath == null) {
+            // 썸네일/변형 URL이나 이 모드 이전의 날짜 경로 파일
+            super.delete(fileUrl);
+            return;
+        }
+
+        String namespace = blobPath.group(1);
+        String digest = blobPath.group(2);
+        ReentrantLock lock = lockFor(digest);
+        lock.lock();
+        try {
+            Boolean unreferenced = requiresNew.execute(status -> {
+                StoredBlob blob = storedBlobRepository.findByNamespaceAndDigest(namespace, digest).orElse(null);
+                if (blob == null) {
+                    return true;
+                }
+                storedBlobRepository.decrementRefCount(blob.getId());
+                return storedBlobRepository.deleteIfUnreferenced(blob.getId()) > 0;
+            });
+            if (Boolean.TRUE.equals(unreferenced)) {
+                super.delete(fileUrl);
+            } else {
+                log.info("참조가 남아 있어 파일 유지: {}", relativePathOf(fileUrl));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 구분은 하위 디렉토리의 최상위 (gallery/12 → gallery)
+     * 같은 구분 안에서만 중복 제거하여 용도별 변형 너비가 섞이지 않게 함
+     */
+    private String namespaceOf(String subdirectory) {
+        String sanitized = sanitizePath(subdirectory);
+        int slash = sanitized.indexOf('/');
+        String namespace = slash < 0 ? sanitized : sanitized.substring(0, slash);
+        return namespace.isEmpty() ? "general" : namespace;
+    }
+
+    private Matcher blobPathOf(String fileUrl) {
+        if (!isStored(fileUrl)) {
+            return null;
+        }
+        Matcher matcher = BLOB_PATH.matcher(relativePathOf(fileUrl));
+        return matcher.matches() ? matcher : null;
+    }
+
+    private String relativePathOf(String fileUrl) {
+        return fileUrl.substring((baseUrl + "/uploads/").length());
+    }
+
+    private ReentrantLock lockFor(String digest) {
+        return locks[Math.floorMod(digest.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
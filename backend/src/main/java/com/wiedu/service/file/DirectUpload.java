@@ -0,0 +1,22 @@
+package com.wiedu.service.file;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 직접 업로드 정보
+ *
+ * @param uploadUrl 파일 내용을 보낼 서명된 URL
+ * @param method HTTP 메서드 (PUT)
+ * @param headers 업로드 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)
+ * @param fileUrl 업로드 완료 후 파일 URL
+ * @param expiresAt uploadUrl 만료 시각
+ */
+public record DirectUpload(
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        String fileUrl,
+        Instant expiresAt
+) {
+}
@@ -1,12 +1,15 @@
 package com.wiedu.service.file;
 
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * 파일 저장소 추상화 인터페이스
- * 향후 S3 등 다른 저장소로 마이그레이션 시 구현체만 교체하면 됨
+ * file.storage 설정으로 구현체 선택 (local, content-addressed, s3)
  */
 public interface FileStorageService {
 
@@ -20,6 +23,93 @@ public interface FileStorageService {
      */
     String store(MultipartFile file, String subdirectory) throws IOException;
 
+    /**
+     * 업로드 예정 파일 검증 (파일 내용 없이 선언된 크기/타입만으로 판단, store와 같은 기준)
+     * 이어 올리기, 직접 업로드처럼 내용을 받기 전에 거절해야 하는 경우에 사용
+     *
+     * @param contentType 업로드할 파일의 MIME 타입
+     * @param size 업로드할 파일 크기
+     * @throws BusinessException 비었거나 크기 초과, 허용되지 않는 타입이면
+     */
+    void validateUpload(String contentType, long size);
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 수 있는 업로드 URL 발급 (파일 내용이 서버를 거치지 않음)
+     * 업로드 후에는 fileUrl을 store 결과와 같은 방식으로 사용
+     *
+     * @param subdirectory 하위 디렉토리 (예: "covers", "profile")
+     * @param originalFilename 원본 파일명 (확장자 결정용)
+     * @param contentType 업로드할 파일의 MIME 타입 (서명에 포함)
+     * @param size 업로드할 파일 크기 (서명에 포함)
+     * @return 업로드 URL과 업로드 후 파일 URL
+     * @throws BusinessException 직접 업로드를 지원하지 않는 저장소이거나 검증 실패 시
+     */
+    default DirectUpload createDirectUpload(String subdirectory, String originalFilename,
+                                            String contentType, long size) {
+        throw new BusinessException(ErrorCode.DIRECT_UPLOAD_NOT_SUPPORTED);
+    }
+
+    /**
+     * 저장된 파일 읽기 (썸네일 생성 등 후처리용)
+     *
+     * @param fileUrl 저장된 파일의 URL
+     * @return 파일 내용 스트림 (호출자가 닫아야 함)
+     * @throws IOException 파일이 없거나 읽기 실패 시
+     */
+    InputStream load(String fileUrl) throws IOException;
+
+    /**
+     * 원본에서 파생된 파일(썸네일, 너비별 변형)을 원본 옆에 저장
+     * 이름은 ImageVariants.variantUrl 규칙을 따르며, 원본을 delete하면 함께 삭제됨
+     *
+     * @param fileUrl 원본 파일의 URL
+     * @param variant 파생 파일 구분 (예: "thumb", "w320")
+     * @param extension 파생 파일 확장자 (예: "jpg", "webp")
+     * @param content 파생 파일 내용
+     * @return 저장된 파생 파일의 URL
+     * @throws IOException 파일 저장 실패 시
+     */
+    String storeVariant(String fileUrl, String variant, String extension, byte[] content) throws IOException;
+
+    /**
+     * 이 저장소에 저장된 파일의 URL인지 (외부 URL, 기기 로컬 URI 제외)
+     *
+     * @param fileUrl 확인할 URL
+     * @return 이 저장소가 관리하는 파일이면 true
+     */
+    boolean isStored(String fileUrl);
+
+    /**
+     * 같은 내용의 파일에 대해 이미 생성된 썸네일/변형 조회
+     * 내용 주소 기반 저장소처럼 같은 파일이 여러 번 저장될 수 있는 구현만 지원
+     *
+     * @param fileUrl 원본 파일의 URL
+     * @return ImageVariants.encode 형식, 처리 전이거나 지원하지 않으면 null
+     */
+    default String findVariants(String fileUrl) {
+        return null;
+    }
+
+    /**
+     * 같은 내용의 파일에 대해 이미 계산된 미리보기 조회 (findVariants와 같은 조건)
+     *
+     * @param fileUrl 원본 파일의 URL
+     * @return ImagePlaceholder.encode 형식, 없으면 null
+     */
+    default String findPlaceholder(String fileUrl) {
+        return null;
+    }
+
+    /**
+     * 생성된 썸네일/변형과 미리보기 기록 (이후 같은 내용이 다시 저장되면 findVariants, findPlaceholder로 재사용)
+     *
+     * @param fileUrl 원본 파일의 URL
+     * @param variants ImageVariants.encode 형식
+     * @param placeholder ImagePlaceholder.encode 형식
+     */
+    default void recordVariants(String fileUrl, String variants, String placeholder) {
+    }
+
     /**
      * 파일 삭제
      *
@@ -2,97 +2,81 @@ package com.wiedu.service.file;
 
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
+import com.wiedu.service.image.ImageVariants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
 
 /**
- * 로컬 파일 시스템 기반 파일 저장소 구현체
- * 향후 S3StorageService로 교체 가능
+ * 로컬 파일 시스템 기반 파일 저장소 구현체 (file.storage=local)
+ * 한 인스턴스의 볼륨에 저장하므로 여러 인스턴스로 확장하려면 S3FileStorageService 사용
  */
 @Slf4j
 @Service
-public class LocalFileStorageService implements FileStorageService {
+@ConditionalOnProperty(name = "file.storage", havingValue = "local", matchIfMissing = true)
+public class LocalFileStorageService extends AbstractFileStorageService {
 
     @Value("${file.upload-dir}")
-    private String uploadDir;
-
-    @Value("${file.max-size}")
-    private long maxSize;
-
-    @Value("${file.allowed-types}")
-    private String allowedTypes;
+    protected String uploadDir;
 
     @Value("${file.base-url}")
-    private String baseUrl;
-
-    private static final int THUMBNAIL_SIZE = 300;
-    private static final DateTimeFormatter DATE_PATH_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    protected String baseUrl;
 
     @Override
     public String store(MultipartFile file, String subdirectory) throws IOException {
         // 파일 검증
         validateFile(file);
 
-        // subdirectory 검증 (Path Traversal 방지)
-        String sanitizedSubdir = sanitizePath(subdirectory);
-
-        // 날짜 기반 하위 디렉토리 생성 (예: covers/2026/03/31)
-        String datePath = LocalDate.now().format(DATE_PATH_FORMATTER);
-        String fullSubdir = sanitizedSubdir + "/" + datePath;
+        // 날짜 기반 경로 + UUID 파일명 (subdirectory는 Path Traversal 방지 처리됨)
+        String relativePath = newStoredPath(subdirectory, file.getOriginalFilename());
 
         // 업로드 디렉토리 생성
         Path baseUploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-        Path uploadPath = baseUploadPath.resolve(fullSubdir).normalize();
+        Path filePath = baseUploadPath.resolve(relativePath).normalize();
 
         // 경로가 업로드 디렉토리 내부인지 확인
-        if (!uploadPath.startsWith(baseUploadPath)) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 업로드 경로입니다");
-        }
-        Files.createDirectories(uploadPath);
-
-        // UUID 기반 파일명 생성 (원본 파일명 사용 안함 - 보안)
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String uuid = UUID.randomUUID().toString();
-        String storedFilename = uuid + extension;
-
-        // 파일 저장
-        Path filePath = uploadPath.resolve(storedFilename).normalize();
-
-        // 최종 경로 재검증
         if (!filePath.startsWith(baseUploadPath)) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 경로입니다");
         }
+        Files.createDirectories(filePath.getParent());
+
+        // 파일 저장
         Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
 
-        // 이미지인 경우 썸네일 생성
-        if (isImage(file.getContentType())) {
-            createThumbnail(filePath, uploadPath.resolve("thumb_" + storedFilename));
-        }
+        // 썸네일은 요청 스레드에서 만들지 않음 (ImageProcessingService가 비동기로 생성)
 
         // URL 반환 (날짜 경로 포함)
-        String relativePath = fullSubdir + "/" + storedFilename;
         log.info("파일 저장 완료: {}", relativePath);
         return resolveUrl(relativePath);
     }
 
+    @Override
+    public InputStream load(String fileUrl) throws IOException {
+        return Files.newInputStream(resolvePath(fileUrl));
+    }
+
+    @Override
+    public String storeVariant(String fileUrl, String variant, String extension, byte[] content) throws IOException {
+        String variantUrl = ImageVariants.variantUrl(fileUrl, variant, extension);
+        Files.write(resolvePath(variantUrl), content);
+        return variantUrl;
+    }
+
+    @Override
+    public boolean isStored(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(baseUrl + "/uploads/");
+    }
+
     @Override
     public void delete(String fileUrl) {
         try {
@@ -103,10 +87,8 @@ public class LocalFileStorageService implements FileStorageService {
             // 원본 파일 삭제
             Files.deleteIfExists(filePath);
 
-            // 썸네일 삭제
-            String filename = filePath.getFileName().toString();
-            Path thumbnailPath = filePath.getParent().resolve("thumb_" + filename);
-            Files.deleteIfExists(thumbnailPath);
+            // 썸네일/변형 삭제 ({variant}_{원본 파일명(확장자 제외)}.{확장자})
+            deleteVariants(filePath);
 
             log.info("파일 삭제 완료: {}", relativePath);
         } catch (IOException e) {
@@ -120,125 +102,32 @@ public class LocalFileStorageService implements FileStorageService {
     }
 
     /**
-     * 경로 정규화 (Path Traversal 방지)
-     */
-    private String sanitizePath(String path) {
-        if (path == null) {
-            return "";
-        }
-        // .. 및 경로 구분자 정규화
-        return path.replace("\\", "/")
-                   .replaceAll("\\.\\.", "")
-                   .replaceAll("//+", "/")
-                   .replaceAll("^/+", "")
-                   .replaceAll("/+$", "");
-    }
-
-    /**
-     * 파일 검증 (크기, MIME 타입)
-     */
-    private void validateFile(MultipartFile file) {
-        if (file.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다");
-        }
-
-        if (file.getSize() > maxSize) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                    "파일 크기는 " + (maxSize / 1024 / 1024) + "MB를 초과할 수 없습니다");
-        }
-
-        String contentType = file.getContentType();
-        if (contentType == null || !isAllowedType(contentType)) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                    "허용되지 않는 파일 형식입니다. 허용: " + allowedTypes);
-        }
-    }
-
-    /**
-     * 허용된 MIME 타입 확인
+     * 원본 옆에 저장된 파생 파일 삭제 (원본 파일명이 UUID라 다른 파일과 겹치지 않음)
      */
-    private boolean isAllowedType(String contentType) {
-        List<String> allowed = Arrays.asList(allowedTypes.split(","));
-        return allowed.contains(contentType);
-    }
-
-    /**
-     * 이미지 파일 여부 확인
-     */
-    private boolean isImage(String contentType) {
-        return contentType != null && contentType.startsWith("image/");
-    }
-
-    /**
-     * 파일 확장자 추출 (Path Traversal 방지)
-     */
-    private String getFileExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
-        }
-        // Path Traversal 방지: 파일명에서 경로 구분자 제거
-        String sanitized = filename.replace("\\", "/");
-        if (sanitized.contains("/")) {
-            sanitized = sanitized.substring(sanitized.lastIndexOf("/") + 1);
-        }
-        // 허용된 확장자만 추출
-        String extension = sanitized.substring(sanitized.lastIndexOf(".")).toLowerCase();
-        if (!isAllowedExtension(extension)) {
-            return ".jpg"; // 기본값
-        }
-        return extension;
-    }
-
-    /**
-     * 허용된 확장자 확인
-     */
-    private boolean isAllowedExtension(String extension) {
-        return extension.equals(".jpg") || extension.equals(".jpeg")
-            || extension.equals(".png") || extension.equals(".webp");
-    }
-
-    /**
-     * 썸네일 생성 (300x300)
-     */
-    private void createThumbnail(Path sourcePath, Path thumbnailPath) throws IOException {
-        BufferedImage original = ImageIO.read(sourcePath.toFile());
-        if (original == null) {
+    protected void deleteVariants(Path filePath) throws IOException {
+        String filename = filePath.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        String stem = dot > 0 ? filename.substring(0, dot) : filename;
+        if (stem.isEmpty() || !Files.isDirectory(filePath.getParent())) {
             return;
         }
-
-        int width = original.getWidth();
-        int height = original.getHeight();
-
-        // 정사각형 크롭 (중앙 기준)
-        int size = Math.min(width, height);
-        int x = (width - size) / 2;
-        int y = (height - size) / 2;
-        BufferedImage cropped = original.getSubimage(x, y, size, size);
-
-        // 리사이즈
-        BufferedImage thumbnail = new BufferedImage(THUMBNAIL_SIZE, THUMBNAIL_SIZE, BufferedImage.TYPE_INT_RGB);
-        Graphics2D graphics = thumbnail.createGraphics();
-        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        graphics.drawImage(cropped, 0, 0, THUMBNAIL_SIZE, THUMBNAIL_SIZE, null);
-        graphics.dispose();
-
-        // 저장
-        String format = getImageFormat(sourcePath.toString());
-        ImageIO.write(thumbnail, format, thumbnailPath.toFile());
+        try (DirectoryStream<Path> variants = Files.newDirectoryStream(filePath.getParent(), "*_" + stem + ".*")) {
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+            }
+        }
     }
 
     /**
-     * 이미지 포맷 추출
+     * URL을 업로드 디렉토리 내부의 파일 경로로 변환
      */
-    private String getImageFormat(String filename) {
-        String extension = getFileExtension(filename).toLowerCase();
-        if (extension.equals(".jpg") || extension.equals(".jpeg")) {
-            return "jpg";
-        } else if (extension.equals(".png")) {
-            return "png";
-        } else if (extension.equals(".webp")) {
-            return "webp";
+    protected Path resolvePath(String fileUrl) {
+        String relativePath = fileUrl.replace(baseUrl + "/uploads/", "");
+        Path baseUploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = baseUploadPath.resolve(relativePath).normalize();
+        if (!filePath.startsWith(baseUploadPath) || filePath.equals(baseUploadPath)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 경로입니다");
         }
-        return "jpg"; // 기본값
+        return filePath;
     }
 }
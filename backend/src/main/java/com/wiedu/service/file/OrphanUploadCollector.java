@@ -0,0 +1,350 @@
+package com.wiedu.service.file;
+
+import com.wiedu.config.SchedulingConfig;
+import com.wiedu.repository.file.UploadReferenceRepository;
+import com.wiedu.service.image.ImageVariants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 고아 업로드 파일 정리 (업로드 GC)
+ * 행에 연결되지 않은 파일이 볼륨에 쌓이는 경우
+ * - FileController로 올린 커버 이미지가 스터디 저장 없이 버려짐
+ * - 프로필 이미지 교체 시 기존 파일 삭제 실패 (ProfileService는 실패를 무시)
+ * - 삭제/변형 생성과 행 변경이 엇갈린 경우
+ *
+ * 날짜 디렉토리({구분}/.../yyyy/MM/dd)를 경로 순으로 순회하면서, 같은 순서로 정렬된 참조 경로
+ * (GALLERY_PHOTOS, USERS.profile_image, STUDIES.cover_image_url)를 배치로 읽어 병합 비교
+ * (전체 참조 목록을 메모리에 올리지 않고 디렉토리 하나 분량만 유지)
+ * - 미참조 + 유예 기간 경과 → .quarantine/{같은 경로}로 격리
+ * - 격리 파일이 다시 참조되면 복구, 보관 기간이 지나면 삭제 후 회수 용량 기록
+ * 썸네일/변형({variant}_{원본 파일명})은 원본이 참조되면 참조된 것으로 봄
+ * 내용 주소 저장소(blobs)는 STORED_BLOBS 참조 수로 관리하므로 제외
+ * 로컬 볼륨만 순회하므로 file.storage=s3에서는 등록하지 않음
+ * (버킷의 고아 객체는 정리하지 않음, 필요하면 버킷 수명 주기 규칙으로 관리)
+ *
+ * 1회 실행당 maxPartitionsPerRun 디렉토리만 처리하고 커서부터 이어서 진행 (끝까지 가면 처음부터)
+ *
+ * 메트릭
+ * - upload.gc.files (action=quarantined|restored|deleted): 처리한 파일 수
+ * - upload.gc.reclaimed.bytes: 삭제로 회수한 용량
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.gc.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExpression("'${file.storage:local}' != 's3'")
+public class OrphanUploadCollector {
+
+    private static final String QUARANTINE_DIRECTORY = ".quarantine";
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String BLOB_DIRECTORY = "blobs";
+    private static final Pattern DATE_PARTITION = Pattern.compile("^.+/\\d{4}/\\d{2}/\\d{2}$");
+    private static final Pattern VARIANT_NAME = Pattern.compile("^(?:" + ImageVariants.THUMBNAIL + "|w\\d+)_(.+)$");
+    // 날짜 디렉토리보다 깊은 경로는 순회하지 않음 (gallery/{studyId}/yyyy/MM/dd)
+    private static final int MAX_DEPTH = 6;
+
+    private final UploadReferenceRepository uploadReferenceRepository;
+    private final UploadGcProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Path baseUploadPath;
+    private final Path quarantinePath;
+
+    // 마지막으로 처리한 날짜 디렉토리 (재시작하면 처음부터)
+    private String cursor = "";
+
+    public OrphanUploadCollector(UploadReferenceRepository uploadReferenceRepository,
+                                 UploadGcProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${file.upload-dir}") String uploadDir) {
+        this.uploadReferenceRepository = uploadReferenceRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.baseUploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.quarantinePath = baseUploadPath.resolve(QUARANTINE_DIRECTORY);
+    }
+
+    @Scheduled(fixedDelayString = "${file.gc.interval:PT1H}", initialDelayString = "PT10M",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void collect() {
+        if (!Files.isDirectory(baseUploadPath)) {
+            return;
+        }
+        Instant now = Instant.now();
+        SweepResult result = new SweepResult();
+
+        try {
+            List<String> partitions = new ArrayList<>();
+            findPartitions(baseUploadPath, "", 0, partitions);
+
+            ReferenceReader references = new ReferenceReader(cursor);
+            for (String partition : partitions) {
+                sweepPartition(partition, references.stemsIn(partition), now, result);
+                cursor = partition;
+            }
+            // 덜 찼으면 마지막 디렉토리까지 순회한 것
+            if (partitions.size() < properties.getMaxPartitionsPerRun()) {
+                cursor = "";
+                purgeTempFiles(now, result);
+            }
+            result.partitions = partitions.size();
+        } catch (IOException e) {
+            log.error("업로드 GC 실패: cursor={}", cursor, e);
+        }
+
+        if (result.quarantined + result.restored + result.deleted > 0) {
+            log.info("업로드 GC 완료: partitions={}, quarantined={}, restored={}, deleted={}, reclaimedBytes={}",
+                    result.partitions, result.quarantined, result.restored, result.deleted, result.reclaimedBytes);
+        }
+    }
+
+    /**
+     * 커서 다음 날짜 디렉토리를 경로 순으로 최대 maxPartitionsPerRun개 수집
+     * 자식 이름에 '/'를 붙여 정렬하므로 순회 순서가 전체 경로 문자열 순서(참조 조회 순서)와 같음
+     */
+    private void findPartitions(Path directory, String relativePath, int depth, List<String> partitions)
+            throws IOException {
+        if (!relativePath.isEmpty() && DATE_PARTITION.matcher(relativePath).matches()) {
+            if ((relativePath + "/").compareTo(cursor + "/") > 0) {
+                partitions.add(relativePath);
+            }
+            return;
+        }
+        if (depth >= MAX_DEPTH) {
+            return;
+        }
+
+        List<String> children = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (!name.startsWith(".") && !name.equals(BLOB_DIRECTORY)) {
+                    children.add(name);
+                }
+            }
+        }
+        children.sort(Comparator.comparing(name -> name + "/"));
+
+        for (String name : children) {
+            String childPath = relativePath.isEmpty() ? name : relativePath + "/" + name;
+            if (isBeforeCursor(childPath)) {
+                continue;
+            }
+            findPartitions(directory.resolve(name), childPath, depth + 1, partitions);
+            if (partitions.size() >= properties.getMaxPartitionsPerRun()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 하위 트리 전체가 커서 이전인지 (커서가 그 안에 있으면 이어서 내려가야 하므로 false)
+     */
+    private boolean isBeforeCursor(String path) {
+        String prefix = path + "/";
+        String current = cursor + "/";
+        return !cursor.isEmpty() && prefix.compareTo(current) < 0 && !current.startsWith(prefix);
+    }
+
+    /**
+     * 날짜 디렉토리 하나 정리
+     * 원본 위치의 미참조 파일은 격리하고, 격리 위치의 파일은 참조 여부에 따라 복구 또는 삭제
+     */
+    private void sweepPartition(String partition, Set<String> referenced, Instant now, SweepResult result)
+            throws IOException {
+        Path live = baseUploadPath.resolve(partition);
+        Path quarantined = quarantinePath.resolve(partition);
+        Instant orphanedBefore = now.minus(properties.getGracePeriod());
+        Instant expiredBefore = now.minus(properties.getQuarantineRetention());
+
+        for (Path file : listFiles(live)) {
+            if (referenced.contains(stemOf(file)) || lastModified(file).isAfter(orphanedBefore)) {
+                continue;
+            }
+            Path target = quarantined.resolve(file.getFileName());
+            Files.createDirectories(quarantined);
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // 격리 시각을 기록하여 보관 기간 계산에 사용
+            Files.setLastModifiedTime(target, FileTime.from(now));
+            count("quarantined");
+            result.quarantined++;
+        }
+
+        if (!Files.isDirectory(quarantined)) {
+            return;
+        }
+        for (Path file : listFiles(quarantined)) {
+            if (referenced.contains(stemOf(file))) {
+                Path target = live.resolve(file.getFileName());
+                if (!Files.exists(target)) {
+                    Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                    log.warn("격리된 업로드 파일 복구 (다시 참조됨): {}/{}", partition, file.getFileName());
+                    count("restored");
+                    result.restored++;
+                }
+                continue;
+            }
+            if (lastModified(file).isBefore(expiredBefore)) {
+                reclaim(file, result);
+            }
+        }
+        deleteIfEmpty(quarantined);
+    }
+
+    /**
+     * 업로드 중 중단되어 남은 임시 파일 삭제 (내용 주소 저장소의 .tmp)
+     */
+    private void purgeTempFiles(Instant now, SweepResult result) throws IOException {
+        Path tempDirectory = baseUploadPath.resolve(TEMP_DIRECTORY);
+        if (!Files.isDirectory(tempDirectory)) {
+            return;
+        }
+        Instant orphanedBefore = now.minus(properties.getGracePeriod());
+        for (Path file : listFiles(tempDirectory)) {
+            if (lastModified(file).isBefore(orphanedBefore)) {
+                reclaim(file, result);
+            }
+        }
+    }
+
+    private void reclaim(Path file, SweepResult result) throws IOException {
+        long size = Files.size(file);
+        if (Files.deleteIfExists(file)) {
+            count("deleted");
+            Counter.builder("upload.gc.reclaimed.bytes")
+                    .baseUnit("bytes")
+                    .register(meterRegistry)
+                    .increment(size);
+            result.deleted++;
+            result.reclaimedBytes += size;
+        }
+    }
+
+    private List<Path> listFiles(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (Path entry : entries) {
+                if (!entry.getFileName().toString().startsWith(".")) {
+                    files.add(entry);
+                }
+            }
+        }
+        return files;
+    }
+
+    private void deleteIfEmpty(Path directory) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            if (entries.iterator().hasNext()) {
+                return;
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private Instant lastModified(Path file) throws IOException {
+        return Files.getLastModifiedTime(file).toInstant();
+    }
+
+    private void count(String action) {
+        Counter.builder("upload.gc.files")
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 파일명에서 원본 기준 이름 추출 (확장자 제외, 썸네일/변형이면 원본 파일명)
+     */
+    private static String stemOf(Path file) {
+        return stemOf(file.getFileName().toString());
+    }
+
+    private static String stemOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        String stem = dot > 0 ? filename.substring(0, dot) : filename;
+        Matcher variant = VARIANT_NAME.matcher(stem);
+        return variant.matches() ? variant.group(1) : stem;
+    }
+
+    /**
+     * 참조 경로를 정렬 순서대로 배치 조회하는 커서
+     * 날짜 디렉토리도 같은 순서로 방문하므로 앞으로만 읽음
+     */
+    private final class ReferenceReader {
+
+        private final Deque<String> buffer = new ArrayDeque<>();
+        private String after;
+        private boolean exhausted;
+
+        private ReferenceReader(String after) {
+            this.after = after;
+        }
+
+        /**
+         * 날짜 디렉토리 바로 아래 파일을 가리키는 참조의 기준 이름 목록
+         */
+        Set<String> stemsIn(String partition) {
+            String prefix = partition + "/";
+            Set<String> stems = new HashSet<>();
+            String path;
+            while ((path = peek()) != null && path.compareTo(prefix) < 0) {
+                buffer.poll();
+            }
+            while ((path = peek()) != null && path.startsWith(prefix)) {
+                buffer.poll();
+                String filename = path.substring(prefix.length());
+                if (filename.indexOf('/') < 0) {
+                    stems.add(stemOf(filename));
+                }
+            }
+            return stems;
+        }
+
+        private String peek() {
+            if (buffer.isEmpty() && !exhausted) {
+                int batchSize = properties.getReferenceBatchSize();
+                List<String> page = uploadReferenceRepository.findReferencedPathsAfter(after, batchSize);
+                buffer.addAll(page);
+                exhausted = page.size() < batchSize;
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1);
+                }
+            }
+            return buffer.peek();
+        }
+    }
+
+    private static final class SweepResult {
+        private int partitions;
+        private int quarantined;
+        private int restored;
+        private int deleted;
+        private long reclaimedBytes;
+    }
+}
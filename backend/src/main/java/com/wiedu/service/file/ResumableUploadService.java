@@ -0,0 +1,295 @@
+package com.wiedu.service.file;
+
+import com.wiedu.config.SchedulingConfig;
+import com.wiedu.domain.entity.UploadSession;
+import com.wiedu.dto.file.ResumableUploadCreateRequest;
+import com.wiedu.dto.file.ResumableUploadResponse;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.repository.file.UploadSessionRepository;
+import com.wiedu.repository.user.UserRepository;
+import com.wiedu.service.image.ImageContext;
+import com.wiedu.service.image.ImageProcessingListener;
+import com.wiedu.service.image.ImageProcessingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이어 올리기 업로드 (tus 방식)
+ * - 생성: 파일 정보(크기, 형식)를 먼저 등록하고 빈 임시 파일 생성
+ * - 청크: 클라이언트가 보낸 위치(Upload-Offset)가 임시 파일 크기와 같을 때만 요청 본문을 그대로 이어 씀
+ *   (청크를 메모리에 모으지 않고, 연결이 끊기면 받은 만큼만 남아 그 위치부터 다시 전송)
+ * - 진행 조회: 임시 파일 크기가 곧 받은 바이트 수
+ * - 마지막 청크를 받으면 FileStorageService에 저장하고 FileController 업로드와 같이 썸네일 생성 접수
+ *
+ * 임시 파일은 {file.upload-dir}/.resumable에 두므로 같은 업로드의 요청은 같은 인스턴스로 와야 함
+ * 만료된 업로드는 임시 파일과 함께 주기적으로 삭제 (완료된 업로드도 결과 재조회를 위해 만료 시까지 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResumableUploadService {
+
+    private static final String TEMP_DIRECTORY = ".resumable";
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UserRepository userRepository;
+    private final FileStorageService fileStorageService;
+    private final ImageProcessingService imageProcessingService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 청크를 쓰고 있는 업로드 (같은 업로드에 동시에 이어 쓰지 않도록)
+    private final Set<Long> writingUploads = ConcurrentHashMap.newKeySet();
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${file.resumable.expiry:24h}")
+    private Duration expiry;
+
+    /**
+     * 업로드 생성
+     */
+    @Transactional
+    public ResumableUploadResponse create(Long userId, ResumableUploadCreateRequest request) throws IOException {
+        fileStorageService.validateUpload(request.contentType(), request.fileSize());
+        String type = request.type() == null ? "general" : request.type().toLowerCase();
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .user(userRepository.getReferenceById(userId))
+                .type(type)
+                .originalFileName(request.fileName())
+                .contentType(request.contentType())
+                .fileSize(request.fileSize())
+                .expiresAt(LocalDateTime.now().plus(expiry))
+                .build());
+
+        Path tempFile = tempFileOf(session.getId());
+        Files.createDirectories(tempFile.getParent());
+        Files.deleteIfExists(tempFile);
+        Files.createFile(tempFile);
+
+        log.info("이어 올리기 생성: uploadId={}, userId={}, size={}", session.getId(), userId, request.fileSize());
+        return ResumableUploadResponse.of(session, 0);
+    }
+
+    /**
+     * 진행 상태 조회
+     */
+    public ResumableUploadResponse getProgress(Long uploadId, Long userId) throws IOException {
+        UploadSession session = findActiveSession(uploadId, userId);
+        if (session.isCompleted()) {
+            return ResumableUploadResponse.of(session, session.getFileSize());
+        }
+        return ResumableUploadResponse.of(session, Files.size(existingTempFile(uploadId)));
+    }
+
+    /**
+     * 청크 이어 쓰기 (마지막 청크면 저장소에 저장)
+     * 느린 네트워크에서 청크를 받는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리
+     *
+     * @param offset 클라이언트가 알고 있는 현재 위치 (Upload-Offset)
+     * @param contentLength 요청 본문 크기, 모르면 -1
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumableUploadResponse appendChunk(Long uploadId, Long userId, long offset,
+                                               InputStream body, long contentLength) throws IOException {
+        UploadSession session = findActiveSession(uploadId, userId);
+        if (session.isCompleted()) {
+            throw new BusinessException(ErrorCode.UPLOAD_ALREADY_COMPLETED);
+        }
+        if (!writingUploads.add(uploadId)) {
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+
+        try {
+            Path tempFile = existingTempFile(uploadId);
+            long current = Files.size(tempFile);
+            if (offset != current) {
+                throw new BusinessException(ErrorCode.UPLOAD_OFFSET_MISMATCH);
+            }
+            long remaining = session.getFileSize() - current;
+            if (contentLength > remaining) {
+                throw new BusinessException(ErrorCode.UPLOAD_LENGTH_EXCEEDED);
+            }
+
+            long written = write(tempFile, current, remaining, body);
+            long newOffset = current + written;
+            if (newOffset < session.getFileSize()) {
+                return ResumableUploadResponse.of(session, newOffset);
+            }
+            return complete(session, tempFile);
+        } finally {
+            writingUploads.remove(uploadId);
+        }
+    }
+
+    /**
+     * 업로드 취소 (임시 파일 삭제)
+     */
+    @Transactional
+    public void cancel(Long uploadId, Long userId) throws IOException {
+        UploadSession session = uploadSessionRepository.findByIdAndUserId(uploadId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_NOT_FOUND));
+        if (writingUploads.contains(uploadId)) {
+            throw new BusinessException(ErrorCode.UPLOAD_IN_PROGRESS);
+        }
+        uploadSessionRepository.delete(session);
+        Files.deleteIfExists(tempFileOf(uploadId));
+    }
+
+    /**
+     * 만료된 업로드 정리 (임시 파일 + 행)
+     */
+    @Scheduled(fixedDelayString = "${file.resumable.cleanup-interval:PT1H}", initialDelayString = "PT5M",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeExpired() {
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = uploadSessionRepository.findExpiredIds(LocalDateTime.now(), PageRequest.ofSize(CLEANUP_BATCH_SIZE));
+            for (Long id : ids) {
+                try {
+                    Files.deleteIfExists(tempFileOf(id));
+                } catch (IOException e) {
+                    log.warn("이어 올리기 임시 파일 삭제 실패: uploadId={} ({})", id, e.getMessage());
+                }
+            }
+            if (!ids.isEmpty()) {
+                List<Long> batch = ids;
+                purged += transactionTemplate.execute(status -> uploadSessionRepository.deleteByIdIn(batch));
+            }
+        } while (ids.size() == CLEANUP_BATCH_SIZE);
+
+        purged += purgeStrayTempFiles();
+
+        if (purged > 0) {
+            log.info("만료된 이어 올리기 정리: {}건", purged);
+        }
+    }
+
+    /**
+     * 행 없이 남은 임시 파일 삭제 (사용자 삭제, 생성 트랜잭션 롤백 등)
+     */
+    private int purgeStrayTempFiles() {
+        Path tempDirectory = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(TEMP_DIRECTORY);
+        if (!Files.isDirectory(tempDirectory)) {
+            return 0;
+        }
+        Instant expiredBefore = Instant.now().minus(expiry);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDirectory, "*.part")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(expiredBefore) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이어 올리기 임시 디렉토리 정리 실패: {}", e.getMessage());
+        }
+        return deleted;
+    }
+
+    /**
+     * 요청 본문을 current 위치부터 최대 remaining 바이트까지 이어 씀
+     * 연결이 끊기면 그때까지 받은 바이트는 남겨 두어 그 위치부터 이어 올릴 수 있게 함
+     * 선언한 크기를 넘는 본문이면 이번 청크를 되돌리고 거절
+     */
+    private long write(Path tempFile, long current, long remaining, InputStream body) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(body)) {
+            long written = 0;
+            while (written < remaining) {
+                long transferred = channel.transferFrom(source, current + written, remaining - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            if (written == remaining && body.read() != -1) {
+                channel.truncate(current);
+                throw new BusinessException(ErrorCode.UPLOAD_LENGTH_EXCEEDED);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * 받은 파일을 저장소에 저장하고 업로드 완료 처리
+     * 저장 후 완료 기록 전에 실패하면 저장된 파일은 업로드 GC가 정리
+     */
+    private ResumableUploadResponse complete(UploadSession session, Path tempFile) throws IOException {
+        ImageContext context = ImageContext.fromType(session.getType());
+        String fileUrl = fileStorageService.store(new PathMultipartFile(tempFile, session.getOriginalFileName(),
+                session.getContentType(), session.getFileSize()), context.getSubdirectory());
+
+        UploadSession completed = transactionTemplate.execute(status -> {
+            UploadSession managed = uploadSessionRepository.findById(session.getId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_NOT_FOUND));
+            managed.complete(fileUrl);
+            return managed;
+        });
+        Files.deleteIfExists(tempFile);
+
+        // 썸네일은 응답 후 비동기로 생성 (커버/프로필은 스터디/사용자에 연결될 때 생성)
+        if (!context.isProcessedOnAttach()) {
+            imageProcessingService.submit(fileUrl, context, ImageProcessingListener.NONE);
+        }
+
+        log.info("이어 올리기 완료: uploadId={}, url={}", session.getId(), fileUrl);
+        return ResumableUploadResponse.of(completed, completed.getFileSize());
+    }
+
+    private UploadSession findActiveSession(Long uploadId, Long userId) {
+        UploadSession session = uploadSessionRepository.findByIdAndUserId(uploadId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_NOT_FOUND));
+        if (session.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.UPLOAD_EXPIRED);
+        }
+        return session;
+    }
+
+    /**
+     * 진행 중인 업로드의 임시 파일 (다른 인스턴스에서 생성되었거나 유실되었으면 다시 시작해야 함)
+     */
+    private Path existingTempFile(Long uploadId) {
+        Path tempFile = tempFileOf(uploadId);
+        if (!Files.isRegularFile(tempFile)) {
+            throw new BusinessException(ErrorCode.UPLOAD_EXPIRED);
+        }
+        return tempFile;
+    }
+
+    private Path tempFileOf(Long uploadId) {
+        return Paths.get(uploadDir).toAbsolutePath().normalize()
+                .resolve(TEMP_DIRECTORY)
+                .resolve(uploadId + ".part");
+    }
+}
@@ -0,0 +1,297 @@
+package com.wiedu.service.file;
+
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.service.image.ImageProperties;
+import com.wiedu.service.image.ImageVariants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * S3 호환 오브젝트 저장소 구현체 (file.storage=s3)
+ * 인스턴스가 볼륨을 공유하지 않아도 되므로 여러 인스턴스로 확장 가능
+ * - 키: {keyPrefix}/{하위 디렉토리}/{yyyy/MM/dd}/{UUID}.{확장자} (로컬 저장소와 같은 경로 규칙)
+ * - URL: {publicBaseUrl}/{키} (CDN 주소를 지정하면 파일 전송이 서버를 거치지 않음)
+ * - partSize 이하는 한 번에, 넘으면 멀티파트로 파트 하나씩 읽어 전송 (파일 전체를 메모리에 올리지 않음)
+ * - createDirectUpload: 서명된 PUT URL 발급으로 클라이언트가 버킷에 직접 업로드
+ * 파일명이 UUID라 내용이 바뀌지 않으므로 객체에 immutable Cache-Control 지정
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3")
+public class S3FileStorageService extends AbstractFileStorageService {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3StorageProperties properties;
+    private final ImageProperties imageProperties;
+    private final String urlPrefix;
+    private final String cacheControl;
+
+    public S3FileStorageService(S3Client s3Client,
+                                S3Presigner s3Presigner,
+                                S3StorageProperties properties,
+                                ImageProperties imageProperties,
+                                @Value("${file.cache-max-age:365d}") Duration cacheMaxAge) {
+        if (!StringUtils.hasText(properties.getBucket())) {
+            throw new IllegalStateException("file.s3.bucket must be set when file.storage=s3");
+        }
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.properties = properties;
+        this.imageProperties = imageProperties;
+        this.urlPrefix = publicBaseUrl(properties) + "/" + properties.getKeyPrefix() + "/";
+        this.cacheControl = "public, max-age=" + cacheMaxAge.toSeconds() + ", immutable";
+    }
+
+    @Override
+    public String store(MultipartFile file, String subdirectory) throws IOException {
+        validateFile(file);
+
+        String storedPath = newStoredPath(subdirectory, file.getOriginalFilename());
+        String key = keyOf(storedPath);
+        try (InputStream input = file.getInputStream()) {
+            if (file.getSize() <= properties.getPartSize().toBytes()) {
+                s3Client.putObject(putRequest(key, file.getContentType()),
+                        RequestBody.fromInputStream(input, file.getSize()));
+            } else {
+                uploadMultipart(key, file.getContentType(), input);
+            }
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+
+        log.info("파일 저장 완료: {}", key);
+        return resolveUrl(storedPath);
+    }
+
+    /**
+     * 멀티파트 업로드 (파트 크기 버퍼 하나만 사용, 실패하면 업로드 취소하여 미완료 파트 제거)
+     */
+    private void uploadMultipart(String key, String contentType, InputStream input) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(properties.getBucket())
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .build()).uploadId();
+
+        try {
+            int partSize = (int) properties.getPartSize().toBytes();
+            byte[] buffer = new byte[partSize];
+            List<CompletedPart> parts = new ArrayList<>();
+            int read;
+            while ((read = input.readNBytes(buffer, 0, partSize)) > 0) {
+                int partNumber = parts.size() + 1;
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(properties.getBucket())
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(properties.getBucket())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | SdkException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(properties.getBucket())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    @Override
+    public DirectUpload createDirectUpload(String subdirectory, String originalFilename,
+                                           String contentType, long size) {
+        validateUpload(contentType, size);
+
+        String storedPath = newStoredPath(subdirectory, originalFilename);
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(properties.getBucket())
+                .key(keyOf(storedPath))
+                .contentType(contentType)
+                .contentLength(size)
+                .cacheControl(cacheControl)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(properties.getPresignExpiry())
+                .putObjectRequest(putRequest)
+                .build());
+
+        // host는 클라이언트가 URL에서 정하므로 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new DirectUpload(presigned.url().toString(), "PUT", headers,
+                resolveUrl(storedPath), presigned.expiration());
+    }
+
+    @Override
+    public InputStream load(String fileUrl) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(properties.getBucket())
+                    .key(keyOfUrl(fileUrl))
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("S3 읽기 실패: " + fileUrl, e);
+        }
+    }
+
+    @Override
+    public String storeVariant(String fileUrl, String variant, String extension, byte[] content) throws IOException {
+        String variantUrl = ImageVariants.variantUrl(fileUrl, variant, extension);
+        String contentType = MediaTypeFactory.getMediaType("variant." + extension)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        try {
+            s3Client.putObject(putRequest(keyOfUrl(variantUrl), contentType), RequestBody.fromBytes(content));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + variantUrl, e);
+        }
+        return variantUrl;
+    }
+
+    @Override
+    public boolean isStored(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(urlPrefix);
+    }
+
+    /**
+     * 원본과 파생 파일을 한 번의 DeleteObjects로 삭제
+     * 오브젝트 저장소는 파일명 패턴으로 찾을 수 없으므로 설정된 썸네일/너비/형식 조합의 키를 모두 지정
+     * (없는 키는 무시됨)
+     */
+    @Override
+    public void delete(String fileUrl) {
+        if (!isStored(fileUrl)) {
+            return;
+        }
+        try {
+            List<ObjectIdentifier> objects = new ArrayList<>();
+            objects.add(ObjectIdentifier.builder().key(keyOfUrl(fileUrl)).build());
+            for (String variantUrl : variantUrlsOf(fileUrl)) {
+                objects.add(ObjectIdentifier.builder().key(keyOfUrl(variantUrl)).build());
+            }
+            s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(properties.getBucket())
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            log.info("파일 삭제 완료: {}", keyOfUrl(fileUrl));
+        } catch (SdkException | BusinessException e) {
+            log.error("파일 삭제 실패: {}", fileUrl, e);
+        }
+    }
+
+    @Override
+    public String resolveUrl(String storedPath) {
+        return urlPrefix + storedPath;
+    }
+
+    private PutObjectRequest putRequest(String key, String contentType) {
+        return PutObjectRequest.builder()
+                .bucket(properties.getBucket())
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    /**
+     * 생성될 수 있는 모든 파생 파일 URL (썸네일 + 설정된 너비, 출력 형식 후보마다)
+     */
+    private Set<String> variantUrlsOf(String fileUrl) {
+        Set<String> extensions = new LinkedHashSet<>(imageProperties.getVariants().getFormats());
+        extensions.add("jpg");
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(ImageVariants.THUMBNAIL);
+        imageProperties.getVariants().getWidths().values()
+                .forEach(widths -> widths.forEach(width -> variants.add(ImageVariants.widthVariant(width))));
+
+        Set<String> urls = new LinkedHashSet<>();
+        for (String variant : variants) {
+            for (String extension : extensions) {
+                urls.add(ImageVariants.variantUrl(fileUrl, variant, extension));
+            }
+        }
+        return urls;
+    }
+
+    private String keyOf(String storedPath) {
+        return properties.getKeyPrefix() + "/" + storedPath;
+    }
+
+    private String keyOfUrl(String fileUrl) {
+        if (!isStored(fileUrl)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 경로입니다");
+        }
+        String storedPath = fileUrl.substring(urlPrefix.length());
+        if (storedPath.isEmpty() || storedPath.contains("..")) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 경로입니다");
+        }
+        return keyOf(storedPath);
+    }
+
+    /**
+     * CDN 주소, 없으면 버킷 주소 (endpoint 지정 시 경로 방식, 아니면 AWS 가상 호스트 방식)
+     */
+    private static String publicBaseUrl(S3StorageProperties properties) {
+        if (StringUtils.hasText(properties.getPublicBaseUrl())) {
+            return trimTrailingSlash(properties.getPublicBaseUrl());
+        }
+        if (StringUtils.hasText(properties.getEndpoint())) {
+            return trimTrailingSlash(properties.getEndpoint()) + "/" + properties.getBucket();
+        }
+        return "https://" + properties.getBucket() + ".s3." + properties.getRegion() + ".amazonaws.com";
+    }
+
+    private static String trimTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,33 @@
+package com.wiedu.service.file;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "file.s3")
+public class S3StorageProperties {
+    private String bucket;
+    private String region = "ap-northeast-2";
+    // S3 호환 저장소 주소 (MinIO, R2 등), 비우면 AWS S3
+    private String endpoint;
+    // 버킷을 경로로 지정 (MinIO는 true)
+    private boolean pathStyleAccess = false;
+    // 비우면 기본 자격 증명 체인 (환경 변수, 인스턴스 역할 등)
+    private String accessKey;
+    private String secretKey;
+    // 파일 URL의 기준 주소 (CDN), 비우면 버킷 주소
+    private String publicBaseUrl;
+    // 객체 키 접두사 (URL이 로컬 저장소와 같은 /uploads/ 형태가 되도록)
+    private String keyPrefix = "uploads";
+    // 이 크기를 넘는 파일은 멀티파트 업로드 (파트 하나 크기, S3 최소 5MB)
+    private DataSize partSize = DataSize.ofMegabytes(8);
+    // 직접 업로드 URL 유효 시간
+    private Duration presignExpiry = Duration.ofMinutes(10);
+}
@@ -0,0 +1,23 @@
+package com.wiedu.service.file;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "file.gc")
+public class UploadGcProperties {
+    // 이 기간보다 오래된 미참조 파일만 격리 (커버 이미지처럼 업로드 후 행 저장 전까지 참조가 없는 파일 보호)
+    private Duration gracePeriod = Duration.ofDays(2);
+    // 격리 후 삭제까지 보관 기간 (그 사이 다시 참조되면 원래 위치로 복구)
+    private Duration quarantineRetention = Duration.ofDays(7);
+    // 1회 실행당 최대 날짜 디렉토리 수 (나머지는 다음 회차에 이어서)
+    private int maxPartitionsPerRun = 200;
+    // 참조 URL 조회 배치 크기
+    private int referenceBatchSize = 1000;
+}
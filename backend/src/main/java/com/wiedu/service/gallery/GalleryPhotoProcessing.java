@@ -0,0 +1,79 @@
+package com.wiedu.service.gallery;
+
+import com.wiedu.domain.entity.GalleryPhoto;
+import com.wiedu.repository.gallery.GalleryPhotoRepository;
+import com.wiedu.service.image.ImageContext;
+import com.wiedu.service.image.ImageProcessingResult;
+import com.wiedu.service.image.ImageProcessingService;
+import com.wiedu.service.image.ImageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 갤러리 사진 썸네일 생성 접수와 결과 기록
+ * - 업로드 트랜잭션 커밋 후 ImageProcessingService에 접수
+ * - 완료되면 사진 상태를 READY/FAILED로 변경
+ * - 대기열 포화나 재시작으로 유실된 PENDING 사진은 주기적으로 다시 접수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GalleryPhotoProcessing {
+
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    private final GalleryPhotoRepository galleryPhotoRepository;
+    private final ImageProcessingService imageProcessingService;
+    private final ImageProperties imageProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 업로드 트랜잭션 안에서 호출 (커밋 후 접수)
+     */
+    public void submitAfterCommit(GalleryPhoto photo) {
+        Long photoId = photo.getId();
+        imageProcessingService.submitAfterCommit(photo.getStoredFileUrl(), ImageContext.GALLERY,
+                result -> complete(photoId, result));
+    }
+
+    @Scheduled(fixedDelayString = "${image.processing.recovery-interval:PT5M}", initialDelayString = "PT1M")
+    public void resubmitStale() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(imageProperties.getProcessing().getStaleAfter());
+        List<Object[]> stale = galleryPhotoRepository.findStalePending(cutoff, PageRequest.ofSize(RECOVERY_BATCH_SIZE));
+        for (Object[] row : stale) {
+            Long photoId = (Long) row[0];
+            String storedFileUrl = (String) row[1];
+            if (!imageProcessingService.submit(storedFileUrl, ImageContext.GALLERY, result -> complete(photoId, result))) {
+                break;
+            }
+        }
+        if (!stale.isEmpty()) {
+            log.info("썸네일 생성 재접수: {}건", stale.size());
+        }
+    }
+
+    /**
+     * 처리 중에 사진이 삭제되었거나 중복 접수로 이미 처리된 경우 기록하지 않음
+     * (삭제와 처리가 겹쳐 남은 썸네일은 고아 파일 정리 대상)
+     */
+    private void complete(Long photoId, ImageProcessingResult result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            GalleryPhoto photo = galleryPhotoRepository.findById(photoId).orElse(null);
+            if (photo == null || !photo.isProcessingPending()) {
+                return;
+            }
+            if (result.isReady()) {
+                photo.completeProcessing(result.thumbnailUrl(), result.variants(), result.placeholder());
+            } else {
+                photo.failProcessing();
+            }
+        });
+    }
+}
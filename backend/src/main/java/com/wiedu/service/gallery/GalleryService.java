@@ -3,29 +3,32 @@ package com.wiedu.service.gallery;
 import com.wiedu.domain.entity.GalleryPhoto;
 import com.wiedu.domain.entity.Study;
 import com.wiedu.domain.entity.User;
-import com.wiedu.domain.enums.MemberRole;
-import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
+import com.wiedu.dto.gallery.GalleryBatchUploadResponse;
 import com.wiedu.dto.gallery.GalleryPhotoResponse;
 import com.wiedu.dto.gallery.GalleryPhotoUpdateRequest;
+import com.wiedu.dto.gallery.GalleryUploadResult;
+import com.wiedu.dto.study.StudyAccess;
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.gallery.GalleryPhotoRepository;
-import com.wiedu.repository.study.StudyMemberRepository;
 import com.wiedu.service.file.FileStorageService;
-import com.wiedu.service.study.StudyService;
-import com.wiedu.service.user.UserService;
+import com.wiedu.service.study.StudyAccessContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -35,10 +38,12 @@ import java.util.List;
 public class GalleryService {
 
     private final GalleryPhotoRepository galleryPhotoRepository;
-    private final StudyMemberRepository studyMemberRepository;
     private final FileStorageService fileStorageService;
-    private final StudyService studyService;
-    private final UserService userService;
+    private final StudyAccessContext studyAccessContext;
+    private final GalleryPhotoProcessing galleryPhotoProcessing;
+    private final GalleryUploadStorage galleryUploadStorage;
+    private final GalleryUploadProperties galleryUploadProperties;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${file.max-size:10485760}")
     private long maxFileSize;
@@ -50,8 +55,7 @@ public class GalleryService {
      * 갤러리 사진 목록 조회
      */
     public Page<GalleryPhotoResponse> getPhotos(Long studyId, Long userId, Pageable pageable) {
-        Study study = studyService.findStudyEntityById(studyId);
-        validateMembership(study, userId);
+        studyAccessContext.requireActiveMember(studyId, userId);
 
         Page<GalleryPhoto> photos = galleryPhotoRepository.findByStudyIdOrderByCreatedAtDesc(studyId, pageable);
         return photos.map(GalleryPhotoResponse::from);
@@ -61,8 +65,7 @@ public class GalleryService {
      * 갤러리 사진 상세 조회
      */
     public GalleryPhotoResponse getPhotoDetail(Long studyId, Long photoId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        validateMembership(study, userId);
+        studyAccessContext.requireActiveMember(studyId, userId);
 
         GalleryPhoto photo = galleryPhotoRepository.findByIdAndStudyId(photoId, studyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GALLERY_PHOTO_NOT_FOUND));
@@ -75,9 +78,9 @@ public class GalleryService {
      */
     @Transactional
     public GalleryPhotoResponse uploadPhoto(Long studyId, Long userId, MultipartFile file, String caption) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        Study study = access.study();
+        User user = access.user();
 
         // 종료된 스터디에서는 사진 업로드 불가
         if (study.getStatus() == StudyStatus.COMPLETED) {
@@ -91,47 +94,112 @@ public class GalleryService {
             // 파일 저장 (gallery 서브디렉토리에)
             String storedUrl = fileStorageService.store(file, "gallery/" + studyId);
 
-            // 썸네일 URL 생성 (LocalFileStorageService에서 thumb_ 접두사로 같은 디렉토리에 저장)
-            // 예: /uploads/gallery/1/abc.jpg -> /uploads/gallery/1/thumb_abc.jpg
-            int lastSlashIndex = storedUrl.lastIndexOf('/');
-            String thumbnailUrl = storedUrl.substring(0, lastSlashIndex + 1) + "thumb_" + storedUrl.substring(lastSlashIndex + 1);
-
             // 트랜잭션 롤백 시 파일 삭제 (고아 파일 방지)
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCompletion(int status) {
-                    if (status == STATUS_ROLLED_BACK) {
-                        fileStorageService.delete(storedUrl);
-                        fileStorageService.delete(thumbnailUrl);
-                    }
-                }
-            });
+            deleteOnRollback(List.of(storedUrl));
 
             GalleryPhoto photo = GalleryPhoto.builder()
                     .study(study)
                     .uploader(user)
                     .originalFileName(file.getOriginalFilename())
                     .storedFileUrl(storedUrl)
-                    .thumbnailUrl(thumbnailUrl)
                     .mimeType(file.getContentType())
                     .fileSize(file.getSize())
                     .caption(caption)
                     .build();
 
             GalleryPhoto savedPhoto = galleryPhotoRepository.save(photo);
+
+            // 썸네일은 커밋 후 비동기로 생성 (그 전까지 processingStatus = PENDING)
+            galleryPhotoProcessing.submitAfterCommit(savedPhoto);
             return GalleryPhotoResponse.from(savedPhoto);
         } catch (IOException e) {
             throw new BusinessException(ErrorCode.GALLERY_UPLOAD_FAILED);
         }
     }
 
+    /**
+     * 갤러리 사진 일괄 업로드
+     * 멤버십은 한 번만 확인하고, 검증을 통과한 파일은 트랜잭션 밖에서 병렬로 저장한 뒤 짧은 트랜잭션에서 행만 저장
+     * (파일 저장이 오래 걸려도 DB 트랜잭션을 열어 둔 채 기다리지 않음)
+     * 파일별 검증/저장 실패는 결과에 담고 나머지는 계속 진행, 행 저장이 실패하면 저장한 파일 모두 삭제
+     *
+     * GalleryPhoto는 IDENTITY 키라 Hibernate가 JDBC 배치 INSERT를 쓰지 않으므로
+     * saveAll은 한 트랜잭션 안에서 행마다 INSERT 한 번씩 실행함
+     *
+     * @param captions 파일 순서에 맞춘 캡션 (생략 가능)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GalleryBatchUploadResponse uploadPhotos(Long studyId, Long userId,
+                                                   List<MultipartFile> files, List<String> captions) {
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
+        Study study = access.study();
+        User user = access.user();
+
+        // 종료된 스터디에서는 사진 업로드 불가
+        if (study.getStatus() == StudyStatus.COMPLETED) {
+            throw new BusinessException(ErrorCode.STUDY_ALREADY_COMPLETED);
+        }
+        if (files == null || files.isEmpty()) {
+            throw new BusinessException(ErrorCode.GALLERY_FILE_EMPTY);
+        }
+        if (files.size() > galleryUploadProperties.getMaxFilesPerRequest()) {
+            throw new BusinessException(ErrorCode.GALLERY_TOO_MANY_FILES);
+        }
+
+        GalleryUploadResult[] results = new GalleryUploadResult[files.size()];
+
+        // 파일 검증 (실패한 파일만 제외)
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                validateFile(files.get(i));
+                acceptedIndexes.add(i);
+            } catch (BusinessException e) {
+                results[i] = GalleryUploadResult.failure(i, originalFileNameOf(files.get(i)), e.getErrorCode());
+            }
+        }
+
+        // 병렬 저장 (트랜잭션 밖)
+        List<String> storedUrls = galleryUploadStorage.storeAll(
+                acceptedIndexes.stream().map(files::get).toList(), "gallery/" + studyId);
+
+        List<Integer> photoIndexes = new ArrayList<>();
+        List<GalleryPhoto> photos = new ArrayList<>();
+        for (int k = 0; k < acceptedIndexes.size(); k++) {
+            int index = acceptedIndexes.get(k);
+            MultipartFile file = files.get(index);
+            String storedUrl = storedUrls.get(k);
+            if (storedUrl == null) {
+                results[index] = GalleryUploadResult.failure(index, file.getOriginalFilename(),
+                        ErrorCode.GALLERY_UPLOAD_FAILED);
+                continue;
+            }
+            photoIndexes.add(index);
+            photos.add(GalleryPhoto.builder()
+                    .study(study)
+                    .uploader(user)
+                    .originalFileName(file.getOriginalFilename())
+                    .storedFileUrl(storedUrl)
+                    .mimeType(file.getContentType())
+                    .fileSize(file.getSize())
+                    .caption(captionAt(captions, index))
+                    .build());
+        }
+
+        List<GalleryPhoto> savedPhotos = savePhotos(photos);
+        for (int k = 0; k < savedPhotos.size(); k++) {
+            results[photoIndexes.get(k)] = GalleryUploadResult.success(photoIndexes.get(k),
+                    GalleryPhotoResponse.from(savedPhotos.get(k)));
+        }
+        return GalleryBatchUploadResponse.of(Arrays.asList(results));
+    }
+
     /**
      * 갤러리 사진 캡션 수정
      */
     @Transactional
     public GalleryPhotoResponse updatePhoto(Long studyId, Long photoId, Long userId, GalleryPhotoUpdateRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        validateMembership(study, userId);
+        studyAccessContext.requireActiveMember(studyId, userId);
 
         GalleryPhoto photo = galleryPhotoRepository.findByIdAndStudyId(photoId, studyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GALLERY_PHOTO_NOT_FOUND));
@@ -150,51 +218,94 @@ public class GalleryService {
      */
     @Transactional
     public void deletePhoto(Long studyId, Long photoId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User user = userService.findUserEntityById(userId);
-        validateMembership(study, userId);
+        StudyAccess access = studyAccessContext.requireActiveMember(studyId, userId);
 
         GalleryPhoto photo = galleryPhotoRepository.findByIdAndStudyId(photoId, studyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GALLERY_PHOTO_NOT_FOUND));
 
         // 본인 또는 스터디 리더만 삭제 가능
         boolean isOwner = photo.isOwnedBy(userId);
-        boolean isLeader = studyMemberRepository.findByStudyAndUser(study, user)
-                .map(m -> m.getRole() == MemberRole.LEADER)
-                .orElse(false);
+        boolean isLeader = access.isLeader();
 
         if (!isOwner && !isLeader) {
             throw new BusinessException(ErrorCode.GALLERY_NOT_PHOTO_OWNER);
         }
 
-        // 파일 삭제
-        fileStorageService.delete(photo.getStoredFileUrl());
-        if (photo.getThumbnailUrl() != null) {
-            fileStorageService.delete(photo.getThumbnailUrl());
-        }
-
         galleryPhotoRepository.delete(photo);
+
+        // 행 삭제가 커밋된 후 파일 삭제 (썸네일/변형은 원본과 함께 삭제됨, 같은 내용을 다른 사진이 참조하면 유지)
+        // 커밋 전에 지우면 롤백 시 행만 남아 깨진 이미지가 됨, 삭제 실패로 남은 파일은 업로드 GC가 정리
+        String storedUrl = photo.getStoredFileUrl();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fileStorageService.delete(storedUrl);
+            }
+        });
     }
 
     /**
      * 갤러리 사진 개수 조회
      */
     public long getPhotoCount(Long studyId, Long userId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        validateMembership(study, userId);
+        studyAccessContext.requireActiveMember(studyId, userId);
         return galleryPhotoRepository.countByStudyId(studyId);
     }
 
     // === Helper Methods ===
 
-    private void validateMembership(Study study, Long userId) {
-        User user = userService.findUserEntityById(userId);
-        boolean isMember = studyMemberRepository.existsByStudyAndUserAndStatus(study, user, MemberStatus.ACTIVE);
-        if (!isMember) {
-            throw new BusinessException(ErrorCode.NOT_STUDY_MEMBER);
+    /**
+     * 이미 저장된 파일의 행을 짧은 트랜잭션에서 저장
+     * 롤백되면 deleteOnRollback으로, 트랜잭션을 시작하지 못하면(커넥션 획득 실패 등) 여기서 파일 삭제
+     */
+    private List<GalleryPhoto> savePhotos(List<GalleryPhoto> photos) {
+        if (photos.isEmpty()) {
+            return List.of();
+        }
+        List<String> storedUrls = photos.stream().map(GalleryPhoto::getStoredFileUrl).toList();
+        try {
+            return transactionTemplate.execute(status -> {
+                deleteOnRollback(storedUrls);
+                List<GalleryPhoto> savedPhotos = galleryPhotoRepository.saveAll(photos);
+                // 썸네일은 커밋 후 비동기로 생성 (그 전까지 processingStatus = PENDING)
+                savedPhotos.forEach(galleryPhotoProcessing::submitAfterCommit);
+                return savedPhotos;
+            });
+        } catch (CannotCreateTransactionException e) {
+            storedUrls.forEach(fileStorageService::delete);
+            throw e;
         }
     }
 
+    /**
+     * 트랜잭션 롤백 시 저장한 파일 삭제 (고아 파일 방지)
+     */
+    private void deleteOnRollback(List<String> storedUrls) {
+        if (storedUrls.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    storedUrls.forEach(fileStorageService::delete);
+                }
+            }
+        });
+    }
+
+    private String captionAt(List<String> captions, int index) {
+        if (captions == null || index >= captions.size()) {
+            return null;
+        }
+        String caption = captions.get(index);
+        return caption == null || caption.isBlank() ? null : caption;
+    }
+
+    private String originalFileNameOf(MultipartFile file) {
+        return file == null ? null : file.getOriginalFilename();
+    }
+
     private void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new BusinessException(ErrorCode.GALLERY_FILE_EMPTY);
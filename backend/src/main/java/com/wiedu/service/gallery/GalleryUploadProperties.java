@@ -0,0 +1,22 @@
+package com.wiedu.service.gallery;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gallery.upload")
+public class GalleryUploadProperties {
+    // 한 번의 일괄 업로드 요청에 담을 수 있는 최대 파일 수
+    private int maxFilesPerRequest = 30;
+    // 일괄 업로드 요청 전체 크기 (다른 multipart 요청은 spring.servlet.multipart.max-request-size)
+    private DataSize maxRequestSize = DataSize.ofMegabytes(100);
+    // 동시에 저장하는 파일 수 (전체 요청 합계, 디스크/저장소 I/O 제한)
+    private int parallelism = 4;
+    // 저장 대기 작업 수 (넘치면 요청 스레드에서 직접 저장)
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,64 @@
+package com.wiedu.service.gallery;
+
+import com.wiedu.service.file.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 갤러리 일괄 업로드 파일 저장
+ * 파일마다 galleryUploadExecutor에서 저장소로 복사하여 요청 하나의 여러 파일을 동시에 저장
+ * (동시 저장 수는 실행기 크기로 전체 요청 합계가 제한됨)
+ */
+@Slf4j
+@Component
+public class GalleryUploadStorage {
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolTaskExecutor galleryUploadExecutor;
+
+    public GalleryUploadStorage(FileStorageService fileStorageService,
+                                @Qualifier("galleryUploadExecutor") ThreadPoolTaskExecutor galleryUploadExecutor) {
+        this.fileStorageService = fileStorageService;
+        this.galleryUploadExecutor = galleryUploadExecutor;
+    }
+
+    /**
+     * 파일들을 병렬로 저장하고 모두 끝날 때까지 대기
+     *
+     * @return 입력 순서대로 저장된 URL, 저장에 실패한 파일은 null
+     */
+    public List<String> storeAll(List<MultipartFile> files, String subdirectory) {
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> store(file, subdirectory), galleryUploadExecutor))
+                .toList();
+
+        List<String> storedUrls = new ArrayList<>(files.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                storedUrls.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                log.warn("갤러리 파일 저장 실패: {} ({})", files.get(i).getOriginalFilename(), e.getCause().getMessage());
+                storedUrls.add(null);
+            }
+        }
+        return storedUrls;
+    }
+
+    private String store(MultipartFile file, String subdirectory) {
+        try {
+            return fileStorageService.store(file, subdirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
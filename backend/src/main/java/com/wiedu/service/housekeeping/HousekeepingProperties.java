@@ -0,0 +1,25 @@
+package com.wiedu.service.housekeeping;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "housekeeping")
+public class HousekeepingProperties {
+    // 청크당 삭제 행 수
+    private int chunkSize = 500;
+    // 1회 실행당 최대 청크 수 (나머지는 다음 회차에 체크포인트부터 이어서)
+    private int maxChunksPerRun = 100;
+    // 청크 사이 대기 시간 (DB 부하 완화)
+    private Duration chunkPause = Duration.ofMillis(200);
+    // 만료된 인증 코드 보관 기간 (인증 완료 후 가입 확인에 필요)
+    private Duration emailCodeRetention = Duration.ofDays(1);
+    // 발송 완료/최종 실패한 이메일 대기열 항목 보관 기간 (발송 이력 확인용)
+    private Duration emailOutboxRetention = Duration.ofDays(7);
+}
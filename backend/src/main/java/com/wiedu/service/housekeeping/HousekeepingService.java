@@ -0,0 +1,196 @@
+package com.wiedu.service.housekeeping;
+
+import com.wiedu.config.SchedulingConfig;
+import com.wiedu.domain.entity.HousekeepingCheckpoint;
+import com.wiedu.domain.enums.EmailOutboxStatus;
+import com.wiedu.repository.auth.EmailVerificationCodeRepository;
+import com.wiedu.repository.auth.RefreshTokenRepository;
+import com.wiedu.repository.email.EmailOutboxRepository;
+import com.wiedu.repository.housekeeping.HousekeepingCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 만료 데이터 정리 작업
+ * - REFRESH_TOKENS: 만료 또는 폐기된 토큰
+ * - EMAIL_VERIFICATION_CODES: 만료 후 보관 기간이 지난 인증 코드
+ * - EMAIL_OUTBOX: 발송 완료/최종 실패 후 보관 기간이 지난 항목
+ *
+ * 대상 ID를 PK 순으로 작은 청크 단위로 조회/삭제하고, 청크마다 체크포인트를 저장하여
+ * 재시작 후에도 이어서 진행. 청크 사이에는 잠시 대기하여 운영 트래픽과 경합을 줄임.
+ *
+ * 메트릭
+ * - housekeeping.rows.purged (job): 삭제한 행 수
+ * - housekeeping.lag.seconds (job): 남아 있는 가장 오래된 정리 대상의 경과 시간
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "housekeeping.enabled", havingValue = "true", matchIfMissing = true)
+public class HousekeepingService {
+
+    private static final String REFRESH_TOKENS_JOB = "refresh-tokens";
+    private static final String EMAIL_CODES_JOB = "email-verification-codes";
+    private static final String EMAIL_OUTBOX_JOB = "email-outbox";
+    private static final List<EmailOutboxStatus> FINISHED_EMAIL_STATUSES =
+            List.of(EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED);
+
+    private final HousekeepingCheckpointRepository checkpointRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EmailVerificationCodeRepository verificationCodeRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final HousekeepingProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> lagSeconds = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${housekeeping.refresh-tokens-interval:PT10M}", initialDelayString = "PT1M",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void purgeRefreshTokens() {
+        purge(new PurgeJob(REFRESH_TOKENS_JOB,
+                (cursor, now, limit) -> refreshTokenRepository.findPurgeableIds(cursor, now, PageRequest.ofSize(limit)),
+                refreshTokenRepository::deleteByIdIn,
+                refreshTokenRepository::findOldestExpiredAt));
+    }
+
+    @Scheduled(fixedDelayString = "${housekeeping.email-codes-interval:PT10M}", initialDelayString = "PT2M",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void purgeEmailVerificationCodes() {
+        Duration retention = properties.getEmailCodeRetention();
+        purge(new PurgeJob(EMAIL_CODES_JOB,
+                (cursor, now, limit) -> verificationCodeRepository.findPurgeableIds(
+                        cursor, now.minus(retention), PageRequest.ofSize(limit)),
+                verificationCodeRepository::deleteByIdIn,
+                now -> verificationCodeRepository.findOldestExpiredAt(now.minus(retention))
+                        .map(expiresAt -> expiresAt.plus(retention))));
+    }
+
+    @Scheduled(fixedDelayString = "${housekeeping.email-outbox-interval:PT1H}", initialDelayString = "PT3M",
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void purgeEmailOutbox() {
+        Duration retention = properties.getEmailOutboxRetention();
+        purge(new PurgeJob(EMAIL_OUTBOX_JOB,
+                (cursor, now, limit) -> emailOutboxRepository.findPurgeableIds(
+                        cursor, FINISHED_EMAIL_STATUSES, now.minus(retention), PageRequest.ofSize(limit)),
+                emailOutboxRepository::deleteByIdIn,
+                now -> emailOutboxRepository.findOldestFinishedAt(FINISHED_EMAIL_STATUSES, now.minus(retention))
+                        .map(finishedAt -> finishedAt.plus(retention))));
+    }
+
+    /**
+     * 체크포인트부터 청크 단위로 삭제 (최대 maxChunksPerRun 청크)
+     */
+    private void purge(PurgeJob job) {
+        int purgedInRun = 0;
+
+        try {
+            for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+                ChunkResult result = transactionTemplate.execute(status -> purgeChunk(job));
+                purgedInRun += result.purged();
+                if (result.sweepCompleted()) {
+                    break;
+                }
+                pause();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            recordLag(job);
+        }
+
+        if (purgedInRun > 0) {
+            log.info("정리 작업 완료: job={}, purged={}", job.name(), purgedInRun);
+        }
+    }
+
+    /**
+     * 청크 하나 처리 (삭제 + 체크포인트 저장을 한 트랜잭션으로)
+     */
+    private ChunkResult purgeChunk(PurgeJob job) {
+        int chunkSize = properties.getChunkSize();
+        LocalDateTime now = LocalDateTime.now();
+        HousekeepingCheckpoint checkpoint = checkpointRepository.findById(job.name())
+                .orElseGet(() -> checkpointRepository.save(new HousekeepingCheckpoint(job.name())));
+
+        List<Long> ids = job.idFinder().find(checkpoint.getLastId(), now, chunkSize);
+        int purged = ids.isEmpty() ? 0 : job.deleter().apply(ids);
+        purgedCounter(job.name()).increment(purged);
+
+        // 청크가 덜 찼으면 테이블 끝까지 순회한 것
+        boolean sweepCompleted = ids.size() < chunkSize;
+        if (sweepCompleted) {
+            checkpoint.completeSweep(purged, now);
+        } else {
+            checkpoint.advance(ids.get(ids.size() - 1), purged, now);
+        }
+        return new ChunkResult(purged, sweepCompleted);
+    }
+
+    private void pause() throws InterruptedException {
+        long millis = properties.getChunkPause().toMillis();
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private void recordLag(PurgeJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        long lag = job.oldestPending().apply(now)
+                .map(oldest -> Math.max(0, Duration.between(oldest, now).toSeconds()))
+                .orElse(0L);
+        lagGauge(job.name()).set(lag);
+    }
+
+    private Counter purgedCounter(String jobName) {
+        return Counter.builder("housekeeping.rows.purged")
+                .tag("job", jobName)
+                .register(meterRegistry);
+    }
+
+    private AtomicLong lagGauge(String jobName) {
+        return lagSeconds.computeIfAbsent(jobName, name -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("housekeeping.lag.seconds", value, AtomicLong::get)
+                    .tag("job", name)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    /**
+     * 정리 대상 테이블별 조회/삭제 방법
+     */
+    private record PurgeJob(
+            String name,
+            IdFinder idFinder,
+            Function<List<Long>, Integer> deleter,
+            Function<LocalDateTime, Optional<LocalDateTime>> oldestPending
+    ) {
+    }
+
+    @FunctionalInterface
+    private interface IdFinder {
+        List<Long> find(Long cursor, LocalDateTime now, int limit);
+    }
+
+    private record ChunkResult(int purged, boolean sweepCompleted) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.wiedu.service.image;
+
+import com.wiedu.repository.study.StudyRepository;
+import com.wiedu.repository.user.UserRepository;
+import com.wiedu.service.file.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프로필/커버 이미지 변형 생성 접수
+ * 업로드(FileController, ProfileService) 시점이 아니라 사용자/스터디에 URL이 연결되는 시점에 접수하여
+ * 처리 결과(변형 목록, 미리보기)를 해당 행에 기록
+ * 원본이 작아 변형이 없어도 미리보기는 기록
+ * 외부 URL(카카오 프로필 등)이나 기기 로컬 URI는 처리하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachedImageProcessing {
+
+    private final ImageProcessingService imageProcessingService;
+    private final FileStorageService fileStorageService;
+    private final UserRepository userRepository;
+    private final StudyRepository studyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 사용자 프로필 이미지 변경 트랜잭션 안에서 호출 (커밋 후 접수)
+     */
+    public void submitProfileImage(Long userId, String imageUrl) {
+        if (!fileStorageService.isStored(imageUrl)) {
+            return;
+        }
+        imageProcessingService.submitAfterCommit(imageUrl, ImageContext.PROFILE, result -> {
+            if (result.isReady()) {
+                transactionTemplate.executeWithoutResult(status -> userRepository.updateProfileImageVariants(
+                        userId, imageUrl, result.variants(), result.placeholder()));
+            }
+        });
+    }
+
+    /**
+     * 스터디 커버 이미지 지정 트랜잭션 안에서 호출 (커밋 후 접수)
+     */
+    public void submitCoverImage(Long studyId, String imageUrl) {
+        if (!fileStorageService.isStored(imageUrl)) {
+            return;
+        }
+        imageProcessingService.submitAfterCommit(imageUrl, ImageContext.COVER, result -> {
+            if (result.isReady()) {
+                transactionTemplate.executeWithoutResult(status -> studyRepository.updateCoverImageVariants(
+                        studyId, imageUrl, result.variants(), result.placeholder()));
+            }
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.wiedu.service.image;
+
+/**
+ * BlurHash 인코더 (https://blurha.sh)
+ * 이미지를 저주파 DCT 성분 몇 개로 요약해 20~30자 문자열로 표현, 클라이언트가 디코딩해 흐린 미리보기로 그림
+ *
+ * 계산량이 픽셀 수 x 성분 수에 비례하므로 축소된 이미지(수십 px)로 호출
+ */
+final class BlurHash {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private BlurHash() {
+    }
+
+    /**
+     * @param pixels RGB 픽셀 (0xRRGGBB, 행 우선)
+     * @param componentsX 가로 성분 수 (1~9)
+     * @param componentsY 세로 성분 수 (1~9)
+     */
+    static String encode(int[] pixels, int width, int height, int componentsX, int componentsY) {
+        double[][] factors = new double[componentsX * componentsY][];
+        double[] linear = toLinear(pixels);
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                factors[j * componentsX + i] = factor(linear, width, height, i, j);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maxValue = 1;
+        if (factors.length > 1) {
+            double maxAc = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double value : factors[k]) {
+                    maxAc = Math.max(maxAc, Math.abs(value));
+                }
+            }
+            int quantisedMax = clamp((int) Math.floor(maxAc * 166 - 0.5), 0, 82);
+            maxValue = (quantisedMax + 1) / 166.0;
+            encode83(hash, quantisedMax, 1);
+        } else {
+            encode83(hash, 0, 1);
+        }
+
+        double[] dc = factors[0];
+        encode83(hash, (toSrgb(dc[0]) << 16) + (toSrgb(dc[1]) << 8) + toSrgb(dc[2]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            double[] ac = factors[k];
+            encode83(hash, quantiseAc(ac[0], maxValue) * 19 * 19
+                    + quantiseAc(ac[1], maxValue) * 19
+                    + quantiseAc(ac[2], maxValue), 2);
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 성분 (i, j)의 코사인 기저 계수 (선형 RGB)
+     */
+    private static double[] factor(double[] linear, int width, int height, int i, int j) {
+        double[] cosX = new double[width];
+        for (int x = 0; x < width; x++) {
+            cosX[x] = Math.cos(Math.PI * i * x / width);
+        }
+        double r = 0;
+        double g = 0;
+        double b = 0;
+        for (int y = 0; y < height; y++) {
+            double cosY = Math.cos(Math.PI * j * y / height);
+            for (int x = 0; x < width; x++) {
+                double basis = cosX[x] * cosY;
+                int offset = (y * width + x) * 3;
+                r += basis * linear[offset];
+                g += basis * linear[offset + 1];
+                b += basis * linear[offset + 2];
+            }
+        }
+        double scale = (i == 0 && j == 0 ? 1.0 : 2.0) / (width * height);
+        return new double[]{r * scale, g * scale, b * scale};
+    }
+
+    private static double[] toLinear(int[] pixels) {
+        double[] linear = new double[pixels.length * 3];
+        for (int p = 0; p < pixels.length; p++) {
+            int rgb = pixels[p];
+            linear[p * 3] = toLinear((rgb >> 16) & 0xFF);
+            linear[p * 3 + 1] = toLinear((rgb >> 8) & 0xFF);
+            linear[p * 3 + 2] = toLinear(rgb & 0xFF);
+        }
+        return linear;
+    }
+
+    private static double toLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int toSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static int quantiseAc(double value, double maxValue) {
+        double normalised = value / maxValue;
+        double signedSqrt = Math.copySign(Math.sqrt(Math.abs(normalised)), normalised);
+        return clamp((int) Math.floor(signedSqrt * 9 + 9.5), 0, 18);
+    }
+
+    private static void encode83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            hash.append(BASE83.charAt(digit));
+        }
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,41 @@
+package com.wiedu.service.image;
+
+/**
+ * 업로드 이미지 용도 (용도별로 후처리 결과를 구분하고 메트릭 태그로 사용)
+ */
+public enum ImageContext {
+    PROFILE("profile"),
+    COVER("covers"),
+    GALLERY("gallery"),
+    GENERAL("general");
+
+    // 업로드 저장 디렉토리
+    private final String subdirectory;
+
+    ImageContext(String subdirectory) {
+        this.subdirectory = subdirectory;
+    }
+
+    public String getSubdirectory() {
+        return subdirectory;
+    }
+
+    /**
+     * 업로드 직후가 아니라 스터디/사용자에 연결될 때 변형과 함께 처리하는 용도 (AttachedImageProcessing)
+     */
+    public boolean isProcessedOnAttach() {
+        return this == COVER || this == PROFILE;
+    }
+
+    /**
+     * FileController 업로드 type 파라미터에 대응하는 용도
+     */
+    public static ImageContext fromType(String type) {
+        return switch (type.toLowerCase()) {
+            case "profile" -> PROFILE;
+            case "cover" -> COVER;
+            case "gallery" -> GALLERY;
+            default -> GENERAL;
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.wiedu.service.image;
+
+/**
+ * 이미지 로딩 전 미리보기 정보 (목록 화면에서 썸네일 도착 전 자리 표시용)
+ * - 엔티티 저장 형식: "{너비}x{높이}:{#rrggbb}:{BlurHash}" (예: "1920x1080:#a1b2c3:LKO2?U%2Tw=w]~RBVZRi};RPxuwH")
+ *   BlurHash 문자 집합에 ':'가 포함되므로 항상 마지막에 둠
+ *
+ * @param width 원본 너비 (px)
+ * @param height 원본 높이 (px)
+ * @param dominantColor 대표 색 (#rrggbb)
+ * @param blurHash 흐린 미리보기 (BlurHash)
+ */
+public record ImagePlaceholder(int width, int height, String dominantColor, String blurHash) {
+
+    public String encode() {
+        return width + "x" + height + ":" + dominantColor + ":" + blurHash;
+    }
+
+    /**
+     * 저장 형식에서 복원
+     *
+     * @return 처리 전이거나 형식이 맞지 않으면 null
+     */
+    public static ImagePlaceholder decode(String placeholder) {
+        if (placeholder == null) {
+            return null;
+        }
+        String[] parts = placeholder.split(":", 3);
+        int separator = parts[0].indexOf('x');
+        if (parts.length < 3 || separator < 0) {
+            return null;
+        }
+        try {
+            return new ImagePlaceholder(
+                    Integer.parseInt(parts[0].substring(0, separator)),
+                    Integer.parseInt(parts[0].substring(separator + 1)),
+                    parts[1],
+                    parts[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.wiedu.service.image;
+
+/**
+ * 썸네일 생성이 끝났을 때 워커 스레드에서 호출됨
+ * 결과를 DB에 기록해야 하는 경우(갤러리 사진) 구현
+ */
+@FunctionalInterface
+public interface ImageProcessingListener {
+
+    ImageProcessingListener NONE = result -> { };
+
+    void onComplete(ImageProcessingResult result);
+}
@@ -0,0 +1,25 @@
+package com.wiedu.service.image;
+
+import com.wiedu.domain.enums.ImageProcessingStatus;
+
+/**
+ * 썸네일/변형 생성 결과 (실패 시 thumbnailUrl, variants, placeholder는 null)
+ *
+ * @param variants 생성된 너비별 변형 (ImageVariants.encode 형식)
+ * @param placeholder 미리보기 정보 (ImagePlaceholder.encode 형식, 이전에 처리되어 없으면 null)
+ */
+public record ImageProcessingResult(ImageProcessingStatus status, String thumbnailUrl, String variants,
+                                    String placeholder) {
+
+    public static ImageProcessingResult ready(String thumbnailUrl, String variants, String placeholder) {
+        return new ImageProcessingResult(ImageProcessingStatus.READY, thumbnailUrl, variants, placeholder);
+    }
+
+    public static ImageProcessingResult failed() {
+        return new ImageProcessingResult(ImageProcessingStatus.FAILED, null, null, null);
+    }
+
+    public boolean isReady() {
+        return status == ImageProcessingStatus.READY;
+    }
+}
@@ -0,0 +1,161 @@
+package com.wiedu.service.image;
+
+import com.wiedu.service.file.FileStorageService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 후처리 파이프라인
+ * 업로드 요청은 원본 저장까지만 하고 반환, 썸네일과 너비별 변형, 미리보기(BlurHash 등) 생성은 imageExecutor의 제한된 워커가 처리
+ * (큰 사진 디코딩이 Tomcat 요청 스레드와 힙을 오래 점유하지 않도록 분리)
+ *
+ * 메트릭
+ * - image.processing.queue.depth: 대기 중인 작업 수
+ * - image.processing.queue.wait: 접수부터 처리 시작까지 대기 시간
+ * - image.processing: 처리 시간 (context, outcome 태그)
+ *
+ * 용도(ImageContext)별 너비 목록은 image.variants.widths 설정
+ */
+@Slf4j
+@Service
+public class ImageProcessingService {
+
+    private final FileStorageService fileStorageService;
+    private final ImageProcessor imageProcessor;
+    private final ImageProperties imageProperties;
+    private final ThreadPoolTaskExecutor imageExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWaitTimer;
+
+    public ImageProcessingService(FileStorageService fileStorageService,
+                                  ImageProcessor imageProcessor,
+                                  ImageProperties imageProperties,
+                                  @Qualifier("imageExecutor") ThreadPoolTaskExecutor imageExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.imageProcessor = imageProcessor;
+        this.imageProperties = imageProperties;
+        this.imageExecutor = imageExecutor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("image.processing.queue.depth", imageExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("썸네일 생성 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.active", imageExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("썸네일 생성 중인 워커 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("image.processing.queue.wait")
+                .description("썸네일 생성 대기 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 썸네일 생성 접수
+     *
+     * @return 대기열이 가득 차 접수하지 못하면 false (썸네일 없이 원본으로 표시됨)
+     */
+    public boolean submit(String fileUrl, ImageContext context, ImageProcessingListener listener) {
+        long submittedAt = System.nanoTime();
+        try {
+            imageExecutor.execute(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                process(fileUrl, context, listener);
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            record(context, "rejected", 0);
+            log.warn("썸네일 생성 대기열 포화로 접수 실패: {}", fileUrl);
+            return false;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 접수 (롤백되면 접수하지 않음)
+     * 트랜잭션 밖에서 호출하면 바로 접수
+     */
+    public void submitAfterCommit(String fileUrl, ImageContext context, ImageProcessingListener listener) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(fileUrl, context, listener);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(fileUrl, context, listener);
+            }
+        });
+    }
+
+    private void process(String fileUrl, ImageContext context, ImageProcessingListener listener) {
+        long start = System.nanoTime();
+        ImageProcessingResult result;
+        try {
+            result = createVariants(fileUrl, context);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: {} ({})", fileUrl, e.getMessage());
+            result = ImageProcessingResult.failed();
+        }
+        record(context, result.isReady() ? "ready" : "failed", System.nanoTime() - start);
+
+        try {
+            listener.onComplete(result);
+        } catch (RuntimeException e) {
+            log.error("썸네일 생성 결과 처리 실패: {}", fileUrl, e);
+        }
+    }
+
+    private ImageProcessingResult createVariants(String fileUrl, ImageContext context) throws IOException {
+        // 같은 내용이 이미 처리된 경우 (내용 주소 기반 저장소) 디코딩 없이 재사용
+        // 미리보기 도입 전에 기록되어 변형만 있는 경우는 다시 처리하여 미리보기까지 기록
+        String known = fileStorageService.findVariants(fileUrl);
+        if (known != null) {
+            String knownPlaceholder = fileStorageService.findPlaceholder(fileUrl);
+            if (knownPlaceholder != null) {
+                return ImageVariants.toResult(fileUrl, known, knownPlaceholder);
+            }
+        }
+
+        ProcessedImage processed;
+        try (InputStream source = fileStorageService.load(fileUrl)) {
+            processed = imageProcessor.process(source, imageProperties.getVariants().widthsFor(context));
+        }
+        if (processed == null) {
+            return ImageProcessingResult.failed();
+        }
+
+        String extension = processed.extension();
+        String thumbnailUrl = fileStorageService.storeVariant(
+                fileUrl, ImageVariants.THUMBNAIL, extension, processed.thumbnail());
+        for (Map.Entry<Integer, byte[]> variant : processed.variants().entrySet()) {
+            fileStorageService.storeVariant(
+                    fileUrl, ImageVariants.widthVariant(variant.getKey()), extension, variant.getValue());
+        }
+        String variants = ImageVariants.encode(extension, processed.variants().keySet());
+        String placeholder = processed.placeholder().encode();
+        fileStorageService.recordVariants(fileUrl, variants, placeholder);
+        return ImageVariants.toResult(fileUrl, variants, placeholder);
+    }
+
+    private void record(ImageContext context, String outcome, long elapsedNanos) {
+        Timer.builder("image.processing")
+                .description("썸네일 생성 시간")
+                .tag("context", context.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
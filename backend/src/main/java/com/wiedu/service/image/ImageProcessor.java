@@ -0,0 +1,265 @@
+package com.wiedu.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 변환 (디코딩, 크롭, 리사이즈, 인코딩)
+ * 상태 없이 입력 스트림을 받아 결과 바이트를 돌려주므로 저장소 구현과 무관
+ *
+ * 원본 전체를 디코딩하지 않고 ImageReader에 필요한 영역(sourceRegion)과
+ * 출력 크기에 맞는 간격(sourceSubsampling)을 지정해 필요한 픽셀만 디코딩
+ * (48MP 사진도 썸네일 한 장당 수 MB 이내로 힙 사용량이 제한됨)
+ * 동시 디코딩 수는 전역 허가(Semaphore)로 제한
+ *
+ * 미리보기(BlurHash, 대표 색)는 추가 디코딩 없이 가장 작은 변형을 다시 줄여 계산
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private static final int THUMBNAIL_SIZE = 300;
+    // 6x6 성분이면 BlurHash 76자, 저장 형식 전체가 미리보기 컬럼(100자)을 넘지 않는 최대값
+    private static final int MAX_PLACEHOLDER_COMPONENTS = 6;
+
+    private final Semaphore decodePermits;
+    private final ImageProperties.Decode properties;
+    private final ImageProperties.Placeholder placeholderProperties;
+    private final float quality;
+    private final String outputFormat;
+
+    public ImageProcessor(ImageProperties imageProperties) {
+        this.properties = imageProperties.getDecode();
+        this.placeholderProperties = imageProperties.getPlaceholder();
+        this.decodePermits = new Semaphore(properties.getMaxConcurrent(), true);
+        this.quality = imageProperties.getVariants().getQuality();
+        this.outputFormat = imageProperties.getVariants().getFormats().stream()
+                .filter(format -> ImageIO.getImageWritersByFormatName(format).hasNext())
+                .findFirst()
+                .orElse("jpg");
+        log.info("이미지 변형 출력 형식: {}", outputFormat);
+    }
+
+    /**
+     * 썸네일(300x300, 중앙 정사각형 크롭)과 너비별 변형, 미리보기 생성
+     * 한 번 연 ImageReader로 썸네일 영역과 변형용 전체 영역을 각각 서브샘플링하여 읽음
+     *
+     * @param widths 변형 너비 목록 (원본보다 큰 너비는 건너뜀)
+     * @return 변환 결과, 디코딩할 수 없는 이미지면 null
+     */
+    public ProcessedImage process(InputStream source, List<Integer> widths) throws IOException {
+        acquireDecodePermit();
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                // 같은 이미지를 두 번 읽기 위해 seekForwardOnly = false
+                reader.setInput(input, false, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getMaxPixels()) {
+                    throw new IOException("이미지 픽셀 수 초과: " + width + "x" + height);
+                }
+
+                BufferedImage square = readCenterSquare(reader, width, height, THUMBNAIL_SIZE);
+                byte[] thumbnail = encode(resize(square, THUMBNAIL_SIZE, THUMBNAIL_SIZE));
+
+                SortedMap<Integer, byte[]> variants = new TreeMap<>();
+                BufferedImage smallest = createVariants(reader, width, height, widths, variants);
+                if (smallest == null) {
+                    smallest = readWhole(reader, width, height, placeholderProperties.getSampleSize());
+                }
+                return new ProcessedImage(outputFormat, thumbnail, variants, createPlaceholder(smallest, width, height));
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    /**
+     * 중앙 정사각형 영역만, targetSize 이상이 되는 최대 간격으로 서브샘플링하여 디코딩
+     * (결과 한 변은 targetSize 이상 2 * targetSize 미만)
+     */
+    private BufferedImage readCenterSquare(ImageReader reader, int width, int height, int targetSize) throws IOException {
+        int size = Math.min(width, height);
+        int subsampling = Math.max(1, size / targetSize);
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceRegion(new Rectangle((width - size) / 2, (height - size) / 2, size, size));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    /**
+     * 전체 영역을 긴 변이 targetSize 이상이 되는 최대 간격으로 서브샘플링하여 디코딩
+     * (변형이 없을 때 미리보기용)
+     */
+    private BufferedImage readWhole(ImageReader reader, int width, int height, int targetSize) throws IOException {
+        int subsampling = Math.max(1, Math.max(width, height) / targetSize);
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    /**
+     * 가장 큰 변형 너비에 맞춰 한 번 서브샘플링 디코딩한 뒤, 큰 너비부터 차례로 줄여 가며 인코딩
+     * (단계별 축소라 한 번에 크게 줄일 때보다 계단 현상이 적음)
+     *
+     * @param variants 너비 → 인코딩된 이미지를 채울 맵
+     * @return 가장 작은 변형 이미지, 만들 변형이 없으면 null
+     */
+    private BufferedImage createVariants(ImageReader reader, int width, int height,
+                                         List<Integer> widths, SortedMap<Integer, byte[]> variants) throws IOException {
+        List<Integer> targets = widths.stream()
+                .filter(target -> target <= width)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        if (targets.isEmpty()) {
+            return null;
+        }
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, width / targets.get(0));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage current = reader.read(0, param);
+
+        for (int target : targets) {
+            int targetHeight = Math.max(1, (int) Math.round((double) height * target / width));
+            current = resize(current, target, targetHeight);
+            variants.put(target, encode(current));
+        }
+        return current;
+    }
+
+    /**
+     * 긴 변이 sampleSize가 되도록 줄인 뒤 BlurHash와 대표 색 계산
+     * BlurHash 성분 수는 긴 변 방향을 components로, 짧은 변 방향은 비율에 맞춰 줄임 (최소 1)
+     *
+     * @param width 원본 너비
+     * @param height 원본 높이
+     */
+    private ImagePlaceholder createPlaceholder(BufferedImage image, int width, int height) {
+        int sampleSize = placeholderProperties.getSampleSize();
+        double scale = Math.min(1.0, (double) sampleSize / Math.max(image.getWidth(), image.getHeight()));
+        int sampleWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int sampleHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage sample = resize(image, sampleWidth, sampleHeight);
+        int[] pixels = sample.getRGB(0, 0, sampleWidth, sampleHeight, null, 0, sampleWidth);
+
+        int components = Math.max(1, Math.min(MAX_PLACEHOLDER_COMPONENTS, placeholderProperties.getComponents()));
+        int shortComponents = Math.max(1, (int) Math.round(
+                (double) components * Math.min(width, height) / Math.max(width, height)));
+        int componentsX = width >= height ? components : shortComponents;
+        int componentsY = width >= height ? shortComponents : components;
+
+        String blurHash = BlurHash.encode(pixels, sampleWidth, sampleHeight, componentsX, componentsY);
+        return new ImagePlaceholder(width, height, dominantColor(pixels), blurHash);
+    }
+
+    /**
+     * 대표 색: 채널별 상위 4비트로 묶은 색 구간 중 픽셀이 가장 많은 구간의 평균
+     * (평균색보다 배경/주 피사체 색에 가까움)
+     */
+    private String dominantColor(int[] pixels) {
+        int[] counts = new int[4096];
+        long[] sums = new long[4096 * 3];
+        int best = 0;
+        for (int rgb : pixels) {
+            int r = (rgb >> 16) & 0xFF;
+            int g = (rgb >> 8) & 0xFF;
+            int b = rgb & 0xFF;
+            int bucket = ((r >> 4) << 8) | ((g >> 4) << 4) | (b >> 4);
+            counts[bucket]++;
+            sums[bucket * 3] += r;
+            sums[bucket * 3 + 1] += g;
+            sums[bucket * 3 + 2] += b;
+            if (counts[bucket] > counts[best]) {
+                best = bucket;
+            }
+        }
+        int count = Math.max(1, counts[best]);
+        return String.format("#%02x%02x%02x",
+                sums[best * 3] / count, sums[best * 3 + 1] / count, sums[best * 3 + 2] / count);
+    }
+
+    /**
+     * 리사이즈 (투명 영역은 흰 배경으로 채움 - JPEG는 알파 채널 없음)
+     */
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    /**
+     * 출력 형식으로 인코딩 (압축을 지원하면 설정한 품질 적용)
+     */
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(outputFormat).next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                param.setCompressionType(param.getCompressionTypes()[0]);
+            }
+            param.setCompressionQuality(quality);
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private void acquireDecodePermit() throws IOException {
+        try {
+            if (!decodePermits.tryAcquire(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("이미지 디코딩 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 디코딩 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.wiedu.service.image;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "image")
+public class ImageProperties {
+    private Processing processing = new Processing();
+    private Decode decode = new Decode();
+    private Variants variants = new Variants();
+    private Placeholder placeholder = new Placeholder();
+
+    /**
+     * 너비별 변형 이미지 설정 (ImageProcessor)
+     */
+    @Getter
+    @Setter
+    public static class Variants {
+        // 용도별 너비 목록 (원본보다 큰 너비는 건너뜀)
+        private Map<ImageContext, List<Integer>> widths = new EnumMap<>(Map.of(
+                ImageContext.PROFILE, List.of(64, 160, 320),
+                ImageContext.COVER, List.of(320, 640, 1280),
+                ImageContext.GALLERY, List.of(160, 320, 640, 1280),
+                ImageContext.GENERAL, List.of()));
+        // 출력 형식 우선순위 (ImageIO writer가 있는 첫 형식 사용, JDK 기본은 jpg만 가능)
+        private List<String> formats = List.of("webp", "jpg");
+        private float quality = 0.8f;
+
+        public List<Integer> widthsFor(ImageContext context) {
+            return widths.getOrDefault(context, List.of());
+        }
+    }
+
+    /**
+     * 미리보기(BlurHash, 대표 색) 설정 (ImageProcessor)
+     */
+    @Getter
+    @Setter
+    public static class Placeholder {
+        // 긴 변 방향 BlurHash 성분 수 (1~6, 짧은 변은 비율에 맞춰 줄임, 4면 약 28자)
+        private int components = 4;
+        // 가장 작은 변형을 이 너비(긴 변)로 줄여 계산 (성분 계산량이 픽셀 수에 비례)
+        private int sampleSize = 32;
+    }
+
+    /**
+     * 이미지 디코딩 제한 (ImageProcessor)
+     */
+    @Getter
+    @Setter
+    public static class Decode {
+        // 동시에 디코딩할 수 있는 이미지 수 (워커 수와 별개로 전체 디코딩 메모리 상한)
+        private int maxConcurrent = 2;
+        // 디코딩 허가를 기다리는 최대 시간, 초과 시 해당 이미지 처리 실패
+        private Duration maxWait = Duration.ofSeconds(30);
+        // 이보다 픽셀 수가 많은 원본은 디코딩하지 않음 (헤더만 읽고 판단)
+        private long maxPixels = 100_000_000L;
+    }
+
+    /**
+     * 썸네일 비동기 생성 설정 (ImageProcessingService)
+     */
+    @Getter
+    @Setter
+    public static class Processing {
+        // 썸네일 생성 워커 수 (디코딩이 CPU/메모리를 많이 쓰므로 작게 유지)
+        private int workers = 2;
+        // 대기열 크기, 가득 차면 접수하지 않고 복구 주기에 다시 접수
+        private int queueCapacity = 200;
+        // 이 시간이 지나도 PENDING인 갤러리 사진은 유실된 것으로 보고 다시 접수 (재시작 등)
+        private Duration staleAfter = Duration.ofMinutes(10);
+    }
+}
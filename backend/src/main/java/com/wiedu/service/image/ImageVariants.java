@@ -0,0 +1,75 @@
+package com.wiedu.service.image;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 파생 이미지(썸네일, 너비별 변형) 이름 규칙과 저장 형식
+ * - 파일명: {variant}_{원본 파일명(확장자 제외)}.{확장자} (예: w320_abc.webp)
+ * - 엔티티 저장 형식: "{확장자}:{너비,...}" (예: "webp:160,320,640")
+ * 저장소 구현과 응답 DTO가 같은 규칙으로 URL을 만들도록 한 곳에 둠
+ */
+public final class ImageVariants {
+
+    public static final String THUMBNAIL = "thumb";
+
+    private ImageVariants() {
+    }
+
+    public static String widthVariant(int width) {
+        return "w" + width;
+    }
+
+    /**
+     * 원본 URL에서 파생 이미지 URL 생성
+     */
+    public static String variantUrl(String fileUrl, String variant, String extension) {
+        int slash = fileUrl.lastIndexOf('/');
+        int dot = fileUrl.lastIndexOf('.');
+        String stem = dot > slash ? fileUrl.substring(slash + 1, dot) : fileUrl.substring(slash + 1);
+        return fileUrl.substring(0, slash + 1) + variant + "_" + stem + "." + extension;
+    }
+
+    public static String encode(String extension, Collection<Integer> widths) {
+        return extension + ":" + widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 저장 형식에서 처리 결과 복원 (썸네일은 항상 있고, 너비 목록이 비어 있으면 variants는 null)
+     *
+     * @param placeholder ImagePlaceholder.encode 형식, 없으면 null
+     */
+    static ImageProcessingResult toResult(String fileUrl, String variants, String placeholder) {
+        int colon = variants.indexOf(':');
+        String extension = variants.substring(0, colon);
+        String thumbnailUrl = variantUrl(fileUrl, THUMBNAIL, extension);
+        boolean hasWidths = colon < variants.length() - 1;
+        return ImageProcessingResult.ready(thumbnailUrl, hasWidths ? variants : null, placeholder);
+    }
+
+    /**
+     * srcset 형태의 너비별 URL (작은 너비부터)
+     *
+     * @param fileUrl 원본 URL
+     * @param variants encode 결과, 변형이 없으면 null
+     * @return 너비 → URL, 변형이 없으면 null
+     */
+    public static Map<Integer, String> srcSet(String fileUrl, String variants) {
+        if (fileUrl == null || variants == null) {
+            return null;
+        }
+        int colon = variants.indexOf(':');
+        if (colon < 0 || colon == variants.length() - 1) {
+            return null;
+        }
+        String extension = variants.substring(0, colon);
+        Map<Integer, String> srcSet = new LinkedHashMap<>();
+        for (String width : variants.substring(colon + 1).split(",")) {
+            int value = Integer.parseInt(width);
+            srcSet.put(value, variantUrl(fileUrl, widthVariant(value), extension));
+        }
+        return srcSet;
+    }
+}
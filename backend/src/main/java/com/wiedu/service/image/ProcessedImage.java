@@ -0,0 +1,13 @@
+package com.wiedu.service.image;
+
+import java.util.SortedMap;
+
+/**
+ * ImageProcessor 변환 결과 (썸네일과 변형은 모두 extension 형식으로 인코딩됨)
+ *
+ * @param variants 너비 → 인코딩된 이미지 (원본보다 큰 너비는 만들지 않음)
+ * @param placeholder 원본 크기, 대표 색, BlurHash
+ */
+public record ProcessedImage(String extension, byte[] thumbnail, SortedMap<Integer, byte[]> variants,
+                             ImagePlaceholder placeholder) {
+}
@@ -0,0 +1,168 @@
+package com.wiedu.service.review;
+
+import com.wiedu.domain.entity.LeaderReviewStats;
+import com.wiedu.domain.entity.LeaderReviewTagStat;
+import com.wiedu.repository.review.LeaderReviewStatsRepository;
+import com.wiedu.repository.review.LeaderReviewTagStatRepository;
+import com.wiedu.repository.review.StudyLeaderReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스터디장 리뷰 집계 서비스
+ * - 리뷰 작성 시 집계 행/태그 빈도를 증분 업데이트
+ * - 집계 행이 없는 스터디장(기능 도입 이전 리뷰)은 원천 테이블 기준으로 계산
+ *
+ * 집계 행은 원자적 증분으로만 갱신하고, 잠금 없이 계산한 값으로 덮어쓰지 않음
+ * (동시에 첫 리뷰가 작성되어도 각자 계산한 값으로 덮어써 수가 줄어들지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LeaderReviewStatsService {
+
+    private static final int MAX_TAG_LENGTH = 100;
+
+    private final LeaderReviewStatsRepository statsRepository;
+    private final LeaderReviewTagStatRepository tagStatRepository;
+    private final StudyLeaderReviewRepository reviewRepository;
+
+    /**
+     * 스터디장 리뷰 집계 요약
+     *
+     * @param ratingDistribution 평점별 리뷰 수 (5점 → 1점 순)
+     * @param tagCounts          태그별 선택 횟수 (많은 순)
+     */
+    public record Summary(long totalCount, Double averageRating,
+                          Map<Integer, Long> ratingDistribution, Map<String, Long> tagCounts) {}
+
+    /**
+     * 집계 요약 조회 (집계 행이 있으면 한 행 + 태그 조회, 없으면 원천 테이블 계산)
+     */
+    public Summary getSummary(Long leaderId) {
+        Optional<LeaderReviewStats> stats = statsRepository.findById(leaderId);
+        if (stats.isEmpty()) {
+            return computeFromSource(leaderId);
+        }
+
+        Map<String, Long> tagCounts = tagStatRepository.findByLeaderIdOrderByTagCountDesc(leaderId).stream()
+                .collect(Collectors.toMap(LeaderReviewTagStat::getTag, LeaderReviewTagStat::getTagCount,
+                        (a, b) -> a, LinkedHashMap::new));
+
+        LeaderReviewStats s = stats.get();
+        return new Summary(s.getReviewCount(), s.getAverageRating(), s.getRatingDistribution(), tagCounts);
+    }
+
+    /**
+     * 리뷰 1건 반영 (저장된 리뷰와 같은 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void recordReview(Long leaderId, int rating, List<String> tags) {
+        List<String> normalizedTags = tags == null ? List.of() : tags.stream()
+                .map(this::normalizeTag)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+
+        int updated = statsRepository.addReview(leaderId, rating, LocalDateTime.now());
+        if (updated == 0) {
+            seedFromHistory(leaderId, rating, normalizedTags);
+            statsRepository.addReview(leaderId, rating, LocalDateTime.now());
+        }
+        normalizedTags.forEach(tag -> tagStatRepository.increment(leaderId, tag, 1));
+    }
+
+    /**
+     * 집계 행이 없을 때 이번 리뷰를 제외한 기존 리뷰로 행 생성 (이번 리뷰는 호출 측에서 증분 반영)
+     * 먼저 행을 만든 트랜잭션만 기존 리뷰를 반영하고, 나머지는 무시된 뒤 증분만 적용
+     * (커밋된 리뷰는 모두 행이 있는 상태에서 증분되었거나 행을 만든 쪽이므로, 행이 없을 때 보이는 리뷰는 집계 전 리뷰뿐)
+     */
+    private void seedFromHistory(Long leaderId, int rating, List<String> tags) {
+        Summary source = computeFromSource(leaderId);
+
+        // 같은 트랜잭션에서 저장한 이번 리뷰가 원천 조회에 포함되어 있으므로 제외
+        Map<Integer, Long> dist = new LinkedHashMap<>(source.ratingDistribution());
+        dist.computeIfPresent(rating, (k, v) -> Math.max(0, v - 1));
+        long reviewCount = dist.values().stream().mapToLong(Long::longValue).sum();
+        long ratingSum = dist.entrySet().stream()
+                .mapToLong(e -> e.getKey() * e.getValue())
+                .sum();
+
+        int inserted = statsRepository.insertIfAbsent(leaderId, reviewCount, ratingSum,
+                dist.get(1), dist.get(2), dist.get(3), dist.get(4), dist.get(5));
+        if (inserted == 0) {
+            return;
+        }
+
+        Map<String, Long> tagCounts = new LinkedHashMap<>(source.tagCounts());
+        tags.forEach(tag -> tagCounts.computeIfPresent(tag, (k, v) -> v > 1 ? v - 1 : null));
+        tagCounts.forEach((tag, count) -> tagStatRepository.increment(leaderId, tag, count));
+        log.info("스터디장 리뷰 집계 생성: leaderId={}, reviews={}", leaderId, reviewCount);
+    }
+
+    /**
+     * 원천 테이블 기준 집계 재계산 및 저장 (운영 보정용)
+     * 집계 행을 먼저 잠가 그동안의 리뷰 반영을 대기시키고, 잠근 뒤의 스냅샷으로 계산
+     * 호출 측의 오래된 스냅샷으로 계산하지 않도록 별도 트랜잭션에서 실행
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void rebuild(Long leaderId) {
+        statsRepository.insertIfAbsent(leaderId, 0, 0, 0, 0, 0, 0, 0);
+        statsRepository.findByIdForUpdate(leaderId);
+
+        Summary summary = computeFromSource(leaderId);
+        Map<Integer, Long> dist = summary.ratingDistribution();
+        long ratingSum = dist.entrySet().stream()
+                .mapToLong(e -> e.getKey() * e.getValue())
+                .sum();
+
+        statsRepository.upsert(leaderId, summary.totalCount(), ratingSum,
+                dist.get(1), dist.get(2), dist.get(3), dist.get(4), dist.get(5));
+
+        tagStatRepository.deleteByLeaderId(leaderId);
+        summary.tagCounts().forEach((tag, count) -> tagStatRepository.increment(leaderId, tag, count));
+
+        log.info("스터디장 리뷰 집계 재계산: leaderId={}, reviews={}", leaderId, summary.totalCount());
+    }
+
+    private Summary computeFromSource(Long leaderId) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = 5; rating >= 1; rating--) {
+            distribution.put(rating, 0L);
+        }
+        for (Object[] row : reviewRepository.countByRatingForLeader(leaderId)) {
+            distribution.computeIfPresent(((Number) row[0]).intValue(), (k, v) -> ((Number) row[1]).longValue());
+        }
+
+        long totalCount = distribution.values().stream().mapToLong(Long::longValue).sum();
+        long ratingSum = distribution.entrySet().stream().mapToLong(e -> e.getKey() * e.getValue()).sum();
+        Double averageRating = totalCount > 0 ? (double) ratingSum / totalCount : null;
+
+        Map<String, Long> tagCounts = reviewRepository.findTagsByLeaderId(leaderId).stream()
+                .flatMap(tags -> Arrays.stream(tags.split(",")).map(this::normalizeTag).filter(t -> !t.isEmpty()).distinct())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+        return new Summary(totalCount, averageRating, distribution, tagCounts);
+    }
+
+    private String normalizeTag(String tag) {
+        String trimmed = tag == null ? "" : tag.trim();
+        return trimmed.length() > MAX_TAG_LENGTH ? trimmed.substring(0, MAX_TAG_LENGTH) : trimmed;
+    }
+}
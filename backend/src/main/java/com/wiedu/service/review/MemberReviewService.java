@@ -6,23 +6,29 @@ import com.wiedu.domain.entity.StudyMemberReview;
 import com.wiedu.domain.entity.User;
 import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
+import com.wiedu.dto.common.CursorPage;
 import com.wiedu.dto.review.CreateMemberReviewRequest;
 import com.wiedu.dto.review.StudyMemberReviewResponse;
+import com.wiedu.dto.review.StudyMemberReviewsResponse;
 import com.wiedu.dto.review.StudyMemberToReviewResponse;
+import com.wiedu.dto.study.StudyAccess;
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.review.StudyMemberReviewRepository;
 import com.wiedu.repository.study.StudyMemberRepository;
 import com.wiedu.repository.user.UserRepository;
-import com.wiedu.service.study.StudyService;
+import com.wiedu.service.study.StudyAccessContext;
+import com.wiedu.service.user.ReputationService;
 import com.wiedu.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -33,15 +39,19 @@ public class MemberReviewService {
     private final StudyMemberReviewRepository memberReviewRepository;
     private final StudyMemberRepository studyMemberRepository;
     private final UserRepository userRepository;
-    private final StudyService studyService;
+    private final StudyAccessContext studyAccessContext;
     private final UserService userService;
+    private final ReputationService reputationService;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     /**
      * 특정 스터디에서 리뷰 대상 멤버 목록 조회
      */
     public List<StudyMemberToReviewResponse> getMembersToReview(Long studyId, Long reviewerId) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User reviewer = userService.findUserEntityById(reviewerId);
+        StudyAccess access = studyAccessContext.resolve(studyId, reviewerId);
+        Study study = access.study();
+        User reviewer = access.user();
 
         // 스터디 완료 여부 확인
         if (study.getStatus() != StudyStatus.COMPLETED) {
@@ -49,10 +59,7 @@ public class MemberReviewService {
         }
 
         // 리뷰어가 멤버인지 확인
-        boolean isMember = studyMemberRepository.existsByStudyAndUserAndStatus(study, reviewer, MemberStatus.ACTIVE);
-        if (!isMember) {
-            throw new BusinessException(ErrorCode.REVIEW_NOT_MEMBER);
-        }
+        access.requireActiveMember(ErrorCode.REVIEW_NOT_MEMBER);
 
         // 이미 리뷰한 멤버 ID 목록
         List<Long> reviewedMemberIds = memberReviewRepository.findReviewedMemberIds(study, reviewer);
@@ -78,9 +85,11 @@ public class MemberReviewService {
      */
     @Transactional
     public StudyMemberReviewResponse createMemberReview(Long studyId, Long reviewerId, CreateMemberReviewRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User reviewer = userService.findUserEntityById(reviewerId);
-        User reviewee = userService.findUserEntityById(request.revieweeId());
+        StudyAccess reviewerAccess = studyAccessContext.resolve(studyId, reviewerId);
+        StudyAccess revieweeAccess = studyAccessContext.resolve(studyId, request.revieweeId());
+        Study study = reviewerAccess.study();
+        User reviewer = reviewerAccess.user();
+        User reviewee = revieweeAccess.user();
 
         // 스터디 완료 여부 확인
         if (study.getStatus() != StudyStatus.COMPLETED) {
@@ -93,16 +102,10 @@ public class MemberReviewService {
         }
 
         // 리뷰어가 멤버인지 확인
-        boolean isReviewerMember = studyMemberRepository.existsByStudyAndUserAndStatus(study, reviewer, MemberStatus.ACTIVE);
-        if (!isReviewerMember) {
-            throw new BusinessException(ErrorCode.REVIEW_NOT_MEMBER);
-        }
+        reviewerAccess.requireActiveMember(ErrorCode.REVIEW_NOT_MEMBER);
 
         // 리뷰 대상자가 멤버인지 확인
-        boolean isRevieweeMember = studyMemberRepository.existsByStudyAndUserAndStatus(study, reviewee, MemberStatus.ACTIVE);
-        if (!isRevieweeMember) {
-            throw new BusinessException(ErrorCode.REVIEW_TARGET_NOT_MEMBER);
-        }
+        revieweeAccess.requireActiveMember(ErrorCode.REVIEW_TARGET_NOT_MEMBER);
 
         // 중복 리뷰 방지
         if (memberReviewRepository.existsByReviewerAndRevieweeAndStudy(reviewer, reviewee, study)) {
@@ -125,11 +128,11 @@ public class MemberReviewService {
 
         StudyMemberReview saved = memberReviewRepository.save(review);
 
-        // 리뷰 대상자 온도 업데이트 (리뷰 평점 + 태그 보너스)
+        // 리뷰 대상자 온도 업데이트 (리뷰 평점 + 태그 보너스, 단일 UPDATE로 원자적 반영)
         int tagCount = request.tags() != null ? request.tags().size() : 0;
         BigDecimal temperatureDelta = calculateTemperatureDelta(request.rating(), tagCount);
-        reviewee.updateTemperature(temperatureDelta);
-        userRepository.save(reviewee);
+        userRepository.addTemperature(reviewee.getId(), temperatureDelta, User.MIN_TEMPERATURE, User.MAX_TEMPERATURE);
+        reputationService.onMemberReviewReceived(reviewee.getId(), request.rating());
 
         log.info("멤버 리뷰 생성: studyId={}, reviewer={}, reviewee={}, rating={}, tags={}, tempDelta={}",
             studyId, reviewerId, request.revieweeId(), request.rating(), tagCount, temperatureDelta);
@@ -139,23 +142,41 @@ public class MemberReviewService {
 
     /**
      * 특정 사용자가 받은 멤버 리뷰 목록 조회
+     * 표시 컬럼만 프로젝션으로 조회하고, 목록은 커서 기반으로 페이지 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 50)
      */
-    public List<StudyMemberReviewResponse> getMemberReviews(Long userId) {
-        User user = userService.findUserEntityById(userId);
-        List<StudyMemberReview> reviews = memberReviewRepository.findByRevieweeWithDetails(user);
-        return reviews.stream()
-            .map(StudyMemberReviewResponse::from)
-            .toList();
+    public StudyMemberReviewsResponse getMemberReviews(Long userId, Long cursor, int size) {
+        userService.findUserEntityById(userId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Object[] summary = memberReviewRepository.summarizeByReviewee(userId).get(0);
+        long totalCount = ((Number) summary[0]).longValue();
+        Double averageRating = summary[1] != null ? ((Number) summary[1]).doubleValue() : null;
+
+        List<StudyMemberReviewResponse> fetched = memberReviewRepository.findReceivedBefore(
+            userId, cursor, PageRequest.ofSize(pageSize + 1));
+        CursorPage<StudyMemberReviewResponse> page = CursorPage.of(
+            fetched, pageSize, StudyMemberReviewResponse::id, Function.identity());
+
+        return new StudyMemberReviewsResponse(
+            page.content(),
+            averageRating,
+            totalCount,
+            page.nextCursor(),
+            page.hasNext()
+        );
     }
 
     /**
-     * 내가 작성한 멤버 리뷰 목록 조회
+     * 내가 작성한 멤버 리뷰 목록 조회 (커서 기반)
      */
-    public List<StudyMemberReviewResponse> getReviewsWrittenByMe(Long reviewerId) {
-        User reviewer = userService.findUserEntityById(reviewerId);
-        return memberReviewRepository.findByReviewerWithDetails(reviewer).stream()
-            .map(StudyMemberReviewResponse::from)
-            .toList();
+    public CursorPage<StudyMemberReviewResponse> getReviewsWrittenByMe(Long reviewerId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<StudyMemberReviewResponse> fetched = memberReviewRepository.findWrittenBefore(
+            reviewerId, cursor, PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(fetched, pageSize, StudyMemberReviewResponse::id, Function.identity());
     }
 
     /**
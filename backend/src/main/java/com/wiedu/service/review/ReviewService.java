@@ -3,25 +3,29 @@ package com.wiedu.service.review;
 import com.wiedu.domain.entity.Study;
 import com.wiedu.domain.entity.StudyLeaderReview;
 import com.wiedu.domain.entity.User;
-import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
 
 import java.math.BigDecimal;
+import com.wiedu.dto.common.CursorPage;
 import com.wiedu.dto.review.CreateReviewRequest;
 import com.wiedu.dto.review.StudyLeaderReviewResponse;
 import com.wiedu.dto.review.StudyLeaderReviewsResponse;
+import com.wiedu.dto.study.StudyAccess;
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.review.StudyLeaderReviewRepository;
-import com.wiedu.repository.study.StudyMemberRepository;
 import com.wiedu.repository.user.UserRepository;
+import com.wiedu.service.study.StudyAccessContext;
 import com.wiedu.service.study.StudyService;
+import com.wiedu.service.user.ReputationService;
 import com.wiedu.service.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -29,26 +33,42 @@ import java.util.List;
 public class ReviewService {
 
     private final StudyLeaderReviewRepository reviewRepository;
-    private final StudyMemberRepository studyMemberRepository;
     private final UserRepository userRepository;
     private final StudyService studyService;
+    private final StudyAccessContext studyAccessContext;
     private final UserService userService;
+    private final ReputationService reputationService;
+    private final LeaderReviewStatsService leaderReviewStatsService;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     /**
      * 스터디장이 받은 리뷰 목록 조회
+     * 집계는 LEADER_REVIEW_STATS 한 행에서 바로 반환하고, 리뷰 목록은 커서 기반으로 페이지 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 50)
      */
-    public StudyLeaderReviewsResponse getLeaderReviews(Long leaderId) {
-        User leader = userService.findUserEntityById(leaderId);
-
-        List<StudyLeaderReview> reviews = reviewRepository.findByLeaderWithDetails(leader);
-        List<StudyLeaderReviewResponse> reviewResponses = reviews.stream()
-                .map(StudyLeaderReviewResponse::from)
-                .toList();
-
-        Double averageRating = reviewRepository.averageRatingByLeader(leaderId);
-        long totalCount = reviewRepository.countByLeader(leader);
-
-        return new StudyLeaderReviewsResponse(reviewResponses, averageRating, totalCount);
+    public StudyLeaderReviewsResponse getLeaderReviews(Long leaderId, Long cursor, int size) {
+        userService.findUserEntityById(leaderId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        LeaderReviewStatsService.Summary summary = leaderReviewStatsService.getSummary(leaderId);
+
+        List<StudyLeaderReviewResponse> fetched = reviewRepository.findReceivedBefore(
+                leaderId, cursor, PageRequest.ofSize(pageSize + 1));
+        CursorPage<StudyLeaderReviewResponse> page = CursorPage.of(
+                fetched, pageSize, StudyLeaderReviewResponse::id, Function.identity());
+
+        return new StudyLeaderReviewsResponse(
+                page.content(),
+                summary.averageRating(),
+                summary.totalCount(),
+                summary.ratingDistribution(),
+                summary.tagCounts(),
+                page.nextCursor(),
+                page.hasNext()
+        );
     }
 
     /**
@@ -56,8 +76,9 @@ public class ReviewService {
      */
     @Transactional
     public StudyLeaderReviewResponse createReview(Long studyId, Long reviewerId, CreateReviewRequest request) {
-        Study study = studyService.findStudyEntityById(studyId);
-        User reviewer = userService.findUserEntityById(reviewerId);
+        StudyAccess access = studyAccessContext.resolve(studyId, reviewerId);
+        Study study = access.study();
+        User reviewer = access.user();
 
         // 스터디 완료 여부 확인
         if (study.getStatus() != StudyStatus.COMPLETED) {
@@ -65,10 +86,7 @@ public class ReviewService {
         }
 
         // 스터디 멤버 여부 확인
-        boolean isMember = studyMemberRepository.existsByStudyAndUserAndStatus(study, reviewer, MemberStatus.ACTIVE);
-        if (!isMember) {
-            throw new BusinessException(ErrorCode.REVIEW_NOT_MEMBER);
-        }
+        access.requireActiveMember(ErrorCode.REVIEW_NOT_MEMBER);
 
         // 중복 리뷰 방지
         if (reviewRepository.existsByReviewerAndStudy(reviewer, study)) {
@@ -98,23 +116,26 @@ public class ReviewService {
 
         StudyLeaderReview saved = reviewRepository.save(review);
 
-        // 스터디장 온도 업데이트 (리뷰 평점 + 태그 보너스)
+        // 스터디장 리뷰 집계 반영 (리뷰 수, 평점 분포, 태그 빈도)
+        leaderReviewStatsService.recordReview(leader.getId(), request.rating(), request.tags());
+
+        // 스터디장 온도 업데이트 (리뷰 평점 + 태그 보너스, 단일 UPDATE로 원자적 반영)
         int tagCount = request.tags() != null ? request.tags().size() : 0;
         BigDecimal temperatureDelta = calculateTemperatureDelta(request.rating(), tagCount);
-        leader.updateTemperature(temperatureDelta);
-        userRepository.save(leader);
+        userRepository.addTemperature(leader.getId(), temperatureDelta, User.MIN_TEMPERATURE, User.MAX_TEMPERATURE);
+        reputationService.onTemperatureChanged(leader.getId());
 
         return StudyLeaderReviewResponse.from(saved);
     }
 
     /**
-     * 내가 작성한 스터디장 리뷰 목록 조회
+     * 내가 작성한 스터디장 리뷰 목록 조회 (커서 기반, 표시 컬럼만 프로젝션으로 조회)
      */
-    public List<StudyLeaderReviewResponse> getReviewsWrittenByMe(Long reviewerId) {
-        User reviewer = userService.findUserEntityById(reviewerId);
-        return reviewRepository.findByReviewerWithDetails(reviewer).stream()
-                .map(StudyLeaderReviewResponse::from)
-                .toList();
+    public CursorPage<StudyLeaderReviewResponse> getReviewsWrittenByMe(Long reviewerId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<StudyLeaderReviewResponse> fetched = reviewRepository.findWrittenBefore(
+                reviewerId, cursor, PageRequest.ofSize(pageSize + 1));
+        return CursorPage.of(fetched, pageSize, StudyLeaderReviewResponse::id, Function.identity());
     }
 
     /**
@@ -0,0 +1,87 @@
+package com.wiedu.service.study;
+
+import com.wiedu.dto.study.StudyAccess;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.repository.study.StudyMemberRepository;
+import com.wiedu.repository.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 스터디 접근 권한 컨텍스트
+ * (스터디, 사용자, 멤버십 역할/상태)를 조인 쿼리 한 번으로 조회하고 요청이 끝날 때까지 재사용
+ * → 스터디 조회, 사용자 조회, 멤버 여부 확인, 리더 확인을 각각 쿼리하지 않음
+ *
+ * 캐시는 요청 속성에 보관하므로 요청 밖(스케줄러, 비동기 작업)에서는 매번 조회
+ * 엔티티는 open-in-view로 요청 동안 영속 상태가 유지됨
+ * 같은 요청 안에서 멤버십을 변경한 뒤 다시 권한을 확인해야 하면 evict 후 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyAccessContext {
+
+    private static final String ATTRIBUTE = StudyAccessContext.class.getName();
+
+    private final StudyMemberRepository studyMemberRepository;
+    private final StudyRepository studyRepository;
+
+    /**
+     * 스터디/사용자가 없으면 STUDY_NOT_FOUND / USER_NOT_FOUND
+     */
+    public StudyAccess resolve(Long studyId, Long userId) {
+        Map<Key, StudyAccess> cache = requestCache();
+        if (cache == null) {
+            return load(studyId, userId);
+        }
+        Key key = new Key(studyId, userId);
+        StudyAccess access = cache.get(key);
+        if (access == null) {
+            access = load(studyId, userId);
+            cache.put(key, access);
+        }
+        return access;
+    }
+
+    /**
+     * 활동 중인 멤버가 아니면 NOT_STUDY_MEMBER
+     */
+    public StudyAccess requireActiveMember(Long studyId, Long userId) {
+        return resolve(studyId, userId).requireActiveMember();
+    }
+
+    public void evict(Long studyId, Long userId) {
+        Map<Key, StudyAccess> cache = requestCache();
+        if (cache != null) {
+            cache.remove(new Key(studyId, userId));
+        }
+    }
+
+    private StudyAccess load(Long studyId, Long userId) {
+        return studyMemberRepository.findAccess(studyId, userId)
+                .orElseThrow(() -> studyRepository.existsById(studyId)
+                        ? new BusinessException(ErrorCode.USER_NOT_FOUND)
+                        : new BusinessException(ErrorCode.STUDY_NOT_FOUND));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Key, StudyAccess> requestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object cache = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<Key, StudyAccess>();
+            attributes.setAttribute(ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Key, StudyAccess>) cache;
+    }
+
+    private record Key(Long studyId, Long userId) {}
+}
@@ -25,7 +25,9 @@ import com.wiedu.repository.study.StudyMemberRepository;
 import com.wiedu.repository.study.StudyRepository;
 import com.wiedu.repository.study.StudySubcategoryRepository;
 import com.wiedu.service.file.FileStorageService;
+import com.wiedu.service.image.AttachedImageProcessing;
 import com.wiedu.service.notification.NotificationService;
+import com.wiedu.service.user.ReputationService;
 import com.wiedu.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,7 +54,9 @@ public class StudyService {
     private final StudySubcategoryRepository studySubcategoryRepository;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final ReputationService reputationService;
     private final FileStorageService fileStorageService;
+    private final AttachedImageProcessing attachedImageProcessing;
     private final jakarta.persistence.EntityManager entityManager;
 
     private static final int MAX_ACTIVE_STUDIES = 3;
@@ -119,6 +123,9 @@ public class StudyService {
 
         Study savedStudy = studyRepository.save(study);
 
+        // 커버 이미지 변형은 커밋 후 비동기로 생성
+        attachedImageProcessing.submitCoverImage(savedStudy.getId(), savedStudy.getCoverImageUrl());
+
         // 태그 저장
         if (request.tags() != null && !request.tags().isEmpty()) {
             int order = 0;
@@ -417,6 +424,11 @@ public class StudyService {
                 request.requirements()
         );
 
+        // 새 커버 이미지(또는 변형/미리보기가 없는 커버)면 변형 생성 접수
+        if (study.getCoverImageVariants() == null || study.getCoverImagePlaceholder() == null) {
+            attachedImageProcessing.submitCoverImage(study.getId(), study.getCoverImageUrl());
+        }
+
         // 태그, 규칙 업데이트 (있으면 교체)
         // 커리큘럼은 회차 정보가 연결되어 있으므로 별도 API로만 관리
         // orphanRemoval과 unique constraint 충돌 방지를 위해 먼저 clear 후 flush
@@ -495,6 +507,9 @@ public class StudyService {
 
         // 모든 멤버에게 리뷰 요청 알림 생성
         notificationService.createReviewRequestNotifications(study);
+
+        // 멤버 평판 스냅샷 갱신 (완료 스터디 수)
+        reputationService.onStudyCompleted(studyId);
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.wiedu.service.user;
 
 import com.wiedu.domain.entity.User;
+import com.wiedu.domain.entity.UserReputation;
 import com.wiedu.domain.enums.BadgeType;
 import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
 import com.wiedu.repository.review.StudyMemberReviewRepository;
 import com.wiedu.repository.study.StudyMemberRepository;
+import com.wiedu.repository.user.UserReputationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,10 +15,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 뱃지 계산 서비스
  * 우선순위: CHAMPION > POPULAR > KIND > PASSION > NEWBIE
+ * USER_REPUTATION 스냅샷 한 행으로 계산 (스냅샷이 없으면 원천 테이블로 계산 후 비동기 생성)
  */
 @Slf4j
 @Service
@@ -26,6 +35,8 @@ public class BadgeService {
 
     private final StudyMemberRepository studyMemberRepository;
     private final StudyMemberReviewRepository memberReviewRepository;
+    private final UserReputationRepository reputationRepository;
+    private final ReputationRebuilder reputationRebuilder;
 
     // 뱃지 조건 상수
     private static final int CHAMPION_MIN_COMPLETED_STUDIES = 10;
@@ -38,24 +49,69 @@ public class BadgeService {
      * 사용자의 대표 뱃지 계산 (우선순위 기반)
      */
     public BadgeType calculateBadge(User user) {
-        // 1. CHAMPION: 완료 스터디 10개 이상
+        return calculateBadges(List.of(user)).get(user.getId());
+    }
+
+    /**
+     * 여러 사용자의 대표 뱃지 일괄 계산 (스냅샷 1회 조회)
+     *
+     * @return userId → 뱃지 (조건 충족 뱃지 없으면 null 값)
+     */
+    public Map<Long, BadgeType> calculateBadges(List<User> users) {
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        Map<Long, UserReputation> snapshots = reputationRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserReputation::getUserId, Function.identity()));
+
+        Map<Long, BadgeType> badges = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (User user : users) {
+            UserReputation snapshot = snapshots.get(user.getId());
+            if (snapshot != null) {
+                badges.put(user.getId(), resolveBadge(user, snapshot.getCompletedStudyCount(),
+                        snapshot.getMemberReviewCount(), snapshot.getAverageRating(), snapshot.getTemperature()));
+            } else {
+                badges.put(user.getId(), calculateFromSource(user));
+                missingIds.add(user.getId());
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            log.debug("평판 스냅샷 없음 - 비동기 생성 요청: userIds={}", missingIds);
+            reputationRebuilder.rebuildAsync(missingIds);
+        }
+        return badges;
+    }
+
+    /**
+     * 원천 테이블 기준 뱃지 계산 (스냅샷 미생성 사용자용)
+     */
+    private BadgeType calculateFromSource(User user) {
         long completedStudies = studyMemberRepository.countCompletedStudiesByUser(
                 user, MemberStatus.ACTIVE, StudyStatus.COMPLETED);
+        long reviewCount = memberReviewRepository.countByReviewee(user);
+        Double avgRating = reviewCount >= POPULAR_MIN_REVIEWS
+                ? memberReviewRepository.averageRatingByReviewee(user.getId())
+                : null;
+        return resolveBadge(user, completedStudies, reviewCount, avgRating, user.getTemperature());
+    }
+
+    /**
+     * 집계값으로 뱃지 결정
+     */
+    private BadgeType resolveBadge(User user, long completedStudies, long reviewCount,
+                                   Double avgRating, BigDecimal temperature) {
+        // 1. CHAMPION: 완료 스터디 10개 이상
         if (completedStudies >= CHAMPION_MIN_COMPLETED_STUDIES) {
             return BadgeType.CHAMPION;
         }
 
         // 2. POPULAR: 평균 리뷰 4.5점 이상 (최소 5개 리뷰)
-        long reviewCount = memberReviewRepository.countByReviewee(user);
-        if (reviewCount >= POPULAR_MIN_REVIEWS) {
-            Double avgRating = memberReviewRepository.averageRatingByReviewee(user.getId());
-            if (avgRating != null && avgRating >= POPULAR_MIN_RATING) {
-                return BadgeType.POPULAR;
-            }
+        if (reviewCount >= POPULAR_MIN_REVIEWS && avgRating != null && avgRating >= POPULAR_MIN_RATING) {
+            return BadgeType.POPULAR;
         }
 
         // 3. KIND: 매너온도 40도 이상
-        if (user.getTemperature().compareTo(KIND_MIN_TEMPERATURE) >= 0) {
+        if (temperature != null && temperature.compareTo(KIND_MIN_TEMPERATURE) >= 0) {
             return BadgeType.KIND;
         }
 
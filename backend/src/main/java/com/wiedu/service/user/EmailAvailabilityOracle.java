@@ -0,0 +1,119 @@
+package com.wiedu.service.user;
+
+import com.wiedu.config.SchedulingConfig;
+import com.wiedu.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 이메일 사용 가능 여부 사전 판정
+ * 가입된 이메일 전체로 Bloom filter를 만들어 두고, filter에 없는 이메일은 DB 조회 없이 "사용 가능"으로 응답
+ * filter에 있을 수도 있는 경우(실제 중복 또는 오탐)만 DB로 확인
+ *
+ * - 기동 직후 첫 스케줄 실행에서 생성, 이후 rebuild-interval마다 다시 생성
+ *   (탈퇴 익명화로 사라진 이메일 정리, 다른 인스턴스에서 가입한 이메일 반영)
+ * - 가입/OAuth 사용자 생성/익명화 시 register로 즉시 반영
+ * - 생성 전이거나 예상 원소 수를 넘긴 경우에는 판정하지 않고 DB로 넘김
+ * 가입 시 중복 확인은 그대로 DB 기준 (여기서는 조회 API의 빠른 경로만 담당)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailAvailabilityOracle {
+
+    private static final int BUILD_BATCH_SIZE = 5_000;
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final UserRepository userRepository;
+
+    @Value("${user.email-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${user.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile EmailBloomFilter current;
+    private volatile EmailBloomFilter building;
+
+    /**
+     * DB 조회 없이 사용 가능하다고 확정할 수 있는지
+     */
+    public boolean isDefinitelyAvailable(String email) {
+        EmailBloomFilter filter = current;
+        if (filter == null || filter.isSaturated()) {
+            return false;
+        }
+        return !filter.mightContain(normalize(email));
+    }
+
+    /**
+     * 새로 사용 중이 된 이메일 반영 (가입, OAuth 사용자 생성, 익명화)
+     * 트랜잭션이 롤백되어도 오탐이 하나 늘 뿐이므로 커밋 전에 바로 추가
+     */
+    public void register(String email) {
+        if (email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        EmailBloomFilter filter = current;
+        if (filter != null) {
+            filter.put(normalized);
+        }
+        // 재생성 중인 filter에도 추가하고, 그 사이 교체되었다면 새 filter에도 추가
+        EmailBloomFilter next = building;
+        if (next != null) {
+            next.put(normalized);
+        }
+        EmailBloomFilter latest = current;
+        if (latest != null && latest != filter && latest != next) {
+            latest.put(normalized);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.email-filter.rebuild-interval:PT6H}", initialDelay = 0,
+            scheduler = SchedulingConfig.MAINTENANCE_SCHEDULER)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long capacity = Math.max(MIN_CAPACITY, userRepository.count() * 2);
+        EmailBloomFilter next = new EmailBloomFilter(capacity, falsePositiveRate);
+        building = next;
+        try {
+            long afterId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = userRepository.findEmailsAfter(afterId, PageRequest.ofSize(BUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    afterId = (Long) row[0];
+                    next.put(normalize((String) row[1]));
+                }
+            } while (rows.size() == BUILD_BATCH_SIZE);
+            current = next;
+            log.info("이메일 Bloom filter 생성: emails={}, capacity={}, elapsedMs={}",
+                    next.insertions(), capacity, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("이메일 Bloom filter 생성 실패 (DB 조회로 동작)", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * USERS.email 비교 규칙(utf8mb4_0900_ai_ci: 대소문자/악센트 무시)에 맞춘 정규화
+     * DB에서 같다고 보는 두 이메일은 filter에서도 같은 값이 되어야 false negative가 생기지 않음
+     */
+    private static String normalize(String email) {
+        String decomposed = Normalizer.normalize(email.trim(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+}
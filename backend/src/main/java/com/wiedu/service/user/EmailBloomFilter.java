@@ -0,0 +1,92 @@
+package com.wiedu.service.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 이메일 존재 여부 Bloom filter
+ * - mightContain == false: 확실히 없음 (false negative 없음)
+ * - mightContain == true: 있을 수도 있음 (falsePositiveRate 비율로 오탐)
+ * 비트 설정은 CAS로 처리하여 잠금 없이 동시에 추가/조회 가능
+ */
+final class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param capacity          예상 원소 수 (초과하면 오탐률이 올라가므로 isSaturated로 확인)
+     * @param falsePositiveRate 목표 오탐률
+     */
+    EmailBloomFilter(long capacity, double falsePositiveRate) {
+        long size = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, ((size + 63) / 64) * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+        this.capacity = capacity;
+    }
+
+    void put(String normalizedEmail) {
+        long[] hashes = hash(normalizedEmail);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hashes, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String normalizedEmail) {
+        long[] hashes = hash(normalizedEmail);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hashes, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 예상 원소 수를 넘겨 오탐률이 목표보다 높아진 상태
+     */
+    boolean isSaturated() {
+        return insertions.get() > capacity;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    /**
+     * 이중 해싱 (h1 + i * h2)으로 hashCount개의 비트 위치 생성
+     */
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    private static long[] hash(String value) {
+        // FNV-1a 64
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h1 ^= b;
+            h1 *= 0x100000001b3L;
+        }
+        // 두 번째 해시는 h1을 섞어서 유도 (홀수로 만들어 모든 위치를 순회하도록)
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1L;
+        return new long[]{mix(h1), h2};
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -1,20 +1,18 @@
 package com.wiedu.service.user;
 
-import com.wiedu.domain.entity.Study;
 import com.wiedu.domain.entity.StudyMember;
-import com.wiedu.domain.entity.User;
 import com.wiedu.domain.enums.MemberRole;
 import com.wiedu.domain.enums.MemberStatus;
 import com.wiedu.domain.enums.StudyStatus;
 import com.wiedu.dto.user.MyStudyResponse;
-import com.wiedu.repository.review.StudyLeaderReviewRepository;
-import com.wiedu.repository.review.StudyMemberReviewRepository;
 import com.wiedu.repository.study.StudyMemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -25,10 +23,7 @@ import java.util.stream.Stream;
 @Transactional(readOnly = true)
 public class MyStudiesService {
 
-    private final UserService userService;
     private final StudyMemberRepository studyMemberRepository;
-    private final StudyLeaderReviewRepository leaderReviewRepository;
-    private final StudyMemberReviewRepository memberReviewRepository;
 
     /**
      * 내 스터디 목록 조회
@@ -38,10 +33,8 @@ public class MyStudiesService {
      * @param role   역할 필터 (LEADER=운영, MEMBER=참여, null=전체)
      */
     public List<MyStudyResponse> getMyStudies(Long userId, String status, String role) {
-        User user = userService.findUserEntityById(userId);
-
-        // 활성 멤버십만 조회
-        List<StudyMember> memberships = studyMemberRepository.findByUserAndStatus(user, MemberStatus.ACTIVE);
+        // 활성 멤버십만 조회 (스터디, 카테고리 함께 로딩)
+        List<StudyMember> memberships = studyMemberRepository.findByUserIdAndStatusWithStudy(userId, MemberStatus.ACTIVE);
 
         Stream<StudyMember> stream = memberships.stream();
 
@@ -63,10 +56,21 @@ public class MyStudiesService {
             }
         }
 
-        return stream.map(sm -> {
+        List<StudyMember> filtered = stream.toList();
+
+        // COMPLETED 스터디가 있을 때만 리뷰 진행 현황을 한 번에 조회
+        boolean hasCompleted = filtered.stream()
+                .anyMatch(sm -> sm.getStudy().getStatus() == StudyStatus.COMPLETED);
+        Map<Long, ReviewProgress> progressByStudy = hasCompleted
+                ? findReviewProgress(userId)
+                : Map.of();
+
+        return filtered.stream().map(sm -> {
             // COMPLETED 스터디만 리뷰 완료 여부 체크
             if (sm.getStudy().getStatus() == StudyStatus.COMPLETED) {
-                Boolean reviewCompleted = checkReviewCompleted(sm, user);
+                ReviewProgress progress = progressByStudy.get(sm.getStudy().getId());
+                boolean isLeader = sm.getRole() == MemberRole.LEADER;
+                Boolean reviewCompleted = progress != null && progress.isCompleted(isLeader);
                 return MyStudyResponse.from(sm, reviewCompleted);
             }
             return MyStudyResponse.from(sm);
@@ -74,31 +78,38 @@ public class MyStudiesService {
     }
 
     /**
-     * 해당 스터디에서 리뷰를 모두 완료했는지 확인
+     * 완료된 스터디 전체의 리뷰 진행 현황을 단일 쿼리로 조회
      */
-    private Boolean checkReviewCompleted(StudyMember membership, User user) {
-        Study study = membership.getStudy();
-        boolean isLeader = membership.getRole() == MemberRole.LEADER;
-
-        // 1. 스터디장이 아닌 경우: 리더 리뷰 작성 여부 확인
-        if (!isLeader) {
-            boolean hasReviewedLeader = leaderReviewRepository.existsByReviewerAndStudy(user, study);
-            if (!hasReviewedLeader) {
-                return false;
-            }
+    private Map<Long, ReviewProgress> findReviewProgress(Long userId) {
+        List<Object[]> rows = studyMemberRepository.findReviewProgressByUserId(
+                userId, MemberStatus.ACTIVE, StudyStatus.COMPLETED);
+
+        Map<Long, ReviewProgress> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], new ReviewProgress(
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(),
+                    ((Number) row[3]).longValue() > 0));
         }
+        return result;
+    }
 
-        // 2. 멤버 리뷰 완료 여부: 나를 제외한 멤버 수 vs 내가 작성한 리뷰 수 비교
-        List<StudyMember> activeMembers = studyMemberRepository.findByStudyAndStatus(study, MemberStatus.ACTIVE);
-        // 나와 리더를 제외한 멤버 수 (리더는 별도 리뷰 시스템)
-        long membersToReview = activeMembers.stream()
-                .filter(m -> !m.getUser().getId().equals(user.getId()))
-                .filter(m -> !m.getUser().getId().equals(study.getLeader().getId()))
-                .count();
-
-        long reviewedCount = memberReviewRepository.countByReviewerAndStudy(user, study);
+    /**
+     * 스터디별 리뷰 진행 현황
+     *
+     * @param membersToReview   나와 리더를 제외한 활성 멤버 수 (리더는 별도 리뷰 시스템)
+     * @param reviewedCount     내가 작성한 멤버 리뷰 수
+     * @param hasReviewedLeader 리더 리뷰 작성 여부
+     */
+    private record ReviewProgress(long membersToReview, long reviewedCount, boolean hasReviewedLeader) {
 
-        return reviewedCount >= membersToReview;
+        boolean isCompleted(boolean isLeader) {
+            // 스터디장이 아닌 경우 리더 리뷰도 작성해야 완료
+            if (!isLeader && !hasReviewedLeader) {
+                return false;
+            }
+            return reviewedCount >= membersToReview;
+        }
     }
 
     /**
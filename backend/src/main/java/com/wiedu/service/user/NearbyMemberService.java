@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 근처 활동중인 멤버 서비스
@@ -72,12 +73,10 @@ public class NearbyMemberService {
         log.debug("근처 활동중인 멤버 조회: lat={}, lng={}, radius={}km, found={}",
                 latitude, longitude, radius, nearbyUsers.size());
 
-        // 뱃지 계산 후 DTO 변환
+        // 뱃지 일괄 계산 후 DTO 변환
+        Map<Long, BadgeType> badges = badgeService.calculateBadges(nearbyUsers);
         return nearbyUsers.stream()
-                .map(user -> {
-                    BadgeType badge = badgeService.calculateBadge(user);
-                    return NearbyMemberResponse.from(user, badge);
-                })
+                .map(user -> NearbyMemberResponse.from(user, badges.get(user.getId())))
                 .toList();
     }
 
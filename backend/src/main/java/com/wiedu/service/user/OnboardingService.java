@@ -11,6 +11,7 @@ import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.user.UserInterestRepository;
 import com.wiedu.repository.user.UserRepository;
 import com.wiedu.repository.user.UserStudyPreferenceRepository;
+import com.wiedu.service.image.AttachedImageProcessing;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +28,7 @@ public class OnboardingService {
     private final UserService userService;
     private final UserInterestRepository userInterestRepository;
     private final UserStudyPreferenceRepository userStudyPreferenceRepository;
+    private final AttachedImageProcessing attachedImageProcessing;
 
     /**
      * Step 1: 약관 동의
@@ -57,6 +59,11 @@ public class OnboardingService {
         }
 
         user.updateProfile(nickname, request.getProfileImage());
+
+        // 새 이미지(또는 변형/미리보기가 없는 이미지)면 변형 생성 접수
+        if (user.getProfileImageVariants() == null || user.getProfileImagePlaceholder() == null) {
+            attachedImageProcessing.submitProfileImage(userId, user.getProfileImage());
+        }
     }
 
     /**
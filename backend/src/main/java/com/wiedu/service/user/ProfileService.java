@@ -14,6 +14,7 @@ import com.wiedu.repository.study.StudyMemberRepository;
 import com.wiedu.repository.user.UserInterestRepository;
 import com.wiedu.repository.user.UserRepository;
 import com.wiedu.service.file.FileStorageService;
+import com.wiedu.service.image.AttachedImageProcessing;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class ProfileService {
     private final UserInterestRepository userInterestRepository;
     private final StudyMemberRepository studyMemberRepository;
     private final FileStorageService fileStorageService;
+    private final AttachedImageProcessing attachedImageProcessing;
 
     /**
      * 현재 사용자 프로필 조회
@@ -166,6 +168,9 @@ public class ProfileService {
         user.updateProfileImage(imageUrl);
         userRepository.save(user);
 
+        // 썸네일/변형은 커밋 후 비동기로 생성
+        attachedImageProcessing.submitProfileImage(userId, imageUrl);
+
         return imageUrl;
     }
 }
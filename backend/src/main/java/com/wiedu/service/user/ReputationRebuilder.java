@@ -0,0 +1,140 @@
+package com.wiedu.service.user;
+
+import com.wiedu.domain.entity.User;
+import com.wiedu.domain.entity.UserReputation;
+import com.wiedu.domain.enums.MemberStatus;
+import com.wiedu.domain.enums.StudyStatus;
+import com.wiedu.repository.review.StudyMemberReviewRepository;
+import com.wiedu.repository.study.StudyMemberRepository;
+import com.wiedu.repository.user.UserReputationRepository;
+import com.wiedu.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 평판 스냅샷 재계산기
+ * 원천 테이블(STUDY_MEMBERS, STUDY_MEMBER_REVIEWS, USERS)에서 집계값을 다시 계산하여 스냅샷에 반영
+ * - 스냅샷이 없는 사용자: BadgeService 조회 시 비동기 생성 (이미 대기 중인 사용자는 다시 접수하지 않음)
+ * - 전체 재계산: reputation.rebuild-on-startup=true 또는 rebuildAll() 직접 호출
+ */
+@Slf4j
+@Service
+public class ReputationRebuilder {
+
+    private static final int REBUILD_BATCH_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final UserReputationRepository reputationRepository;
+    private final StudyMemberRepository studyMemberRepository;
+    private final StudyMemberReviewRepository memberReviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor reputationExecutor;
+
+    // 재계산 대기/진행 중인 사용자 (같은 사용자를 조회할 때마다 중복 접수하지 않도록)
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    public ReputationRebuilder(UserRepository userRepository,
+                               UserReputationRepository reputationRepository,
+                               StudyMemberRepository studyMemberRepository,
+                               StudyMemberReviewRepository memberReviewRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("reputationExecutor") ThreadPoolTaskExecutor reputationExecutor) {
+        this.userRepository = userRepository;
+        this.reputationRepository = reputationRepository;
+        this.studyMemberRepository = studyMemberRepository;
+        this.memberReviewRepository = memberReviewRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.reputationExecutor = reputationExecutor;
+    }
+
+    /**
+     * 지정한 사용자들의 스냅샷 비동기 재계산 접수
+     * 조회 요청 스레드에서 호출되므로 대기열이 가득 차도 예외를 던지지 않음 (다음 조회 때 다시 접수)
+     */
+    public void rebuildAsync(Collection<Long> userIds) {
+        List<Long> accepted = userIds.stream()
+                .filter(pendingUserIds::add)
+                .toList();
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            reputationExecutor.execute(() -> rebuildEach(accepted));
+        } catch (TaskRejectedException e) {
+            accepted.forEach(pendingUserIds::remove);
+            log.debug("평판 재계산 대기열 포화로 접수 생략: userIds={}", accepted);
+        }
+    }
+
+    private void rebuildEach(List<Long> userIds) {
+        for (Long userId : userIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 스레드에서 먼저 생성한 경우 - 다음 증분 업데이트부터 반영됨
+                log.debug("평판 스냅샷 동시 생성 감지: userId={}", userId);
+            } catch (RuntimeException e) {
+                log.warn("평판 스냅샷 재계산 실패: userId={}", userId, e);
+            } finally {
+                pendingUserIds.remove(userId);
+            }
+        }
+    }
+
+    /**
+     * 전체 사용자 스냅샷 재계산 (ID 순으로 배치 처리)
+     */
+    @Async("reputationExecutor")
+    public void rebuildAll() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(lastId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> userIds.forEach(this::rebuild));
+            lastId = userIds.get(userIds.size() - 1);
+            total += userIds.size();
+        }
+        log.info("평판 스냅샷 전체 재계산 완료: users={}", total);
+    }
+
+    /**
+     * 단일 사용자 스냅샷 재계산 (호출 측 트랜잭션 내에서 실행)
+     */
+    private void rebuild(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return;
+        }
+
+        int completedStudies = (int) studyMemberRepository.countCompletedStudiesByUser(
+                user, MemberStatus.ACTIVE, StudyStatus.COMPLETED);
+        long reviewCount = memberReviewRepository.countByReviewee(user);
+        long ratingSum = memberReviewRepository.sumRatingByReviewee(userId);
+
+        reputationRepository.findById(userId).ifPresentOrElse(
+                reputation -> reputation.rebuild(completedStudies, reviewCount, ratingSum, user.getTemperature()),
+                () -> reputationRepository.save(UserReputation.builder()
+                        .userId(userId)
+                        .completedStudyCount(completedStudies)
+                        .memberReviewCount(reviewCount)
+                        .memberRatingSum(ratingSum)
+                        .temperature(user.getTemperature())
+                        .build())
+        );
+    }
+}
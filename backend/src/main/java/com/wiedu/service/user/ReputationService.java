@@ -0,0 +1,47 @@
+package com.wiedu.service.user;
+
+import com.wiedu.domain.enums.MemberStatus;
+import com.wiedu.repository.user.UserReputationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 평판 스냅샷 증분 업데이트 서비스
+ * 스냅샷 행이 아직 없는 사용자는 건너뜀 (BadgeService 조회 시 ReputationRebuilder가 원천 테이블로 생성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReputationService {
+
+    private final UserReputationRepository reputationRepository;
+
+    /**
+     * 스터디 완료 - 활성 멤버 전원의 완료 스터디 수 증가
+     */
+    public void onStudyCompleted(Long studyId) {
+        int updated = reputationRepository.incrementCompletedStudies(studyId, MemberStatus.ACTIVE, LocalDateTime.now());
+        log.debug("평판 스냅샷 갱신 (스터디 완료): studyId={}, updated={}", studyId, updated);
+    }
+
+    /**
+     * 멤버 리뷰 수신 - 리뷰 수/평점 합계 및 온도 갱신
+     */
+    public void onMemberReviewReceived(Long revieweeId, int rating) {
+        LocalDateTime now = LocalDateTime.now();
+        reputationRepository.addMemberReview(revieweeId, rating, now);
+        reputationRepository.syncTemperature(revieweeId, now);
+    }
+
+    /**
+     * 매너온도 변경
+     */
+    public void onTemperatureChanged(Long userId) {
+        reputationRepository.syncTemperature(userId, LocalDateTime.now());
+    }
+}
@@ -44,6 +44,7 @@ public class SettingsService {
     private final UserInterestRepository userInterestRepository;
     private final UserStudyPreferenceRepository userStudyPreferenceRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final EmailAvailabilityOracle emailAvailabilityOracle;
 
     /**
      * 알림 설정 조회
@@ -88,6 +89,7 @@ public class SettingsService {
 
         // 2. 사용자 정보 익명화 (soft delete + 개인정보 삭제)
         user.anonymize();
+        emailAvailabilityOracle.register(user.getEmail());
 
         // 3. 좋아요한 게시글/댓글의 like_count 감소 (삭제 전에 먼저 처리)
         boardPostRepository.decrementLikeCountByUserId(userId);
@@ -8,12 +8,14 @@ import com.wiedu.repository.board.BoardCommentLikeRepository;
 import com.wiedu.repository.board.BoardCommentRepository;
 import com.wiedu.repository.board.BoardPostLikeRepository;
 import com.wiedu.repository.board.BoardPostRepository;
+import com.wiedu.repository.file.UploadSessionRepository;
 import com.wiedu.repository.gallery.GalleryPhotoRepository;
 import com.wiedu.repository.notification.NotificationRepository;
 import com.wiedu.repository.review.StudyLeaderReviewRepository;
 import com.wiedu.repository.review.StudyMemberReviewRepository;
 import com.wiedu.repository.study.*;
 import com.wiedu.repository.user.UserInterestRepository;
+import com.wiedu.repository.user.UserReputationRepository;
 import com.wiedu.repository.user.UserRepository;
 import com.wiedu.repository.user.UserStudyPreferenceRepository;
 import lombok.RequiredArgsConstructor;
@@ -54,6 +56,8 @@ public class UserDeletionService {
     private final StudyLeaderReviewRepository studyLeaderReviewRepository;
     private final StudyMemberReviewRepository studyMemberReviewRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserReputationRepository userReputationRepository;
+    private final UploadSessionRepository uploadSessionRepository;
 
     /**
      * 사용자 삭제 (탈퇴)
@@ -89,6 +93,8 @@ public class UserDeletionService {
         userInterestRepository.deleteByUserId(userId);
         userStudyPreferenceRepository.deleteByUserId(userId);
         refreshTokenRepository.deleteByUserId(userId);
+        userReputationRepository.deleteByUserId(userId);
+        uploadSessionRepository.deleteByUserId(userId);   // 임시 파일은 만료 정리에서 삭제
 
         // 3. 스터디 멤버십 삭제
         studyMemberRepository.deleteByUserId(userId);
@@ -8,6 +8,7 @@ import com.wiedu.dto.user.UserResponse;
 import com.wiedu.exception.BusinessException;
 import com.wiedu.exception.ErrorCode;
 import com.wiedu.repository.user.UserRepository;
+import com.wiedu.service.image.AttachedImageProcessing;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EmailAvailabilityOracle emailAvailabilityOracle;
+    private final AttachedImageProcessing attachedImageProcessing;
 
     /**
      * 회원가입 (이메일 인증 요청)
@@ -45,6 +48,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        emailAvailabilityOracle.register(savedUser.getEmail());
         return UserResponse.from(savedUser);
     }
 
@@ -86,13 +90,22 @@ public class UserService {
                 request.profileImage() != null ? request.profileImage() : user.getProfileImage()
         );
 
+        // 새 이미지(또는 변형/미리보기가 없는 이미지)면 변형 생성 접수
+        if (user.getProfileImageVariants() == null || user.getProfileImagePlaceholder() == null) {
+            attachedImageProcessing.submitProfileImage(userId, user.getProfileImage());
+        }
+
         return UserResponse.from(user);
     }
 
     /**
      * 이메일 중복 체크
+     * Bloom filter에 없는 이메일은 DB 조회 없이 사용 가능으로 응답
      */
     public boolean isEmailDuplicated(String email) {
+        if (emailAvailabilityOracle.isDefinitelyAvailable(email)) {
+            return false;
+        }
         return userRepository.existsByEmail(email);
     }
 
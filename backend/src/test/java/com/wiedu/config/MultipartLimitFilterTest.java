@@ -0,0 +1,102 @@
+package com.wiedu.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiedu.service.gallery.GalleryUploadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MultipartLimitFilter - 경로별 multipart 요청 크기 제한 테스트
+ * 갤러리 일괄 업로드만 큰 요청을 허용하고, 나머지는 본문을 읽기 전에 거부하는지 확인
+ */
+class MultipartLimitFilterTest {
+
+    private static final String BATCH_URI = "/api/studies/1/gallery/photos/batch";
+    private static final long MB = DataSize.ofMegabytes(1).toBytes();
+
+    private MultipartLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MultipartProperties multipartProperties = new MultipartProperties();
+        multipartProperties.setMaxRequestSize(DataSize.ofMegabytes(10));
+        GalleryUploadProperties galleryUploadProperties = new GalleryUploadProperties();
+        galleryUploadProperties.setMaxRequestSize(DataSize.ofMegabytes(100));
+        filter = new MultipartLimitFilter(multipartProperties, galleryUploadProperties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("갤러리 일괄 업로드는 gallery.upload.max-request-size까지 허용한다")
+    void allowsLargeBatchUpload() throws Exception {
+        assertThat(passes(multipart("POST", BATCH_URI, 60 * MB))).isTrue();
+        assertThat(passes(multipart("POST", BATCH_URI, 101 * MB))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 multipart 요청은 10MB를 넘으면 본문을 읽기 전에 413")
+    void rejectsLargeRequestOnOtherPaths() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(multipart("POST", "/api/files/upload", 11 * MB), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString()).contains("F008");
+        assertThat(passes(multipart("POST", "/api/files/upload", 9 * MB))).isTrue();
+        // 같은 스터디 경로라도 일괄 업로드가 아니면 기본 한도
+        assertThat(passes(multipart("POST", "/api/studies/1/gallery/photos", 11 * MB))).isFalse();
+    }
+
+    @Test
+    @DisplayName("길이를 알 수 없는 multipart 요청은 일괄 업로드만 허용한다")
+    void unknownLength() throws Exception {
+        assertThat(passes(multipart("POST", BATCH_URI, -1))).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(multipart("POST", "/api/files/upload", -1), response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(411);
+    }
+
+    @Test
+    @DisplayName("multipart가 아닌 요청은 제한하지 않는다")
+    void ignoresNonMultipart() throws Exception {
+        MockHttpServletRequest request = withContentLength("PUT", "/api/uploads/abc", 50 * MB);
+        request.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        assertThat(passes(request)).isTrue();
+    }
+
+    private boolean passes(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest() != null;
+    }
+
+    private static MockHttpServletRequest multipart(String method, String uri, long contentLength) {
+        MockHttpServletRequest request = withContentLength(method, uri, contentLength);
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=test");
+        return request;
+    }
+
+    /**
+     * 본문 없이 Content-Length만 지정 (-1: chunked)
+     */
+    private static MockHttpServletRequest withContentLength(String method, String uri, long contentLength) {
+        return new MockHttpServletRequest(method, uri) {
+            @Override
+            public long getContentLengthLong() {
+                return contentLength;
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.wiedu.oauth.kakao;
+
+import com.wiedu.dto.oauth.KakaoTokenResponse;
+import com.wiedu.dto.oauth.KakaoUserResponse;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KakaoApiClient - 로컬 스텁 서버 대상 통합/지연 테스트
+ * 타임아웃, 서킷 브레이커, 벌크헤드가 실제 HTTP 호출에서 동작하는지 확인
+ */
+class KakaoApiClientTest {
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMillis(300);
+
+    private KakaoStubServer stub;
+    private KakaoApiClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new KakaoStubServer();
+        client = newClient(3, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("인가 코드로 토큰 발급 후 사용자 정보를 조회한다")
+    void requestTokenAndUserInfo() {
+        KakaoTokenResponse token = client.requestToken("auth-code", "http://localhost/callback");
+        KakaoUserResponse user = client.getUserInfo(token.accessToken());
+
+        assertThat(token.accessToken()).isEqualTo("stub-access-token");
+        assertThat(user.id()).isEqualTo(1234L);
+        assertThat(user.getEmail()).isEqualTo("kakao@example.com");
+
+        KakaoStubServer.RecordedRequest tokenRequest = stub.requests().get(0);
+        assertThat(tokenRequest.method()).isEqualTo("POST");
+        assertThat(tokenRequest.body())
+                .contains("grant_type=authorization_code", "client_id=test-client", "code=auth-code");
+        KakaoStubServer.RecordedRequest userRequest = stub.requests().get(1);
+        assertThat(userRequest.header("Authorization")).isEqualTo("Bearer stub-access-token");
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 요청 오류로 응답하고 서킷 실패로 세지 않는다")
+    void clientErrorDoesNotOpenCircuit() {
+        stub.stub(KakaoStubServer.TOKEN_PATH, 400, "{\"error\":\"invalid_grant\"}", Duration.ZERO);
+
+        for (int i = 0; i < 5; i++) {
+            assertErrorCode(() -> client.requestToken("bad-code", "http://localhost/callback"),
+                    ErrorCode.OAUTH_TOKEN_FAILED);
+        }
+
+        assertThat(stub.hitCount(KakaoStubServer.TOKEN_PATH)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("응답이 타임아웃보다 늦으면 응답 타임아웃 안에 실패한다")
+    void slowResponseTimesOut() {
+        stub.stub(KakaoStubServer.USER_INFO_PATH, 200, "{\"id\":1}", Duration.ofSeconds(2));
+
+        long start = System.nanoTime();
+        assertErrorCode(() -> client.getUserInfo("token"), ErrorCode.OAUTH_USER_INFO_FAILED);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isLessThan(1500);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 카카오를 호출하지 않고 즉시 실패한다")
+    void circuitOpensAfterConsecutiveFailures() {
+        stub.stub(KakaoStubServer.TOKEN_PATH, 503, "{}", Duration.ZERO);
+
+        for (int i = 0; i < 3; i++) {
+            assertErrorCode(() -> client.requestToken("code", "http://localhost/callback"),
+                    ErrorCode.OAUTH_TOKEN_FAILED);
+        }
+        assertErrorCode(() -> client.requestToken("code", "http://localhost/callback"),
+                ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+
+        assertThat(stub.hitCount(KakaoStubServer.TOKEN_PATH)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 대기 후 카카오를 호출하지 않고 실패한다")
+    void bulkheadRejectsExcessCalls() throws Exception {
+        client.shutdown();
+        client = newClient(10, 1);
+        stub.stub(KakaoStubServer.USER_INFO_PATH, 200, "{\"id\":1}", Duration.ofMillis(250));
+
+        CompletableFuture<KakaoUserResponse> inFlight = CompletableFuture.supplyAsync(() -> client.getUserInfo("first"));
+        waitForHit(KakaoStubServer.USER_INFO_PATH);
+
+        assertErrorCode(() -> client.getUserInfo("second"), ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+        assertThat(inFlight.get(2, TimeUnit.SECONDS).id()).isEqualTo(1L);
+        assertThat(stub.hitCount(KakaoStubServer.USER_INFO_PATH)).isEqualTo(1);
+    }
+
+    private KakaoApiClient newClient(int failureThreshold, int maxConcurrentCalls) {
+        KakaoProperties properties = new KakaoProperties();
+        properties.setClientId("test-client");
+        properties.setAuthBaseUrl(stub.baseUrl());
+        properties.setApiBaseUrl(stub.baseUrl());
+        KakaoProperties.Client clientProperties = properties.getClient();
+        clientProperties.setResponseTimeout(RESPONSE_TIMEOUT);
+        clientProperties.setConnectTimeout(Duration.ofMillis(500));
+        clientProperties.setPendingAcquireTimeout(Duration.ofMillis(200));
+        clientProperties.setFailureThreshold(failureThreshold);
+        clientProperties.setOpenDuration(Duration.ofMinutes(1));
+        clientProperties.setMaxConcurrentCalls(maxConcurrentCalls);
+        clientProperties.setMaxWait(Duration.ofMillis(50));
+        return new KakaoApiClient(properties, new SimpleMeterRegistry());
+    }
+
+    private void waitForHit(String path) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (stub.hitCount(path) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void assertErrorCode(Runnable call, ErrorCode expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,119 @@
+package com.wiedu.oauth.kakao;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 카카오 스텁 서버 (통합/지연 테스트용)
+ * kakao.auth-base-url, kakao.api-base-url을 baseUrl()로 바꿔 실제 카카오 대신 호출되게 함
+ * 경로별로 응답 상태, 본문, 지연을 지정하고 받은 요청을 기록
+ */
+public class KakaoStubServer implements AutoCloseable {
+
+    public static final String TOKEN_PATH = "/oauth/token";
+    public static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final HttpServer server;
+    private final Map<String, Stub> stubs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    public record RecordedRequest(String method, String path, Map<String, List<String>> headers, String body) {
+        public String header(String name) {
+            return headers.entrySet().stream()
+                    .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+                    .flatMap(entry -> entry.getValue().stream())
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private record Stub(int status, String body, Duration delay) {
+    }
+
+    public KakaoStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        respondWithToken("stub-access-token");
+        respondWithUser(1234L, "kakao@example.com", "카카오");
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public KakaoStubServer respondWithToken(String accessToken) {
+        return stub(TOKEN_PATH, 200, """
+                {"access_token":"%s","token_type":"bearer","refresh_token":"stub-refresh-token","expires_in":21599}
+                """.formatted(accessToken), Duration.ZERO);
+    }
+
+    public KakaoStubServer respondWithUser(long id, String email, String nickname) {
+        return stub(USER_INFO_PATH, 200, """
+                {"id":%d,"kakao_account":{"email":"%s","profile":{"nickname":"%s"}}}
+                """.formatted(id, email, nickname), Duration.ZERO);
+    }
+
+    /**
+     * 경로 응답 지정 (delay만큼 기다린 뒤 응답, 지연/타임아웃 재현용)
+     */
+    public KakaoStubServer stub(String path, int status, String body, Duration delay) {
+        stubs.put(path, new Stub(status, body, delay));
+        return this;
+    }
+
+    public int hitCount(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public List<RecordedRequest> requests() {
+        return requests;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(new RecordedRequest(exchange.getRequestMethod(), path, Map.copyOf(exchange.getRequestHeaders()), body));
+        hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+
+        Stub stub = stubs.getOrDefault(path, new Stub(404, "{}", Duration.ZERO));
+        try {
+            if (!stub.delay().isZero()) {
+                Thread.sleep(stub.delay().toMillis());
+            }
+            byte[] response = stub.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(stub.status(), response.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 연결을 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.wiedu.repository.study;
+
+import com.wiedu.domain.entity.Study;
+import com.wiedu.domain.entity.StudyCategory;
+import com.wiedu.domain.entity.StudyMember;
+import com.wiedu.domain.entity.User;
+import com.wiedu.domain.enums.MemberRole;
+import com.wiedu.domain.enums.MemberStatus;
+import com.wiedu.dto.study.StudyAccess;
+import com.wiedu.repository.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StudyMemberRepository.findAccess - 쿼리 수 테스트
+ * 권한 확인에 필요한 (스터디, 사용자, 멤버십)을 SQL 한 번으로 가져오는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class StudyMemberRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StudyMemberRepository studyMemberRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private Study study;
+    private User leader;
+    private User outsider;
+
+    @BeforeEach
+    void setUp() {
+        StudyCategory category = entityManager.persist(StudyCategory.builder()
+                .code("dev")
+                .name("개발")
+                .sortOrder(1)
+                .build());
+        leader = entityManager.persist(User.builder().email("leader@example.com").nickname("리더").build());
+        outsider = entityManager.persist(User.builder().email("outsider@example.com").nickname("외부인").build());
+        study = entityManager.persist(Study.builder()
+                .title("스터디")
+                .category(category)
+                .leader(leader)
+                .maxMembers(5)
+                .build());
+        entityManager.persist(StudyMember.builder().study(study).user(leader).role(MemberRole.LEADER).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("스터디, 사용자, 멤버십을 쿼리 한 번으로 조회한다")
+    void findAccessRunsSingleQuery() {
+        StudyAccess access = studyMemberRepository.findAccess(study.getId(), leader.getId()).orElseThrow();
+
+        // 권한 판단에 쓰는 값은 추가 쿼리 없이 접근 가능
+        assertThat(access.study().getTitle()).isEqualTo("스터디");
+        assertThat(access.user().getEmail()).isEqualTo("leader@example.com");
+        assertThat(access.isActiveMember()).isTrue();
+        assertThat(access.isLeader()).isTrue();
+        assertThat(access.membership().getStatus()).isEqualTo(MemberStatus.ACTIVE);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 membership 없이 쿼리 한 번으로 조회한다")
+    void findAccessWithoutMembership() {
+        StudyAccess access = studyMemberRepository.findAccess(study.getId(), outsider.getId()).orElseThrow();
+
+        assertThat(access.membership()).isNull();
+        assertThat(access.isActiveMember()).isFalse();
+        assertThat(access.isLeader()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스터디나 사용자가 없으면 empty")
+    void findAccessMissing() {
+        assertThat(studyMemberRepository.findAccess(study.getId(), -1L)).isEmpty();
+        assertThat(studyMemberRepository.findAccess(-1L, leader.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("개별 조회(스터디, 사용자, 멤버 여부, 리더 확인)는 같은 판단에 쿼리 네 번이 필요하다")
+    void separateLookupsNeedFourQueries() {
+        Study loadedStudy = studyRepository.findById(study.getId()).orElseThrow();
+        User loadedUser = userRepository.findById(leader.getId()).orElseThrow();
+        boolean member = studyMemberRepository.existsByStudyAndUserAndStatus(loadedStudy, loadedUser, MemberStatus.ACTIVE);
+        Optional<StudyMember> membership = studyMemberRepository.findByStudyAndUser(loadedStudy, loadedUser);
+
+        assertThat(member).isTrue();
+        assertThat(membership).map(StudyMember::getRole).contains(MemberRole.LEADER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,89 @@
+package com.wiedu.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimiter - 버킷 확인 순서와 global 버킷 보호 테스트
+ * (충전 주기를 길게 두어 테스트 중에는 토큰이 다시 차지 않음)
+ */
+class RateLimiterTest {
+
+    private static final Duration PERIOD = Duration.ofHours(1);
+
+    private InMemoryRateLimitStore store;
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRateLimitStore();
+        properties = new RateLimitProperties();
+        properties.setLoginPerIp(new RateLimitProperties.Limit(2, PERIOD));
+        properties.setLoginPerEmail(new RateLimitProperties.Limit(100, PERIOD));
+        properties.setEmailPerIp(new RateLimitProperties.Limit(2, PERIOD));
+        properties.setEmailPerEmail(new RateLimitProperties.Limit(1, PERIOD));
+        properties.setLookupPerIp(new RateLimitProperties.Limit(2, PERIOD));
+        properties.setGlobal(new RateLimitProperties.Limit(5, PERIOD));
+        rateLimiter = new RateLimiter(store, properties);
+    }
+
+    @Test
+    @DisplayName("IP별 제한에 걸린 클라이언트는 global 버킷을 소비하지 못한다")
+    void rejectedClientCannotDrainGlobal() {
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.checkLogin("10.0.0.1", "attacker-" + i + "@example.com");
+        }
+
+        // global 5개 중 공격 IP가 허용된 2개만 사용, 다른 사용자는 나머지 3개 사용 가능
+        assertThat(rateLimiter.checkLogin("10.0.0.2", "a@example.com")).isZero();
+        assertThat(rateLimiter.checkEmail("10.0.0.3", "b@example.com")).isZero();
+        assertThat(rateLimiter.checkLookup("10.0.0.4")).isZero();
+        assertThat(rateLimiter.checkLookup("10.0.0.5")).isPositive();
+    }
+
+    @Test
+    @DisplayName("이메일별 제한에 걸린 요청도 global 버킷을 소비하지 않는다")
+    void rejectedEmailDoesNotConsumeGlobal() {
+        assertThat(rateLimiter.checkEmail("10.0.0.1", "victim@example.com")).isZero();
+        assertThat(rateLimiter.checkEmail("10.0.0.2", "Victim@example.com ")).isPositive();
+        assertThat(rateLimiter.checkEmail("10.0.0.3", "victim@example.com")).isPositive();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(rateLimiter.checkLookup("10.0.1." + i)).isZero();
+        }
+        assertThat(rateLimiter.checkLookup("10.0.2.1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("global에서 거부되면 소비한 IP별/이메일별 토큰을 돌려준다")
+    void refundsWhenGlobalRejects() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.checkLookup("10.0.1." + i)).isZero();
+        }
+
+        assertThat(rateLimiter.checkEmail("10.0.0.1", "user@example.com")).isPositive();
+
+        // 반환되었으므로 IP별(용량 2), 이메일별(용량 1) 버킷이 가득 찬 상태
+        assertThat(store.tryConsume("email:ip:10.0.0.1", properties.getEmailPerIp())).isZero();
+        assertThat(store.tryConsume("email:ip:10.0.0.1", properties.getEmailPerIp())).isZero();
+        assertThat(store.tryConsume("email:email:user@example.com", properties.getEmailPerEmail())).isZero();
+    }
+
+    @Test
+    @DisplayName("global 용량은 설정값 그대로 적용된다")
+    void globalCapacityIsExact() {
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (rateLimiter.checkLookup("10.0.1." + i) == 0) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(5);
+    }
+}
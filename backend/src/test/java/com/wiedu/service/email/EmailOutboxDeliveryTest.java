@@ -0,0 +1,240 @@
+package com.wiedu.service.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.wiedu.domain.entity.EmailOutbox;
+import com.wiedu.domain.enums.EmailOutboxStatus;
+import com.wiedu.domain.enums.EmailTemplate;
+import com.wiedu.repository.email.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이메일 대기열 발송 - GreenMail SMTP 서버 대상 테스트
+ * 선점(claim), 배치 발송, 실패 시 재시도 간격(backoff)을 확인
+ */
+class EmailOutboxDeliveryTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private EmailOutboxRepository outboxRepository;
+    private EmailProperties emailProperties;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(EmailOutboxRepository.class);
+        emailProperties = new EmailProperties();
+        emailProperties.getOutbox().setInitialBackoff(Duration.ofSeconds(30));
+        emailProperties.getOutbox().setMaxBackoff(Duration.ofMinutes(1));
+        emailProperties.getOutbox().setMaxAttempts(5);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("선점한 배치를 SMTP로 발송하고 SENT로 기록한다")
+    void deliverBatch() throws Exception {
+        List<EmailOutbox> batch = List.of(
+                claimed(1L, "a@example.com", 1),
+                claimed(2L, "b@example.com", 1),
+                claimed(3L, "c@example.com", 1));
+        when(outboxRepository.findAllById(anyIterable())).thenReturn(batch);
+
+        newWorker(greenMail.getSmtp().getPort()).deliver(batch);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(Arrays.stream(received).map(this::recipient))
+                .containsExactlyInAnyOrder("a@example.com", "b@example.com", "c@example.com");
+        assertThat(received[0].getSubject()).isEqualTo(EmailTemplate.VERIFICATION_CODE.getSubject());
+
+        assertThat(batch).allMatch(item -> item.getStatus() == EmailOutboxStatus.SENT && item.getSentAt() != null);
+        assertThat(meterRegistry.get("email.outbox.deliveries").tag("outcome", "sent").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 실패 시 시도 횟수에 따라 재시도 간격을 늘리고 최대 횟수면 FAILED로 기록한다")
+    void backoffOnFailure() throws IOException {
+        EmailOutbox first = claimed(1L, "a@example.com", 1);
+        EmailOutbox second = claimed(2L, "b@example.com", 2);
+        EmailOutbox capped = claimed(3L, "c@example.com", 4);
+        EmailOutbox last = claimed(4L, "d@example.com", 5);
+        List<EmailOutbox> batch = List.of(first, second, capped, last);
+        when(outboxRepository.findAllById(anyIterable())).thenReturn(batch);
+
+        LocalDateTime before = LocalDateTime.now();
+        newWorker(closedPort()).deliver(batch);
+        LocalDateTime after = LocalDateTime.now();
+
+        assertRetryAfter(first, Duration.ofSeconds(30), before, after);
+        assertRetryAfter(second, Duration.ofSeconds(60), before, after);
+        // 30s * 2^3 = 240s 이지만 maxBackoff(1분)로 제한
+        assertRetryAfter(capped, Duration.ofMinutes(1), before, after);
+
+        assertThat(last.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(last.getLastError()).isNotBlank();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        assertThat(meterRegistry.get("email.outbox.deliveries").tag("outcome", "retry").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("email.outbox.deliveries").tag("outcome", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송 시점이 된 항목을 선점해 워커 수만큼 나누어 발송한다")
+    void dispatchClaimsAndSplitsBatch() {
+        emailProperties.getOutbox().setWorkers(2);
+        List<Long> dueIds = List.of(1L, 2L, 3L);
+        List<EmailOutbox> claimed = List.of(
+                claimed(1L, "a@example.com", 1),
+                claimed(2L, "b@example.com", 1),
+                claimed(3L, "c@example.com", 1));
+        when(outboxRepository.findDueIds(anyList(), any(LocalDateTime.class), any(Pageable.class))).thenReturn(dueIds);
+        when(outboxRepository.claim(eq(dueIds), anyList(), eq(EmailOutboxStatus.SENDING),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(3);
+        when(outboxRepository.findClaimed(eq(dueIds), eq(EmailOutboxStatus.SENDING), any(LocalDateTime.class)))
+                .thenReturn(claimed);
+        when(outboxRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<EmailOutbox> items = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0)
+                    .forEach(id -> claimed.stream().filter(item -> item.getId().equals(id)).forEach(items::add));
+            return items;
+        });
+
+        RecordingWorker worker = new RecordingWorker(greenMail.getSmtp().getPort());
+        new EmailDispatcher(outboxRepository, worker, emailProperties, transactionTemplate).poll();
+
+        verify(outboxRepository).claim(eq(dueIds), anyList(), eq(EmailOutboxStatus.SENDING),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+        assertThat(worker.chunkSizes).containsExactly(2, 1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(claimed).allMatch(item -> item.getStatus() == EmailOutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("커밋 후 발송 스레드가 포화여도 요청은 실패하지 않는다")
+    void wakeUpRejectionIsSwallowed() {
+        EmailDispatcher dispatcher = mock(EmailDispatcher.class);
+        doThrow(new TaskRejectedException("emailExecutor full")).when(dispatcher).wakeUp();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("emailDispatcher", dispatcher);
+        EmailOutboxService outboxService =
+                new EmailOutboxService(outboxRepository, beanFactory.getBeanProvider(EmailDispatcher.class));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            outboxService.enqueue("a@example.com", EmailTemplate.VERIFICATION_CODE, "123456");
+            assertThatCode(() -> TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit))
+                    .doesNotThrowAnyException();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(dispatcher).wakeUp();
+    }
+
+    private EmailDeliveryWorker newWorker(int smtpPort) {
+        return new EmailDeliveryWorker(mailSender(smtpPort), new EmailTemplateRenderer(), outboxRepository,
+                emailProperties, transactionTemplate, meterRegistry);
+    }
+
+    private JavaMailSenderImpl mailSender(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+        mailSender.getJavaMailProperties().put("mail.smtp.timeout", "1000");
+        return mailSender;
+    }
+
+    /**
+     * claim 직후 상태 (SENDING, 시도 횟수 증가)
+     */
+    private static EmailOutbox claimed(Long id, String recipient, int attempts) {
+        EmailOutbox item = new EmailOutbox(recipient, EmailTemplate.VERIFICATION_CODE, "123456");
+        ReflectionTestUtils.setField(item, "id", id);
+        ReflectionTestUtils.setField(item, "status", EmailOutboxStatus.SENDING);
+        ReflectionTestUtils.setField(item, "attempts", attempts);
+        return item;
+    }
+
+    private static void assertRetryAfter(EmailOutbox item, Duration backoff, LocalDateTime before, LocalDateTime after) {
+        assertThat(item.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(item.getNextAttemptAt()).isBetween(before.plus(backoff), after.plus(backoff));
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 프록시 없이 호출되므로 deliver가 동기로 실행됨, 나뉜 배치 크기만 기록
+     */
+    private class RecordingWorker extends EmailDeliveryWorker {
+
+        private final List<Integer> chunkSizes = new ArrayList<>();
+
+        RecordingWorker(int smtpPort) {
+            super(mailSender(smtpPort), new EmailTemplateRenderer(), outboxRepository,
+                    emailProperties, transactionTemplate, meterRegistry);
+        }
+
+        @Override
+        public void deliver(List<EmailOutbox> batch) {
+            chunkSizes.add(batch.size());
+            super.deliver(batch);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.wiedu.service.file;
+
+import com.wiedu.config.S3Config;
+import com.wiedu.service.image.ImageProperties;
+import com.wiedu.service.image.ImageVariants;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3FileStorageService - MinIO 컨테이너 대상 통합 테스트
+ * 저장(단일/멀티파트), 읽기, 파생 파일 포함 삭제, 직접 업로드 URL을 실제 S3 API로 확인
+ * Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3FileStorageServiceTest {
+
+    private static final String BUCKET = "wiedu-test";
+    private static final DataSize PART_SIZE = DataSize.ofMegabytes(5);
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private static S3Client s3Client;
+    private static S3Presigner s3Presigner;
+    private static S3StorageProperties properties;
+
+    private S3FileStorageService storageService;
+
+    @BeforeAll
+    static void setUpBucket() {
+        properties = new S3StorageProperties();
+        properties.setBucket(BUCKET);
+        properties.setRegion("us-east-1");
+        properties.setEndpoint(minio.getS3URL());
+        properties.setPathStyleAccess(true);
+        properties.setAccessKey(minio.getUserName());
+        properties.setSecretKey(minio.getPassword());
+        properties.setPartSize(PART_SIZE);
+
+        S3Config s3Config = new S3Config();
+        s3Client = s3Config.s3Client(properties);
+        s3Presigner = s3Config.s3Presigner(properties);
+        s3Client.createBucket(request -> request.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        storageService = new S3FileStorageService(s3Client, s3Presigner, properties, new ImageProperties(),
+                Duration.ofDays(365));
+        ReflectionTestUtils.setField(storageService, "maxSize", DataSize.ofMegabytes(20).toBytes());
+        ReflectionTestUtils.setField(storageService, "allowedTypes", "image/jpeg,image/png,image/webp");
+    }
+
+    @Test
+    @DisplayName("파트 크기 이하 파일은 한 번에 저장하고 같은 내용으로 읽는다")
+    void storeAndLoad() throws IOException {
+        byte[] content = randomBytes(64 * 1024);
+
+        String fileUrl = storageService.store(jpeg("photo.jpg", content), "gallery/1");
+
+        assertThat(fileUrl).startsWith(minio.getS3URL() + "/" + BUCKET + "/uploads/gallery/1/").endsWith(".jpg");
+        assertThat(storageService.isStored(fileUrl)).isTrue();
+        assertThat(readAll(fileUrl)).isEqualTo(content);
+
+        HeadObjectResponse head = head(fileUrl);
+        assertThat(head.contentType()).isEqualTo("image/jpeg");
+        assertThat(head.cacheControl()).isEqualTo("public, max-age=31536000, immutable");
+    }
+
+    @Test
+    @DisplayName("파트 크기를 넘는 파일은 멀티파트로 나누어 저장한다")
+    void storeMultipart() throws IOException {
+        // 5MB + 5MB + 2MB
+        byte[] content = randomBytes((int) DataSize.ofMegabytes(12).toBytes());
+
+        String fileUrl = storageService.store(jpeg("large.jpg", content), "gallery/1");
+
+        assertThat(readAll(fileUrl)).isEqualTo(content);
+        HeadObjectResponse head = head(fileUrl);
+        assertThat(head.contentLength()).isEqualTo(content.length);
+        // 멀티파트 객체의 ETag는 "{다이제스트}-{파트 수}"
+        assertThat(head.eTag()).endsWith("-3\"");
+
+        ListMultipartUploadsResponse pending = s3Client.listMultipartUploads(request -> request.bucket(BUCKET));
+        assertThat(pending.uploads()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본을 삭제하면 파생 파일도 함께 삭제한다")
+    void deleteWithVariants() throws IOException {
+        String fileUrl = storageService.store(jpeg("photo.jpg", randomBytes(1024)), "gallery/1");
+        String thumbnailUrl = storageService.storeVariant(fileUrl, ImageVariants.THUMBNAIL, "jpg", randomBytes(256));
+        String widthUrl = storageService.storeVariant(fileUrl, ImageVariants.widthVariant(320), "webp", randomBytes(256));
+        assertThat(head(thumbnailUrl).contentType()).isEqualTo("image/jpeg");
+
+        storageService.delete(fileUrl);
+
+        for (String url : new String[]{fileUrl, thumbnailUrl, widthUrl}) {
+            assertThatThrownBy(() -> head(url)).isInstanceOf(NoSuchKeyException.class);
+        }
+        assertThatThrownBy(() -> storageService.load(fileUrl)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("서명된 URL로 버킷에 직접 업로드한다")
+    void directUpload() throws Exception {
+        byte[] content = randomBytes(2048);
+
+        DirectUpload upload = storageService.createDirectUpload("covers", "cover.png", "image/png", content.length);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upload.uploadUrl()))
+                .method(upload.method(), HttpRequest.BodyPublishers.ofByteArray(content));
+        // Content-Length는 HttpClient가 본문 크기로 지정
+        upload.headers().forEach((name, value) -> {
+            if (!name.equalsIgnoreCase("content-length")) {
+                request.header(name, value);
+            }
+        });
+        HttpResponse<Void> response = HttpClient.newHttpClient()
+                .send(request.build(), HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(readAll(upload.fileUrl())).isEqualTo(content);
+        assertThat(head(upload.fileUrl()).contentType()).isEqualTo("image/png");
+    }
+
+    private byte[] readAll(String fileUrl) throws IOException {
+        try (InputStream input = storageService.load(fileUrl)) {
+            return input.readAllBytes();
+        }
+    }
+
+    private HeadObjectResponse head(String fileUrl) {
+        String key = fileUrl.substring((minio.getS3URL() + "/" + BUCKET + "/").length());
+        return s3Client.headObject(request -> request.bucket(BUCKET).key(key));
+    }
+
+    private static MockMultipartFile jpeg(String filename, byte[] content) {
+        return new MockMultipartFile("file", filename, "image/jpeg", content);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
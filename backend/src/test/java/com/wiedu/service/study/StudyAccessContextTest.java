@@ -0,0 +1,148 @@
+package com.wiedu.service.study;
+
+import com.wiedu.domain.entity.Study;
+import com.wiedu.domain.entity.StudyMember;
+import com.wiedu.domain.entity.User;
+import com.wiedu.domain.enums.MemberRole;
+import com.wiedu.dto.study.StudyAccess;
+import com.wiedu.exception.BusinessException;
+import com.wiedu.exception.ErrorCode;
+import com.wiedu.repository.study.StudyMemberRepository;
+import com.wiedu.repository.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudyAccessContext - 요청 단위 캐시 테스트
+ * 한 요청 안에서 여러 서비스가 권한을 확인해도 조회는 한 번만 일어나는지 확인
+ */
+class StudyAccessContextTest {
+
+    private static final Long STUDY_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    private StudyMemberRepository studyMemberRepository;
+    private StudyRepository studyRepository;
+    private StudyAccessContext studyAccessContext;
+
+    @BeforeEach
+    void setUp() {
+        studyMemberRepository = mock(StudyMemberRepository.class);
+        studyRepository = mock(StudyRepository.class);
+        studyAccessContext = new StudyAccessContext(studyMemberRepository, studyRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("한 요청 안의 반복 권한 확인은 조인 쿼리 한 번으로 처리한다")
+    void resolvesOncePerRequest() {
+        StudyAccess access = memberAccess(MemberRole.LEADER);
+        when(studyMemberRepository.findAccess(STUDY_ID, USER_ID)).thenReturn(Optional.of(access));
+        startRequest();
+
+        assertThat(studyAccessContext.requireActiveMember(STUDY_ID, USER_ID)).isSameAs(access);
+        assertThat(studyAccessContext.resolve(STUDY_ID, USER_ID).isLeader()).isTrue();
+        assertThat(studyAccessContext.requireActiveMember(STUDY_ID, USER_ID)).isSameAs(access);
+
+        verify(studyMemberRepository, times(1)).findAccess(STUDY_ID, USER_ID);
+        verify(studyRepository, never()).existsById(STUDY_ID);
+    }
+
+    @Test
+    @DisplayName("요청이 바뀌면 다시 조회한다")
+    void cacheIsScopedToRequest() {
+        when(studyMemberRepository.findAccess(STUDY_ID, USER_ID)).thenReturn(Optional.of(memberAccess(MemberRole.MEMBER)));
+
+        startRequest();
+        studyAccessContext.resolve(STUDY_ID, USER_ID);
+        startRequest();
+        studyAccessContext.resolve(STUDY_ID, USER_ID);
+
+        verify(studyMemberRepository, times(2)).findAccess(STUDY_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("요청 밖(스케줄러, 비동기 작업)에서는 캐시 없이 매번 조회한다")
+    void noCacheOutsideRequest() {
+        when(studyMemberRepository.findAccess(STUDY_ID, USER_ID)).thenReturn(Optional.of(memberAccess(MemberRole.MEMBER)));
+
+        studyAccessContext.resolve(STUDY_ID, USER_ID);
+        studyAccessContext.resolve(STUDY_ID, USER_ID);
+
+        verify(studyMemberRepository, times(2)).findAccess(STUDY_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 조회한다")
+    void evictReloads() {
+        when(studyMemberRepository.findAccess(STUDY_ID, USER_ID)).thenReturn(Optional.of(memberAccess(MemberRole.MEMBER)));
+        startRequest();
+
+        studyAccessContext.resolve(STUDY_ID, USER_ID);
+        studyAccessContext.evict(STUDY_ID, USER_ID);
+        studyAccessContext.resolve(STUDY_ID, USER_ID);
+
+        verify(studyMemberRepository, times(2)).findAccess(STUDY_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 NOT_STUDY_MEMBER")
+    void rejectsNonMember() {
+        when(studyMemberRepository.findAccess(STUDY_ID, USER_ID))
+                .thenReturn(Optional.of(new StudyAccess(mock(Study.class), mock(User.class), null)));
+        startRequest();
+
+        assertErrorCode(ErrorCode.NOT_STUDY_MEMBER);
+    }
+
+    @Test
+    @DisplayName("조회 결과가 없으면 스터디 존재 여부로 STUDY_NOT_FOUND / USER_NOT_FOUND를 구분한다")
+    void distinguishesMissingStudyAndUser() {
+        when(studyMemberRepository.findAccess(STUDY_ID, USER_ID)).thenReturn(Optional.empty());
+
+        when(studyRepository.existsById(STUDY_ID)).thenReturn(false);
+        assertErrorCode(ErrorCode.STUDY_NOT_FOUND);
+
+        when(studyRepository.existsById(STUDY_ID)).thenReturn(true);
+        assertErrorCode(ErrorCode.USER_NOT_FOUND);
+    }
+
+    private void assertErrorCode(ErrorCode errorCode) {
+        assertThatThrownBy(() -> studyAccessContext.requireActiveMember(STUDY_ID, USER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+
+    private static StudyAccess memberAccess(MemberRole role) {
+        StudyMember membership = StudyMember.builder()
+                .study(mock(Study.class))
+                .user(mock(User.class))
+                .role(role)
+                .build();
+        return new StudyAccess(mock(Study.class), mock(User.class), membership);
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -7,6 +7,8 @@ import {
   StudyMemberToReview,
   CreateMemberReviewRequest,
   StudyMemberReview,
+  StudyMemberReviewsResponse,
+  CursorPage,
 } from '../types/review';
 
 export const getLeaderReviews = async (userId: number): Promise<StudyLeaderReviewsResponse> => {
@@ -75,11 +77,11 @@ export const createMemberReview = async (studyId: number, request: CreateMemberR
   );
 };
 
-export const getMemberReviews = async (userId: number): Promise<StudyMemberReview[]> => {
+export const getMemberReviews = async (userId: number, cursor?: number): Promise<StudyMemberReviewsResponse> => {
   return withErrorHandling(
     async () => {
       const client = getAuthClient();
-      const response = await client.get(`/api/users/${userId}/member-reviews`);
+      const response = await client.get(`/api/users/${userId}/member-reviews`, { params: { cursor } });
       return response.data;
     },
     { defaultMessage: '멤버 리뷰를 불러오는데 실패했습니다.' }
@@ -87,11 +89,11 @@ export const getMemberReviews = async (userId: number): Promise<StudyMemberRevie
 };
 
 // 내가 작성한 스터디장 리뷰 목록
-export const getLeaderReviewsWrittenByMe = async (): Promise<StudyLeaderReview[]> => {
+export const getLeaderReviewsWrittenByMe = async (cursor?: number): Promise<CursorPage<StudyLeaderReview>> => {
   return withErrorHandling(
     async () => {
       const client = getAuthClient();
-      const response = await client.get('/api/users/me/reviews/written');
+      const response = await client.get('/api/users/me/reviews/written', { params: { cursor } });
       return response.data;
     },
     { defaultMessage: '작성한 리뷰를 불러오는데 실패했습니다.' }
@@ -99,11 +101,11 @@ export const getLeaderReviewsWrittenByMe = async (): Promise<StudyLeaderReview[]
 };
 
 // 내가 작성한 멤버 리뷰 목록
-export const getMemberReviewsWrittenByMe = async (): Promise<StudyMemberReview[]> => {
+export const getMemberReviewsWrittenByMe = async (cursor?: number): Promise<CursorPage<StudyMemberReview>> => {
   return withErrorHandling(
     async () => {
       const client = getAuthClient();
-      const response = await client.get('/api/users/me/member-reviews/written');
+      const response = await client.get('/api/users/me/member-reviews/written', { params: { cursor } });
       return response.data;
     },
     { defaultMessage: '작성한 멤버 리뷰를 불러오는데 실패했습니다.' }
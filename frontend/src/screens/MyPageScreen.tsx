@@ -152,16 +152,15 @@ export default function MyPageScreen() {
         const [memberRevs, leaderRevsResp, writtenLeader, writtenMember] = await Promise.all([
           getMemberReviews(profileData.id),
           getLeaderReviews(profileData.id),
-          getLeaderReviewsWrittenByMe().catch(() => []),
-          getMemberReviewsWrittenByMe().catch(() => []),
+          getLeaderReviewsWrittenByMe().catch(() => ({ content: [] as StudyLeaderReview[] })),
+          getMemberReviewsWrittenByMe().catch(() => ({ content: [] as StudyMemberReview[] })),
         ]);
 
-        setMemberReviews(memberRevs);
-        const memberCount = memberRevs.length;
-        const memberAvg = memberCount > 0
-          ? memberRevs.reduce((sum, r) => sum + r.rating, 0) / memberCount
-          : null;
-        setMemberReviewStats({ totalCount: memberCount, averageRating: memberAvg });
+        setMemberReviews(memberRevs.reviews ?? []);
+        setMemberReviewStats({
+          totalCount: memberRevs.totalCount ?? 0,
+          averageRating: memberRevs.averageRating ?? null,
+        });
 
         setLeaderReviews(leaderRevsResp.reviews ?? []);
         setLeaderReviewStats({
@@ -169,8 +168,8 @@ export default function MyPageScreen() {
           averageRating: leaderRevsResp.averageRating ?? null,
         });
 
-        setWrittenLeaderReviews(writtenLeader);
-        setWrittenMemberReviews(writtenMember);
+        setWrittenLeaderReviews(writtenLeader.content);
+        setWrittenMemberReviews(writtenMember.content);
       } catch {
         // 리뷰 로드 실패해도 무시
       }
@@ -50,17 +50,20 @@ const getAuthorizationUrl = async (state: string): Promise<string> => {
 };
 
 /**
- * 백엔드에서 토큰 폴링
+ * 백엔드에서 토큰 폴링 (롱 폴링)
+ * 서버가 토큰이 준비될 때까지 응답을 보류하므로, 202를 받으면 바로 다시 요청
  */
 const pollForTokens = async (
   sessionId: string,
-  maxAttempts: number = 60,
-  intervalMs: number = 1000
+  timeoutMs: number = 60000,
+  retryDelayMs: number = 1000
 ): Promise<KakaoLoginResult> => {
   const baseUrl = getBaseURL();
-  const pollUrl = `${baseUrl}/api/auth/kakao/poll/${sessionId}`;
+  const deadline = Date.now() + timeoutMs;
 
-  for (let attempt = 0; attempt < maxAttempts; attempt++) {
+  while (Date.now() < deadline) {
+    const waitSeconds = Math.max(1, Math.min(25, Math.floor((deadline - Date.now()) / 1000)));
+    const pollUrl = `${baseUrl}/api/auth/kakao/poll/${sessionId}?waitSeconds=${waitSeconds}`;
     try {
       const response = await fetch(pollUrl, {
         headers: { 'ngrok-skip-browser-warning': 'true' },
@@ -76,15 +79,15 @@ const pollForTokens = async (
           onboardingCompleted: data.onboardingCompleted,
         };
       } else if (response.status === 202) {
-        // Still pending, continue polling
-        await new Promise((resolve) => setTimeout(resolve, intervalMs));
+        // 서버 대기 시간 초과 - 바로 다시 대기
+        continue;
       } else {
         console.error('[Kakao] Poll error:', response.status);
         return { success: false, error: '카카오 로그인 처리 중 오류가 발생했습니다' };
       }
     } catch (err: any) {
       console.error('[Kakao] Poll request error:', err);
-      await new Promise((resolve) => setTimeout(resolve, intervalMs));
+      await new Promise((resolve) => setTimeout(resolve, retryDelayMs));
     }
   }
 
@@ -187,7 +190,7 @@ export const startKakaoLogin = async (): Promise<KakaoLoginResult> => {
             await new Promise((r) => setTimeout(r, 1000));
 
             if (!resolved) {
-              const pollResult = await pollForTokens(sessionId, 30, 1000); // 30초 동안 폴링
+              const pollResult = await pollForTokens(sessionId, 30000); // 30초 동안 롱 폴링
               if (!resolved) {
                 resolved = true;
                 subscription.remove();
@@ -15,6 +15,10 @@ export interface StudyLeaderReviewsResponse {
   reviews: StudyLeaderReview[];
   averageRating: number | null;
   totalCount: number;
+  ratingDistribution?: Record<number, number>;
+  tagCounts?: Record<string, number>;
+  nextCursor?: number | null;
+  hasNext?: boolean;
 }
 
 export interface CreateReviewRequest {
@@ -60,3 +64,18 @@ export interface StudyMemberReview {
   tags?: string[];
   createdAt: string;
 }
+
+export interface StudyMemberReviewsResponse {
+  reviews: StudyMemberReview[];
+  averageRating: number | null;
+  totalCount: number;
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
+// 커서 기반 페이지 (nextCursor를 cursor 파라미터로 전달)
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: number | null;
+  hasNext: boolean;
+}